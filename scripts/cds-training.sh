@@ -0,0 +1,25 @@
+#!/usr/bin/env bash
+# Builds the AOT processed jar, extracts it and creates an AppCDS archive with a training run.
+# The training run starts the application context and exits on refresh, so the database from
+# docker-compose.yaml must be running.
+#
+# Usage: scripts/cds-training.sh
+# Then:  java -XX:SharedArchiveFile=target/app/application.jsa -Dspring.aot.enabled=true \
+#          -Dspring.profiles.active=fast-startup -jar target/app/product-service-0.0.1.jar
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+APP_DIR=target/app
+JAR_NAME=product-service-0.0.1.jar
+
+./mvnw -B -q -Pfast-startup -DskipTests package
+rm -rf "$APP_DIR"
+java -Djarmode=tools -jar "target/$JAR_NAME" extract --destination "$APP_DIR"
+
+java -XX:ArchiveClassesAtExit="$APP_DIR/application.jsa" \
+  -Dspring.context.exit=onRefresh \
+  -Dspring.aot.enabled=true \
+  -Dspring.profiles.active=fast-startup \
+  -jar "$APP_DIR/$JAR_NAME"
+
+echo "CDS archive written to $APP_DIR/application.jsa"
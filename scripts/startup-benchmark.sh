@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+# Measures time-to-ready: wall clock from JVM launch until /actuator/health/readiness reports UP.
+# Also prints Spring Boot's application.ready.time metric of the last run.
+#
+# Usage: scripts/startup-benchmark.sh [runs] [mode...]
+#   modes: default    - plain jar, default profile
+#          fast       - AOT processed jar with the fast-startup profile
+#          fast-cds   - as fast, plus the AppCDS archive from scripts/cds-training.sh
+# Requires the database from docker-compose.yaml and, for fast modes, scripts/cds-training.sh to have run.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS=${1:-5}
+shift || true
+MODES=("${@:-default fast fast-cds}")
+read -r -a MODES <<< "${MODES[*]}"
+PORT=${PORT:-8080}
+APP_DIR=target/app
+JAR_NAME=product-service-0.0.1.jar
+READY_URL="http://localhost:$PORT/actuator/health/readiness"
+
+command_for() {
+  case "$1" in
+    default)  echo "java -jar target/$JAR_NAME" ;;
+    fast)     echo "java -Dspring.aot.enabled=true -Dspring.profiles.active=fast-startup -jar $APP_DIR/$JAR_NAME" ;;
+    fast-cds) echo "java -XX:SharedArchiveFile=$APP_DIR/application.jsa -Dspring.aot.enabled=true -Dspring.profiles.active=fast-startup -jar $APP_DIR/$JAR_NAME" ;;
+    *) echo "Unknown mode: $1" >&2; exit 1 ;;
+  esac
+}
+
+now_ms() {
+  date +%s%3N
+}
+
+for mode in "${MODES[@]}"; do
+  cmd=$(command_for "$mode")
+  times=()
+  for ((i = 1; i <= RUNS; i++)); do
+    start=$(now_ms)
+    $cmd --server.port="$PORT" > "target/startup-$mode.log" 2>&1 &
+    pid=$!
+    until curl -fs "$READY_URL" 2>/dev/null | grep -q '"UP"'; do
+      if ! kill -0 "$pid" 2>/dev/null; then
+        echo "$mode: application exited, see target/startup-$mode.log" >&2
+        exit 1
+      fi
+      sleep 0.02
+    done
+    times+=($(( $(now_ms) - start )))
+    ready=$(curl -fs "http://localhost:$PORT/actuator/metrics/application.ready.time" \
+      | grep -o '"value":[0-9.E]*' | cut -d: -f2 || true)
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+  done
+  sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+  sum=0
+  for t in "${times[@]}"; do sum=$((sum + t)); done
+  printf '%-9s runs=%d min=%dms median=%dms avg=%dms (application.ready.time=%ss)\n' \
+    "$mode" "$RUNS" "${sorted[0]}" "${sorted[$((RUNS / 2))]}" "$((sum / RUNS))" "${ready:-n/a}"
+done
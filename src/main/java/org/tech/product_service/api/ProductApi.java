@@ -1,19 +1,34 @@
 package org.tech.product_service.api;
 
+import java.io.InputStream;
+
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.tech.product_service.dto.response.CatalogStatsResponse;
+import org.tech.product_service.dto.response.ProductAvailabilityResponse;
+import org.tech.product_service.dto.response.ProductImportResponse;
+import org.tech.product_service.dto.response.ProductLookupResponse;
 import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.dto.request.ProductAvailabilityRequest;
+import org.tech.product_service.dto.request.ProductLookupRequest;
+import org.tech.product_service.dto.request.ProductPatchRequest;
 import org.tech.product_service.dto.request.ProductRequest;
+import org.tech.product_service.idempotency.IdempotencyGuard;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -22,6 +37,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 
 /**
  * REST API interface for managing products.
@@ -46,10 +62,15 @@ public interface ProductApi {
    * <p>
    *   Accepts a ProductRequest object in the request body and returns the created
    *   ProductResponse object along with a 201 Created status code and location header.
+   *   In asynchronous pricing mode a product accepted without a current exchange rate is returned
+   *   with 202 Accepted and a pending USD price; poll the location until it is priced.
    *   Validates the input data and handles potential errors such as invalid input,
    *   server errors, and external service unavailability.
+   *   A request with an {@code Idempotency-Key} header is executed at most once; retries with the same key
+   *   get the original response replayed.
    * </p>
    * @param request {@link ProductRequest}
+   * @param idempotencyKey the optional {@code Idempotency-Key} request header
    * @return ResponseEntity containing the created {@link ProductResponse} and HTTP status code
    */
   @Operation(
@@ -64,6 +85,13 @@ public interface ProductApi {
               mediaType = "application/json",
               schema = @Schema(implementation = ProductResponse.class))
       ),
+      @ApiResponse(
+          responseCode = "202",
+          description = "Product created, USD price pending (asynchronous pricing mode)",
+          content = @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = ProductResponse.class))
+      ),
       @ApiResponse(
           responseCode = "400",
           description = "Invalid input data",
@@ -71,6 +99,20 @@ public interface ProductApi {
               mediaType = "application/problem+json",
               schema = @Schema(implementation = ProblemDetail.class))
       ),
+      @ApiResponse(
+          responseCode = "409",
+          description = "A request with the same Idempotency-Key is still being processed",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      ),
+      @ApiResponse(
+          responseCode = "422",
+          description = "Idempotency-Key was already used for a different request",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      ),
       @ApiResponse(
           responseCode = "500",
           description = "Internal server error",
@@ -89,17 +131,24 @@ public interface ProductApi {
   @PostMapping
   ResponseEntity<ProductResponse> createProduct(
       @Parameter(description = "Product details for creation", required = true)
-      @Validated @RequestBody ProductRequest request);
+      @Validated @RequestBody ProductRequest request,
+      @Parameter(description = "Client generated key that makes retries of this request safe",
+          example = "6f1c2f0e-8a7b-4d1e-9a57-3c0b8f6f2d11")
+      @RequestHeader(value = IdempotencyGuard.KEY_HEADER, required = false) String idempotencyKey,
+      @Parameter(hidden = true) HttpServletRequest httpRequest);
 
   /**
    * API endpoint for retrieving a product by its ID
    * <p>
    *   Accepts a product ID as path variable and returns the ProductResponse object.
+   *   When the response cache is enabled the encoded JSON is served from off-heap memory, gzip encoded
+   *   if the client accepts it.
    *   Handles potential errors such as invalid input,
    *   server errors.
    * </p>
    * @param id the unique identifier of the product to retrieve
-   * @return ResponseEntity containing the {@link ProductResponse}
+   * @param acceptEncoding the {@code Accept-Encoding} request header
+   * @return ResponseEntity containing the {@link ProductResponse} or its encoded bytes
    */
   @Operation(
     summary = "Get product by ID",
@@ -136,9 +185,52 @@ public interface ProductApi {
       )
   })
   @GetMapping("/{id}")
-  ResponseEntity<ProductResponse> getProductById(
+  ResponseEntity<?> getProductById(
       @Parameter(description = "Product ID", required = true, example = "1")
-      @PathVariable Long id);
+      @PathVariable Long id,
+      @Parameter(hidden = true)
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding);
+
+  /**
+   * API endpoint for retrieving a product by its unique code
+   * <p>
+   *   Accepts the 10 character product code as path variable and returns the ProductResponse object.
+   *   Repeated lookups of the same code are served from an in-memory cache.
+   * </p>
+   * @param code the unique code of the product to retrieve
+   * @return ResponseEntity containing the {@link ProductResponse}
+   */
+  @Operation(
+    summary = "Get product by code",
+    description = "Retrieves a product by its unique 10 character code"
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Successfully retrieved product",
+          content = @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = ProductResponse.class))
+      ),
+      @ApiResponse(
+          responseCode = "404",
+          description = "Product not found",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      ),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Internal server error",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      )
+  })
+  @GetMapping("/code/{code}")
+  ResponseEntity<ProductResponse> getProductByCode(
+      @Parameter(description = "Product code", required = true, example = "ABC1234567")
+      @PathVariable String code);
 
   /**
    * API endpoint for retrieving a paginated list of products
@@ -171,6 +263,7 @@ public interface ProductApi {
                                            "name": "Example product",
                                            "priceEur": 99.99,
                                            "priceUsd": 108.50,
+                                           "priceStatus": "PRICED",
                                            "isAvailable": true,
                                            "createdAt": "2025-10-05T00:00:00",
                                            "updatedAt": "2025-10-05T00:00:00"
@@ -224,4 +317,275 @@ public interface ProductApi {
       @ParameterObject
       @PageableDefault(size = 50, sort = "id")
       Pageable pageable);
+
+  /**
+   * API endpoint for partially updating a product
+   * <p>
+   *   Changes only the fields present in the request body; the product code cannot be changed.
+   *   Only the changed columns are written. A changed EUR price recalculates the USD price.
+   *   When the request carries the {@code version} read earlier, the update fails with 409 Conflict
+   *   if the product has been modified in the meantime.
+   * </p>
+   * @param id the unique identifier of the product to update
+   * @param request {@link ProductPatchRequest}
+   * @return ResponseEntity containing the updated {@link ProductResponse}
+   */
+  @Operation(
+    summary = "Partially update a product",
+    description = "Updates the given fields of a product with optimistic locking on its version"
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Product updated successfully",
+          content = @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = ProductResponse.class))
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Invalid input data",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      ),
+      @ApiResponse(
+          responseCode = "404",
+          description = "Product not found",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      ),
+      @ApiResponse(
+          responseCode = "409",
+          description = "Product was modified concurrently",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      ),
+      @ApiResponse(
+          responseCode = "503",
+          description = "External service unavailable",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      )
+  })
+  @PatchMapping("/{id}")
+  ResponseEntity<ProductResponse> patchProduct(
+      @Parameter(description = "Product ID", required = true, example = "1")
+      @PathVariable Long id,
+      @Parameter(description = "Product fields to change", required = true)
+      @Validated @RequestBody ProductPatchRequest request);
+
+  /**
+   * API endpoint for setting the availability of many products at once
+   * <p>
+   *   Sets the availability of up to {@value ProductAvailabilityRequest#MAX_CODES} products by code with
+   *   a single update statement. Products that already have the requested availability and unknown codes
+   *   are left untouched.
+   * </p>
+   * @param request {@link ProductAvailabilityRequest}
+   * @return ResponseEntity containing the {@link ProductAvailabilityResponse}
+   */
+  @Operation(
+    summary = "Set availability of products",
+    description = "Sets the availability of a list of products by code in one statement"
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Availability updated",
+          content = @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = ProductAvailabilityResponse.class))
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Invalid input data",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      ),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Internal server error",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      )
+  })
+  @PostMapping("/availability")
+  ResponseEntity<ProductAvailabilityResponse> updateAvailability(
+      @Parameter(description = "Product codes and the availability to set", required = true)
+      @Validated @RequestBody ProductAvailabilityRequest request);
+
+  /**
+   * API endpoint for fetching many products by ID in one call
+   * <p>
+   *   Resolves up to {@value ProductLookupRequest#MAX_IDS} product IDs at once, from the second-level cache
+   *   where possible and with chunked {@code IN} queries otherwise. Products are returned in the order of the
+   *   requested IDs; IDs without a product are listed in {@code missingIds} instead of failing the request.
+   * </p>
+   * @param request {@link ProductLookupRequest}
+   * @return ResponseEntity containing the {@link ProductLookupResponse}
+   */
+  @Operation(
+    summary = "Get products by IDs",
+    description = "Retrieves many products by their unique identifiers in one call"
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Found products and missing IDs",
+          content = @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = ProductLookupResponse.class))
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Invalid input data",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      ),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Internal server error",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      )
+  })
+  @PostMapping("/lookup")
+  ResponseEntity<ProductLookupResponse> lookupProducts(
+      @Parameter(description = "IDs of the products to fetch", required = true)
+      @Validated @RequestBody ProductLookupRequest request);
+
+  /**
+   * API endpoint for statistics over the whole catalog
+   * <p>
+   *   Returns product counts, availability and the EUR and USD price distributions. The statistics are computed
+   *   from an in-memory columnar snapshot of the catalog, not from a database query, and may lag behind recent
+   *   writes by up to {@code product.stats.max-staleness}.
+   * </p>
+   * @return ResponseEntity containing the {@link CatalogStatsResponse}
+   */
+  @Operation(
+    summary = "Get catalog statistics",
+    description = "Returns counts, availability ratio and price distributions of all products"
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Catalog statistics",
+          content = @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = CatalogStatsResponse.class))
+      ),
+      @ApiResponse(
+          responseCode = "503",
+          description = "Catalog snapshot is not loaded yet or disabled",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      )
+  })
+  @GetMapping("/stats")
+  ResponseEntity<CatalogStatsResponse> getCatalogStats();
+
+  /**
+   * API endpoint for bulk importing products from a CSV file
+   * <p>
+   *   Streams the request body without buffering it. The first line must be a header with the
+   *   columns {@code name,code,priceEur,isAvailable}. Each row is validated like a product creation
+   *   request, priced with a single exchange rate and merged into the catalog by product code
+   *   (existing codes are updated). Invalid rows are skipped and reported in the response.
+   * </p>
+   * @param csv CSV file content
+   * @return ResponseEntity containing the {@link ProductImportResponse}
+   */
+  @Operation(
+    summary = "Import products from CSV",
+    description = "Bulk inserts or updates products by code from a CSV file and reports rejected rows",
+    requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+        required = true,
+        content = @Content(
+            mediaType = "text/csv",
+            schema = @Schema(type = "string",
+                             example = "name,code,priceEur,isAvailable\nLaptop,ABC1234567,999.99,true")))
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Import completed",
+          content = @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = ProductImportResponse.class))
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Missing or invalid CSV header",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      ),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Internal server error",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      ),
+      @ApiResponse(
+          responseCode = "503",
+          description = "External service unavailable",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      )
+  })
+  @PostMapping(value = "/import", consumes = "text/csv")
+  ResponseEntity<ProductImportResponse> importProducts(@Parameter(hidden = true) InputStream csv);
+
+  /**
+   * API endpoint for streaming product changes as Server-Sent Events
+   * <p>
+   *   Pushes {@code created}, {@code updated}, {@code imported} and {@code availability_changed} events once the change is committed.
+   *   Every event carries an ID; a client that reconnects with the {@code Last-Event-ID} header receives
+   *   the events it missed while they are still held in memory by the same instance. A client that cannot keep up receives a
+   *   {@code dropped} event with the ID to resume from and is disconnected; a {@code reset} event means
+   *   missed events are no longer available and the catalog should be re-read.
+   * </p>
+   * <p>
+   *   The stream only carries changes made through the instance serving it. With several instances behind a
+   *   load balancer, changes made on another instance are not delivered; consumers that need every change should
+   *   read the outbox publisher's feed instead.
+   * </p>
+   * @param lastEventId ID of the last event received before reconnecting
+   * @return the event stream
+   */
+  @Operation(
+    summary = "Stream product changes",
+    description = "Server-Sent Events feed of committed product changes with Last-Event-ID resume. Only changes "
+        + "made through the instance serving the stream are delivered."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "Event stream opened",
+          content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+      ),
+      @ApiResponse(
+          responseCode = "503",
+          description = "Too many subscribers",
+          content = @Content(
+              mediaType = "application/problem+json",
+              schema = @Schema(implementation = ProblemDetail.class))
+      )
+  })
+  @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  SseEmitter streamProductChanges(
+      @Parameter(description = "ID of the last received event", example = "1x4k9q2m7bz3a-42")
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId);
 }
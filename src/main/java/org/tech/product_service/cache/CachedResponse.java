@@ -0,0 +1,15 @@
+package org.tech.product_service.cache;
+
+/**
+ * Pre-encoded response body copied out of the {@link OffHeapResponseStore}.
+ * <p>
+ *   The buffer is reused by the request thread, so the body must be written before the thread serves
+ *   another request, which {@link CachedResponseHttpMessageConverter} does.
+ * </p>
+ * @param buffer buffer holding the body
+ * @param length number of body bytes in the buffer
+ * @param gzip whether the body is gzip encoded
+ * @author Josip Begic
+ */
+public record CachedResponse(byte[] buffer, int length, boolean gzip) {
+}
@@ -0,0 +1,45 @@
+package org.tech.product_service.cache;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Writes a {@link CachedResponse} body as is, without copying it into a new array.
+ * @author Josip Begic
+ */
+public class CachedResponseHttpMessageConverter extends AbstractHttpMessageConverter<CachedResponse> {
+
+  public CachedResponseHttpMessageConverter() {
+    super(MediaType.APPLICATION_JSON);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return CachedResponse.class == clazz;
+  }
+
+  @Override
+  protected boolean canRead(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected CachedResponse readInternal(Class<? extends CachedResponse> clazz, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("Cached responses cannot be read", inputMessage);
+  }
+
+  @Override
+  protected Long getContentLength(CachedResponse response, MediaType contentType) {
+    return (long) response.length();
+  }
+
+  @Override
+  protected void writeInternal(CachedResponse response, HttpOutputMessage outputMessage) throws IOException {
+    outputMessage.getBody().write(response.buffer(), 0, response.length());
+  }
+}
@@ -0,0 +1,46 @@
+package org.tech.product_service.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.tech.product_service.event.ProductChangedEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Global version of the product catalog, incremented after every committed product write.
+ * <p>
+ *   Cache keys that include the version become unreachable as soon as it changes, so stale entries never
+ *   have to be found and evicted; they age out of their size-bounded cache. The version is per instance:
+ *   writes made through other instances are not seen, so caches keyed by it still expire entries after a short
+ *   time-to-live.
+ * </p>
+ * @see ProductPageKeyGenerator
+ * @author Josip Begic
+ */
+@Component
+public class CatalogVersion {
+
+  private final AtomicLong version = new AtomicLong();
+
+  public CatalogVersion(MeterRegistry meterRegistry) {
+    Gauge.builder("product.catalog.version", version, AtomicLong::get)
+        .description("Product catalog version, incremented on every product write")
+        .register(meterRegistry);
+  }
+
+  public long current() {
+    return version.get();
+  }
+
+  /**
+   * Increments the version once a product change is committed.
+   * @param event the product change
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    version.incrementAndGet();
+  }
+}
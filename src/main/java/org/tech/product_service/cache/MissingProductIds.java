@@ -0,0 +1,114 @@
+package org.tech.product_service.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.tech.product_service.config.ProductCacheProperties;
+import org.tech.product_service.datasource.ReplicaRoutingContext;
+import org.tech.product_service.event.ProductChangedEvent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Negative cache of product IDs that were recently looked up and not found.
+ * <p>
+ *   Lookups of deleted or made-up IDs miss the second-level cache and reach the database every time. Remembering
+ *   them for {@code product.cache.missing-id-ttl} turns a flood of such requests into in-memory lookups. A created
+ *   product removes its ID after commit and CSV imports clear the cache, so new products are visible at once on
+ *   this instance.
+ * </p>
+ * <p>
+ *   Only IDs below the highest ID seen so far are remembered: products are never deleted, so such an ID stays
+ *   missing, while an ID above it may be the next one created. A {@link #stamp()} taken before the lookup and
+ *   passed to {@link #markMissing} rejects a miss that raced with a create or import committed in the meantime.
+ *   Misses read from a replica are not remembered, since the replica may not have the product yet.
+ * </p>
+ * <p>
+ *   The cache is local to this instance. A product created on another instance, or one whose ID was allocated
+ *   before a higher ID but committed after it, can still be answered with {@code 404} here until its entry
+ *   expires, so {@code missing-id-ttl} bounds that staleness and is kept short.
+ * </p>
+ * @author Josip Begic
+ */
+@Component
+public class MissingProductIds {
+
+  static final String CACHE_NAME = "missingProductIds";
+
+  private final Cache<Long, Boolean> cache;
+  private final AtomicLong generation = new AtomicLong();
+  private final AtomicLong highestKnownId = new AtomicLong();
+
+  public MissingProductIds(ProductCacheProperties properties, MeterRegistry meterRegistry) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(properties.getMissingIdMaxSize())
+        .expireAfterWrite(properties.getMissingIdTtl())
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  public boolean isMissing(Long id) {
+    return cache.getIfPresent(id) != null;
+  }
+
+  /**
+   * Returns a stamp to pass to {@link #markMissing} for a lookup about to run.
+   * @return the number of creates and imports seen so far
+   */
+  public long stamp() {
+    return generation.get();
+  }
+
+  /**
+   * Remembers an ID that was not found, unless it is above the highest known ID, a product was created or
+   * imported since the stamp was taken, or the lookup was served by a replica.
+   * @param id the ID that was not found
+   * @param stamp stamp taken with {@link #stamp()} before the lookup
+   */
+  public void markMissing(Long id, long stamp) {
+    if (id > highestKnownId.get() || generation.get() != stamp || ReplicaRoutingContext.isReplicaRead()) {
+      return;
+    }
+    cache.put(id, Boolean.TRUE);
+    if (generation.get() != stamp) {
+      // A create committed between the check and the put may already have invalidated the ID.
+      cache.invalidate(id);
+    }
+  }
+
+  /**
+   * Records an ID that exists, raising the bound below which misses are remembered.
+   * @param id the ID of a found product
+   */
+  public void markExisting(Long id) {
+    highestKnownId.accumulateAndGet(id, Math::max);
+  }
+
+  /**
+   * Forgets IDs that may exist now once a product change is committed.
+   * @param event the product change
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    switch (event.type()) {
+      case CREATED -> {
+        generation.incrementAndGet();
+        markExisting(event.product().getId());
+        cache.invalidate(event.product().getId());
+      }
+      case IMPORTED -> {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+      }
+      default -> {
+        // Updates never bring a missing ID back.
+      }
+    }
+  }
+}
@@ -0,0 +1,299 @@
+package org.tech.product_service.cache;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Off-heap store of pre-encoded responses keyed by a {@code long}, with a plain and a gzip variant per entry.
+ * <p>
+ *   Memory is a set of direct {@link ByteBuffer} slabs cut into fixed-size slots, so a cache of several GB
+ *   adds no objects for the garbage collector to trace. Slots are grouped into sets of {@code ways} slots; a
+ *   key can only live in the set its hash selects, so lookups scan a handful of slots instead of consulting
+ *   an on-heap index, and a full set evicts with the CLOCK algorithm (a referenced slot gets a second chance).
+ * </p>
+ * <p>
+ *   Reads are lock-free: every slot has a sequence number that is odd while the slot is being written, and a
+ *   reader copies the bytes and then re-checks the sequence number, treating any concurrent change as a miss.
+ *   Writes and invalidations lock only the affected set. {@link #stamp(long)} taken before loading a value
+ *   and passed to {@link #put} rejects values loaded before an invalidation of the same set or of the whole
+ *   store. Every entry records when it was written and is treated as a miss once it is older than the TTL,
+ *   which bounds how long a change made without an invalidation, e.g. by another instance, stays visible.
+ * </p>
+ * <pre>
+ * slot layout: | key (8) | written at (8) | plain length (4) | gzip length (4) | plain bytes | gzip bytes |
+ * </pre>
+ * @author Josip Begic
+ */
+public class OffHeapResponseStore {
+
+  static final int HEADER_SIZE = 24;
+  static final int MAX_WAYS = 64;
+  private static final long EMPTY = Long.MIN_VALUE;
+
+  private final ByteBuffer[] slabs;
+  private final int slotsPerSlab;
+  private final int slotSize;
+  private final int ways;
+  private final int sets;
+  private final long ttlNanos;
+  private final LongSupplier nanoClock;
+
+  private final long[] keys;
+  private final int[] epochs;
+  private final byte[] referenced;
+  private final byte[] hands;
+  private final AtomicLongArray sequences;
+  private final AtomicIntegerArray setGenerations;
+  private final Object[] setLocks;
+  private volatile int epoch;
+
+  private final AtomicInteger entries = new AtomicInteger();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Allocates the off-heap slabs.
+   * @param capacityBytes total off-heap memory
+   * @param slabSize size of one direct buffer, at most 2 GB
+   * @param slotSize size of one entry including its {@value #HEADER_SIZE} byte header
+   * @param ways slots per set, at most {@value #MAX_WAYS}
+   * @param ttl how long an entry is served after it was written
+   */
+  public OffHeapResponseStore(long capacityBytes, int slabSize, int slotSize, int ways, Duration ttl) {
+    this(capacityBytes, slabSize, slotSize, ways, ttl, System::nanoTime);
+  }
+
+  OffHeapResponseStore(long capacityBytes, int slabSize, int slotSize, int ways, Duration ttl,
+      LongSupplier nanoClock) {
+    if (slotSize <= HEADER_SIZE || slabSize < slotSize || ways < 1 || ways > MAX_WAYS) {
+      throw new IllegalArgumentException("Invalid off-heap store geometry");
+    }
+    if (ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("Off-heap store TTL must be positive");
+    }
+    this.ttlNanos = ttl.toNanos();
+    this.nanoClock = nanoClock;
+    this.slotSize = slotSize;
+    this.ways = ways;
+    this.slotsPerSlab = slabSize / slotSize;
+    long requestedSlots = Math.max(ways, capacityBytes / slotSize);
+    this.sets = (int) Math.min(Integer.MAX_VALUE / ways, requestedSlots / ways);
+    int slots = sets * ways;
+    this.slabs = new ByteBuffer[(slots + slotsPerSlab - 1) / slotsPerSlab];
+    for (int i = 0; i < slabs.length; i++) {
+      int slabSlots = Math.min(slotsPerSlab, slots - i * slotsPerSlab);
+      slabs[i] = ByteBuffer.allocateDirect(slabSlots * slotSize);
+    }
+    this.keys = new long[slots];
+    Arrays.fill(keys, EMPTY);
+    this.epochs = new int[slots];
+    this.referenced = new byte[slots];
+    this.hands = new byte[sets];
+    this.sequences = new AtomicLongArray(slots);
+    this.setGenerations = new AtomicIntegerArray(sets);
+    this.setLocks = new Object[Math.min(sets, 4096)];
+    for (int i = 0; i < setLocks.length; i++) {
+      setLocks[i] = new Object();
+    }
+  }
+
+  /**
+   * Returns a stamp to pass to {@link #put} for a value about to be loaded.
+   * @param key the key
+   * @return the invalidation state of the key's set
+   */
+  public long stamp(long key) {
+    return ((long) epoch << 32) | (setGenerations.get(setOf(key)) & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Copies the plain or gzip variant of an entry into the target buffer.
+   * @param key the key
+   * @param gzip whether to read the gzip variant
+   * @param target buffer of at least {@link #maxEntrySize()} bytes
+   * @return number of bytes copied, or {@code -1} on a miss or an expired entry
+   */
+  public int read(long key, boolean gzip, byte[] target) {
+    int base = setOf(key) * ways;
+    int currentEpoch = epoch;
+    long now = nanoClock.getAsLong();
+    for (int slot = base; slot < base + ways; slot++) {
+      if (keys[slot] != key) {
+        continue;
+      }
+      long sequence = sequences.get(slot);
+      if ((sequence & 1) != 0 || epochs[slot] != currentEpoch) {
+        return -1;
+      }
+      ByteBuffer slab = slabs[slot / slotsPerSlab];
+      int offset = (slot % slotsPerSlab) * slotSize;
+      long storedKey = slab.getLong(offset);
+      long writtenAt = slab.getLong(offset + 8);
+      int plainLength = slab.getInt(offset + 16);
+      int gzipLength = slab.getInt(offset + 20);
+      int length = gzip ? gzipLength : plainLength;
+      boolean valid = storedKey == key && now - writtenAt < ttlNanos && plainLength >= 0 && gzipLength >= 0
+          && plainLength + gzipLength <= slotSize - HEADER_SIZE && length > 0;
+      if (valid) {
+        slab.get(offset + HEADER_SIZE + (gzip ? plainLength : 0), target, 0, length);
+      }
+      VarHandle.acquireFence();
+      if (!valid || sequences.get(slot) != sequence) {
+        return -1;
+      }
+      referenced[slot] = 1;
+      return length;
+    }
+    return -1;
+  }
+
+  /**
+   * Stores an entry unless its set or the whole store was invalidated after the stamp was taken or it does
+   * not fit a slot.
+   * @param key the key
+   * @param stamp stamp taken with {@link #stamp(long)} before the value was loaded
+   * @param plain plain variant
+   * @param gzip gzip variant, may be empty if not needed
+   * @return {@code true} if stored
+   */
+  public boolean put(long key, long stamp, byte[] plain, byte[] gzip) {
+    if (key == EMPTY || plain.length == 0 || HEADER_SIZE + plain.length + gzip.length > slotSize) {
+      return false;
+    }
+    int set = setOf(key);
+    // The epoch of the stamp, not the current one: an entry written after a concurrent invalidateAll()
+    // then belongs to the old epoch and is never read.
+    int currentEpoch = (int) (stamp >>> 32);
+    synchronized (lockOf(set)) {
+      if (currentEpoch != epoch || stamp(key) != stamp) {
+        return false;
+      }
+      int slot = findSlot(set, key, currentEpoch);
+      if (keys[slot] != EMPTY && epochs[slot] == currentEpoch) {
+        if (keys[slot] != key) {
+          evictions.increment();
+        }
+      } else {
+        entries.incrementAndGet();
+      }
+      sequences.incrementAndGet(slot);
+      VarHandle.storeStoreFence();
+      keys[slot] = key;
+      epochs[slot] = currentEpoch;
+      ByteBuffer slab = slabs[slot / slotsPerSlab];
+      int offset = (slot % slotsPerSlab) * slotSize;
+      slab.putLong(offset, key);
+      slab.putLong(offset + 8, nanoClock.getAsLong());
+      slab.putInt(offset + 16, plain.length);
+      slab.putInt(offset + 20, gzip.length);
+      slab.put(offset + HEADER_SIZE, plain);
+      slab.put(offset + HEADER_SIZE + plain.length, gzip);
+      referenced[slot] = 0;
+      sequences.incrementAndGet(slot);
+      return true;
+    }
+  }
+
+  /**
+   * Removes an entry and rejects in-flight puts of its set.
+   * @param key the key
+   */
+  public void invalidate(long key) {
+    int set = setOf(key);
+    synchronized (lockOf(set)) {
+      setGenerations.incrementAndGet(set);
+      int base = set * ways;
+      for (int slot = base; slot < base + ways; slot++) {
+        if (keys[slot] == key) {
+          sequences.incrementAndGet(slot);
+          VarHandle.storeStoreFence();
+          if (epochs[slot] == epoch) {
+            entries.decrementAndGet();
+          }
+          keys[slot] = EMPTY;
+          sequences.incrementAndGet(slot);
+        }
+      }
+    }
+  }
+
+  /**
+   * Removes all entries in constant time by starting a new epoch; slots of older epochs count as free.
+   */
+  public synchronized void invalidateAll() {
+    epoch++;
+    entries.set(0);
+  }
+
+  /**
+   * @return the largest plain plus gzip size that fits a slot
+   */
+  public int maxEntrySize() {
+    return slotSize - HEADER_SIZE;
+  }
+
+  public int getCapacity() {
+    return keys.length;
+  }
+
+  public int getEntryCount() {
+    return entries.get();
+  }
+
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  public long getOffHeapBytes() {
+    long bytes = 0;
+    for (ByteBuffer slab : slabs) {
+      bytes += slab.capacity();
+    }
+    return bytes;
+  }
+
+  /**
+   * Finds the slot for a key in its set: the key's own slot, a free slot, or a CLOCK victim.
+   */
+  private int findSlot(int set, long key, int currentEpoch) {
+    int base = set * ways;
+    int free = -1;
+    for (int slot = base; slot < base + ways; slot++) {
+      boolean live = keys[slot] != EMPTY && epochs[slot] == currentEpoch;
+      if (live && keys[slot] == key) {
+        return slot;
+      }
+      if (!live && free < 0) {
+        free = slot;
+      }
+    }
+    if (free >= 0) {
+      return free;
+    }
+    int hand = hands[set] & 0xFF;
+    while (true) {
+      int slot = base + hand;
+      hand = (hand + 1) % ways;
+      if (referenced[slot] == 0) {
+        hands[set] = (byte) hand;
+        return slot;
+      }
+      referenced[slot] = 0;
+    }
+  }
+
+  private int setOf(long key) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) Long.remainderUnsigned(hash ^ (hash >>> 32), sets);
+  }
+
+  private Object lockOf(int set) {
+    return setLocks[set % setLocks.length];
+  }
+}
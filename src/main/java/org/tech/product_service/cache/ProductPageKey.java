@@ -0,0 +1,12 @@
+package org.tech.product_service.cache;
+
+/**
+ * Cache key of a product listing page.
+ * @param catalogVersion catalog version the page was read at
+ * @param page zero-based page number
+ * @param size page size
+ * @param sort normalized sort, e.g. {@code id: ASC}
+ * @author Josip Begic
+ */
+public record ProductPageKey(long catalogVersion, int page, int size, String sort) {
+}
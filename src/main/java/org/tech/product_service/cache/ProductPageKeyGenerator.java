@@ -0,0 +1,53 @@
+package org.tech.product_service.cache;
+
+import java.lang.reflect.Method;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.tech.product_service.config.ProductCacheProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Generates {@link ProductPageKey}s for the product listing page cache from the {@link Pageable} argument and
+ * the current {@link CatalogVersion}.
+ * <p>
+ *   The version is read before the page is loaded, so a page read concurrently with a write is stored under
+ *   the old version and never served after the write.
+ * </p>
+ * @author Josip Begic
+ */
+@Component(ProductPageKeyGenerator.BEAN_NAME)
+@RequiredArgsConstructor
+public class ProductPageKeyGenerator implements KeyGenerator {
+
+  public static final String BEAN_NAME = "productPageKeyGenerator";
+
+  private final CatalogVersion catalogVersion;
+  private final ProductCacheProperties productCacheProperties;
+
+  @Override
+  public Object generate(Object target, Method method, Object... params) {
+    for (Object param : params) {
+      if (param instanceof Pageable pageable) {
+        return key(pageable);
+      }
+    }
+    throw new IllegalArgumentException("No Pageable argument on " + method);
+  }
+
+  /**
+   * Whether a listing page is cached: only the leading pages, where most traffic goes.
+   * @param pageable the requested page
+   * @return {@code true} if the page is cached
+   */
+  public boolean isCacheable(Pageable pageable) {
+    return pageable.isPaged() && pageable.getPageNumber() < productCacheProperties.getQueryCachedPages();
+  }
+
+  ProductPageKey key(Pageable pageable) {
+    return new ProductPageKey(catalogVersion.current(), pageable.getPageNumber(), pageable.getPageSize(),
+        pageable.getSort().toString());
+  }
+}
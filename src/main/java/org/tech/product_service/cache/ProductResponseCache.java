@@ -0,0 +1,138 @@
+package org.tech.product_service.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.event.ProductChangedEvent;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of encoded {@code GET /product/{id}} response bodies, JSON and gzip, held off-heap.
+ * <p>
+ *   A hit copies the bytes into a buffer reused by the request thread, so it does not load the entity,
+ *   build a DTO or serialize anything. A miss loads the product, encodes it once in both variants and
+ *   stores them. Entries are invalidated after the transaction that changed the product commits; a value
+ *   loaded before that invalidation is not stored. Changes this instance is not notified of, e.g. those
+ *   committed by another instance, are visible once the entry outlives {@code product.response-cache.ttl}.
+ * </p>
+ * @see OffHeapResponseStore
+ * @author Josip Begic
+ */
+@Slf4j
+public class ProductResponseCache {
+
+  private final OffHeapResponseStore store;
+  private final ObjectMapper objectMapper;
+  private final boolean gzipEnabled;
+  private final ThreadLocal<byte[]> buffers;
+  private final Counter hits;
+  private final Counter misses;
+
+  /**
+   * @param store off-heap store, or {@code null} when the cache is disabled
+   * @param objectMapper mapper used to encode responses, the same as for regular responses
+   * @param gzipEnabled whether to keep a gzip variant
+   * @param meterRegistry registry for cache metrics
+   */
+  public ProductResponseCache(OffHeapResponseStore store, ObjectMapper objectMapper, boolean gzipEnabled,
+      MeterRegistry meterRegistry) {
+    this.store = store;
+    this.objectMapper = objectMapper;
+    this.gzipEnabled = gzipEnabled;
+    this.buffers = store == null ? null : ThreadLocal.withInitial(() -> new byte[store.maxEntrySize()]);
+    this.hits = Counter.builder("product.response.cache.requests").tag("result", "hit")
+        .description("Product response cache lookups").register(meterRegistry);
+    this.misses = Counter.builder("product.response.cache.requests").tag("result", "miss")
+        .description("Product response cache lookups").register(meterRegistry);
+    if (store != null) {
+      Gauge.builder("product.response.cache.entries", store, OffHeapResponseStore::getEntryCount)
+          .description("Cached product responses").register(meterRegistry);
+      Gauge.builder("product.response.cache.off.heap", store, OffHeapResponseStore::getOffHeapBytes)
+          .baseUnit("bytes").description("Off-heap memory of the product response cache").register(meterRegistry);
+      FunctionCounter.builder("product.response.cache.evictions", store, OffHeapResponseStore::getEvictions)
+          .description("Product responses evicted to make room").register(meterRegistry);
+    }
+  }
+
+  public boolean isEnabled() {
+    return store != null;
+  }
+
+  public boolean isGzipEnabled() {
+    return gzipEnabled;
+  }
+
+  /**
+   * Returns the encoded response for a product, loading and caching it on a miss.
+   * @param id product ID
+   * @param gzip whether the client accepts gzip; ignored when the gzip variant is disabled
+   * @param loader loads the product on a miss
+   * @return the encoded response
+   */
+  public CachedResponse get(long id, boolean gzip, Supplier<ProductResponse> loader) {
+    boolean useGzip = gzip && gzipEnabled;
+    byte[] buffer = buffers.get();
+    int length = store.read(id, useGzip, buffer);
+    if (length >= 0) {
+      hits.increment();
+      return new CachedResponse(buffer, length, useGzip);
+    }
+    misses.increment();
+    long stamp = store.stamp(id);
+    byte[] json = encode(loader.get());
+    byte[] gzipped = gzipEnabled ? gzip(json) : new byte[0];
+    if (!store.put(id, stamp, json, gzipped)) {
+      log.debug("Response of product with ID: {} not cached ({} bytes).", id, json.length + gzipped.length);
+    }
+    byte[] body = useGzip ? gzipped : json;
+    return new CachedResponse(body, body.length, useGzip);
+  }
+
+  /**
+   * Invalidates cached responses of changed products once the change is committed.
+   * @param event the product change
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    if (store == null) {
+      return;
+    }
+    if (event.product() != null && event.product().getId() != null) {
+      store.invalidate(event.product().getId());
+    } else {
+      // Imports and bulk availability changes do not name the changed IDs.
+      store.invalidateAll();
+    }
+  }
+
+  private byte[] encode(ProductResponse product) {
+    try {
+      return objectMapper.writeValueAsBytes(product);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Failed to encode product " + product.getId(), ex);
+    }
+  }
+
+  private static byte[] gzip(byte[] bytes) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(bytes);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,26 @@
+package org.tech.product_service.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.tech.product_service.filter.AdmissionControlFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Admission control configuration, active unless {@code product.admission.enabled=false}.
+ * @see AdmissionControlFilter
+ * @author Josip Begic
+ */
+@Configuration
+@EnableConfigurationProperties(AdmissionControlProperties.class)
+@ConditionalOnProperty(prefix = "product.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig {
+
+  @Bean
+  public AdmissionControlFilter admissionControlFilter(AdmissionControlProperties properties,
+      MeterRegistry meterRegistry) {
+    return new AdmissionControlFilter(properties, meterRegistry);
+  }
+}
@@ -0,0 +1,62 @@
+package org.tech.product_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for adaptive admission control.
+ * <p>
+ *   Bound from {@code product.admission.*}. Every endpoint class (reads and writes) has its own
+ *   concurrency limit which grows additively while requests complete within the latency target and
+ *   shrinks multiplicatively when they are slower or fail.
+ * </p>
+ * @see org.tech.product_service.filter.AdmissionControlFilter
+ * @author Josip Begic
+ */
+@Data
+@ConfigurationProperties(prefix = "product.admission")
+public class AdmissionControlProperties {
+
+  /**
+   * Whether requests exceeding the concurrency limit are shed with 503.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Concurrency limit each endpoint class starts with.
+   */
+  private int initialLimit = 50;
+
+  /**
+   * Lower bound of the concurrency limit.
+   */
+  private int minLimit = 5;
+
+  /**
+   * Upper bound of the concurrency limit.
+   */
+  private int maxLimit = 500;
+
+  /**
+   * Factor the limit is multiplied with when a request is too slow or fails.
+   */
+  private double backoffRatio = 0.9;
+
+  /**
+   * Latency above which a read request (GET, HEAD) is considered a congestion signal.
+   */
+  private Duration readLatencyTarget = Duration.ofMillis(250);
+
+  /**
+   * Latency above which a write request is considered a congestion signal.
+   */
+  private Duration writeLatencyTarget = Duration.ofSeconds(1);
+
+  /**
+   * Value of the {@code Retry-After} header on shed requests.
+   */
+  private Duration retryAfter = Duration.ofSeconds(1);
+}
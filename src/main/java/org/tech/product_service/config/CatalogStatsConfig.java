@@ -0,0 +1,14 @@
+package org.tech.product_service.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Catalog statistics configuration.
+ * @see CatalogStatsProperties
+ * @author Josip Begic
+ */
+@Configuration
+@EnableConfigurationProperties(CatalogStatsProperties.class)
+public class CatalogStatsConfig {
+}
@@ -0,0 +1,41 @@
+package org.tech.product_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for the catalog statistics ({@code GET /product/stats}).
+ * <p>
+ *   Bound from {@code product.stats.*}.
+ * </p>
+ * @see org.tech.product_service.service.CatalogStatsService
+ * @author Josip Begic
+ */
+@Data
+@ConfigurationProperties(prefix = "product.stats")
+public class CatalogStatsProperties {
+
+  /**
+   * Whether the columnar catalog snapshot is loaded. It holds about 40 bytes per product.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Longest time computed statistics are served after the catalog changed. Limits how often the price
+   * percentiles are recomputed under a steady stream of writes.
+   */
+  private Duration maxStaleness = Duration.ofSeconds(1);
+
+  /**
+   * Interval of full snapshot reloads, which pick up writes made through other instances.
+   */
+  private Duration refreshInterval = Duration.ofMinutes(5);
+
+  /**
+   * Rows fetched per round trip while loading the snapshot.
+   */
+  private int fetchSize = 10_000;
+}
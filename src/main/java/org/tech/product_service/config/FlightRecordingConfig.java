@@ -0,0 +1,27 @@
+package org.tech.product_service.config;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.tech.product_service.jfr.FlightRecordingEndpoint;
+
+/**
+ * On-demand JDK Flight Recorder recordings.
+ * <p>
+ *   The {@code jfr} endpoint is created only when it is exposed, see
+ *   {@code management.endpoints.web.exposure.include}.
+ * </p>
+ * @see FlightRecordingProperties
+ * @author Josip Begic
+ */
+@Configuration
+@EnableConfigurationProperties(FlightRecordingProperties.class)
+public class FlightRecordingConfig {
+
+  @Bean
+  @ConditionalOnAvailableEndpoint
+  public FlightRecordingEndpoint flightRecordingEndpoint(FlightRecordingProperties properties) {
+    return new FlightRecordingEndpoint(properties);
+  }
+}
@@ -0,0 +1,37 @@
+package org.tech.product_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for on-demand JDK Flight Recorder recordings started through {@code /actuator/jfr}.
+ * <p>
+ *   Bound from {@code product.jfr.*}.
+ * </p>
+ * @see org.tech.product_service.jfr.FlightRecordingEndpoint
+ * @author Josip Begic
+ */
+@Data
+@ConfigurationProperties(prefix = "product.jfr")
+public class FlightRecordingProperties {
+
+  /**
+   * Longest recording that can be requested; a recording stops on its own after this long.
+   */
+  private Duration maxDuration = Duration.ofMinutes(5);
+
+  /**
+   * Disk space a recording may use; the oldest data is dropped once it is reached.
+   */
+  private DataSize maxSize = DataSize.ofMegabytes(256);
+
+  /**
+   * JFR settings used when a start request names none, {@code default} (about 1% overhead) or {@code profile}
+   * (about 2%, adds allocation and lock profiling).
+   */
+  private String settings = "profile";
+}
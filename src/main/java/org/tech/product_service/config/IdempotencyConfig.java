@@ -0,0 +1,55 @@
+package org.tech.product_service.config;
+
+import java.time.Clock;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.tech.product_service.filter.ClientKeyResolver;
+import org.tech.product_service.idempotency.IdempotencyGuard;
+import org.tech.product_service.idempotency.IdempotencyStore;
+import org.tech.product_service.idempotency.InMemoryIdempotencyStore;
+import org.tech.product_service.idempotency.JdbcIdempotencyStore;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@code Idempotency-Key} configuration.
+ * <p>
+ *   The store is selected by {@code product.idempotency.store}; {@code jdbc} keeps keys in the
+ *   {@code idempotency_key} table so that retries landing on another instance are deduplicated too.
+ * </p>
+ * @see IdempotencyProperties
+ * @author Josip Begic
+ */
+@Configuration
+@EnableConfigurationProperties({IdempotencyProperties.class, RateLimitProperties.class})
+public class IdempotencyConfig {
+
+  @Bean
+  public IdempotencyStore idempotencyStore(IdempotencyProperties properties, JdbcTemplate jdbcTemplate,
+      ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    return switch (properties.getStore()) {
+      case MEMORY -> new InMemoryIdempotencyStore(properties.getMaxKeys(), properties.getTtl(), meterRegistry);
+      case JDBC -> new JdbcIdempotencyStore(jdbcTemplate, objectMapper, properties.getTtl(), properties.getLease(),
+          Clock.systemUTC());
+    };
+  }
+
+  @Bean
+  public IdempotencyGuard idempotencyGuard(IdempotencyStore idempotencyStore, IdempotencyProperties properties,
+      MeterRegistry meterRegistry) {
+    return new IdempotencyGuard(idempotencyStore, properties, meterRegistry);
+  }
+
+  /**
+   * Scopes keys by the same client identity the rate limiter uses, whether or not rate limiting is enabled.
+   */
+  @Bean
+  public ClientKeyResolver clientKeyResolver(RateLimitProperties rateLimitProperties) {
+    return new ClientKeyResolver(rateLimitProperties.getApiKeyHeader(), rateLimitProperties.getApiKeys());
+  }
+}
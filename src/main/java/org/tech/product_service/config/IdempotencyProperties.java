@@ -0,0 +1,67 @@
+package org.tech.product_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for {@code Idempotency-Key} handling of {@code POST /product}.
+ * <p>
+ *   Bound from {@code product.idempotency.*}.
+ * </p>
+ * @see org.tech.product_service.idempotency.IdempotencyGuard
+ * @author Josip Begic
+ */
+@Data
+@ConfigurationProperties(prefix = "product.idempotency")
+public class IdempotencyProperties {
+
+  /**
+   * Whether the {@code Idempotency-Key} header is honoured; when disabled it is ignored.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Where keys and their responses are kept. {@code jdbc} shares them between instances.
+   */
+  private Store store = Store.MEMORY;
+
+  /**
+   * How long a key and its response are remembered.
+   */
+  private Duration ttl = Duration.ofHours(24);
+
+  /**
+   * Maximum number of keys kept by the in-memory store.
+   */
+  private long maxKeys = 100_000;
+
+  /**
+   * How long a request waits for another request with the same key to finish before giving up with 409.
+   */
+  private Duration waitTimeout = Duration.ofSeconds(10);
+
+  /**
+   * How long the shared store keeps a key claimed by a request that has not stored its response, e.g. because
+   * its instance crashed; afterwards a retry executes again. Keep it a few times {@code wait-timeout} and above
+   * the longest creation.
+   */
+  private Duration lease = Duration.ofSeconds(30);
+
+  /**
+   * How often the shared store is polled while a request with the same key runs on another instance.
+   */
+  private Duration pollInterval = Duration.ofMillis(100);
+
+  /**
+   * Interval at which expired keys are deleted from the shared store.
+   */
+  private Duration purgeInterval = Duration.ofHours(1);
+
+  public enum Store {
+    MEMORY,
+    JDBC
+  }
+}
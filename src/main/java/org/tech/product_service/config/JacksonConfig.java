@@ -0,0 +1,25 @@
+package org.tech.product_service.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Jackson configuration.
+ * <p>
+ *   Registers the Blackbird module, which replaces reflective getter and constructor calls with generated
+ *   lambdas for all beans without a hand-written serializer (e.g. {@code ProblemDetail}, import summaries).
+ *   {@code ProductResponse} and the page wrapper have dedicated serializers in
+ *   {@code org.tech.product_service.json}.
+ * </p>
+ * @author Josip Begic
+ */
+@Configuration
+public class JacksonConfig {
+
+  @Bean
+  public BlackbirdModule blackbirdModule() {
+    return new BlackbirdModule();
+  }
+}
@@ -0,0 +1,32 @@
+package org.tech.product_service.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.Filter;
+import liquibase.integration.spring.SpringLiquibase;
+
+/**
+ * Keeps the critical path eager when {@code spring.main.lazy-initialization} is enabled (see the
+ * {@code fast-startup} profile).
+ * <p>
+ *   Migrations, the connection pool, the persistence unit and the servlet filters are still created at
+ *   startup, so the first request does not pay for them and readiness means the database is usable. Beans
+ *   with {@code @Scheduled} methods are kept eager by Spring Boot itself. Everything else, such as
+ *   {@link OpenApiConfig} and the springdoc infrastructure, is created on first use.
+ * </p>
+ * @author Josip Begic
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+  @Bean
+  public static LazyInitializationExcludeFilter criticalPathLazyInitializationExcludeFilter() {
+    return LazyInitializationExcludeFilter.forBeanTypes(SpringLiquibase.class, DataSource.class,
+        EntityManagerFactory.class, Filter.class);
+  }
+}
@@ -0,0 +1,51 @@
+package org.tech.product_service.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.tech.product_service.migration.ChangelogChecksum;
+import org.tech.product_service.migration.LiquibaseMigrationGuard;
+import org.tech.product_service.migration.MigrateOnlyRunner;
+
+import liquibase.integration.spring.SpringLiquibase;
+
+/**
+ * Liquibase startup configuration.
+ * <p>
+ *   {@code product.migration.mode=IF_CHANGED} skips Liquibase when the schema is already at the changelog on
+ *   the classpath; {@code product.migration.mode=ONLY} runs the migrations and exits (see the {@code migrate}
+ *   profile).
+ * </p>
+ * @see MigrationProperties
+ * @author Josip Begic
+ */
+@Configuration
+@ConditionalOnClass(SpringLiquibase.class)
+@EnableConfigurationProperties(MigrationProperties.class)
+public class MigrationConfig {
+
+  /**
+   * Bean post processors are created before configuration properties beans, so the mode, the label filter and
+   * whether Liquibase is enabled are bound directly.
+   */
+  @Bean
+  public static LiquibaseMigrationGuard liquibaseMigrationGuard(Environment environment) {
+    MigrationProperties.Mode mode = Binder.get(environment)
+        .bind("product.migration.mode", MigrationProperties.Mode.class)
+        .orElse(MigrationProperties.Mode.ALWAYS);
+    String labelFilter = Binder.get(environment).bind("spring.liquibase.label-filter", String.class).orElse(null);
+    boolean enabled = Binder.get(environment).bind("spring.liquibase.enabled", Boolean.class).orElse(true);
+    return new LiquibaseMigrationGuard(mode, ChangelogChecksum.tag(labelFilter), enabled);
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "product.migration", name = "mode", havingValue = "only")
+  public MigrateOnlyRunner migrateOnlyRunner(ConfigurableApplicationContext context) {
+    return new MigrateOnlyRunner(context);
+  }
+}
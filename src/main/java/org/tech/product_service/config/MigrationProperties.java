@@ -0,0 +1,38 @@
+package org.tech.product_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for running Liquibase migrations at startup.
+ * <p>
+ *   Bound from {@code product.migration.*}.
+ * </p>
+ * @see org.tech.product_service.migration.LiquibaseMigrationGuard
+ * @author Josip Begic
+ */
+@Data
+@ConfigurationProperties(prefix = "product.migration")
+public class MigrationProperties {
+
+  /**
+   * How Liquibase runs on startup.
+   */
+  private Mode mode = Mode.ALWAYS;
+
+  public enum Mode {
+    /**
+     * Run Liquibase on every startup.
+     */
+    ALWAYS,
+    /**
+     * Skip Liquibase when the database is tagged with the checksum of the changelog files on the classpath.
+     */
+    IF_CHANGED,
+    /**
+     * Run Liquibase and exit, e.g. as a one-shot job before the application pods are rolled.
+     */
+    ONLY
+  }
+}
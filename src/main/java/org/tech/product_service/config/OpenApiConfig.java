@@ -3,6 +3,7 @@ package org.tech.product_service.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
@@ -14,10 +15,12 @@ import io.swagger.v3.oas.models.info.Info;
  * <p>
  *   Configures the OpenAPI documentation for the Product Service API,
  *   including title, description, version, and contact information.
+ *   Only needed when the API documentation is requested, so it is created lazily.
  * </p>
  * @author Josip Begic
  */
 @Configuration
+@Lazy
 public class OpenApiConfig {
 
   @Bean
@@ -0,0 +1,46 @@
+package org.tech.product_service.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionOperations;
+import org.tech.product_service.outbox.FileOutboxPublisher;
+import org.tech.product_service.outbox.InMemoryOutboxPublisher;
+import org.tech.product_service.outbox.LoggingOutboxPublisher;
+import org.tech.product_service.outbox.OutboxPublisher;
+import org.tech.product_service.outbox.OutboxRelay;
+import org.tech.product_service.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Transactional outbox configuration.
+ * <p>
+ *   The publisher is selected by {@code product.outbox.publisher}; defining an {@link OutboxPublisher} bean
+ *   (e.g. for a message broker) replaces it.
+ * </p>
+ * @see OutboxProperties
+ * @author Josip Begic
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public OutboxPublisher outboxPublisher(OutboxProperties properties) {
+    return switch (properties.getPublisher()) {
+      case LOG -> new LoggingOutboxPublisher();
+      case MEMORY -> new InMemoryOutboxPublisher(properties.getMemoryCapacity());
+      case FILE -> new FileOutboxPublisher(properties.getFile());
+    };
+  }
+
+  @Bean
+  public OutboxRelay outboxRelay(OutboxEventRepository outboxEventRepository, OutboxPublisher outboxPublisher,
+      TransactionOperations transactionOperations, OutboxProperties properties, MeterRegistry meterRegistry) {
+    return new OutboxRelay(outboxEventRepository, outboxPublisher, transactionOperations, properties,
+        meterRegistry);
+  }
+}
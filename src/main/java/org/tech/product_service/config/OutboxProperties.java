@@ -0,0 +1,51 @@
+package org.tech.product_service.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for the transactional outbox.
+ * <p>
+ *   Bound from {@code product.outbox.*}.
+ * </p>
+ * @see org.tech.product_service.outbox.OutboxRelay
+ * @author Josip Begic
+ */
+@Data
+@ConfigurationProperties(prefix = "product.outbox")
+public class OutboxProperties {
+
+  /**
+   * Publisher the relay hands events to, unless an {@code OutboxPublisher} bean is defined.
+   */
+  private PublisherType publisher = PublisherType.LOG;
+
+  /**
+   * Events locked, published and deleted per round trip.
+   */
+  private int batchSize = 100;
+
+  /**
+   * Maximum number of batches relayed per run, so one run does not hold the scheduler indefinitely.
+   */
+  private int maxBatchesPerRun = 50;
+
+  /**
+   * Target file of the {@code file} publisher (one JSON event per line).
+   */
+  private Path file = Path.of("outbox-events.jsonl");
+
+  /**
+   * Number of most recent events kept by the {@code memory} publisher.
+   */
+  private int memoryCapacity = 10_000;
+
+  public enum PublisherType {
+    LOG,
+    MEMORY,
+    FILE
+  }
+}
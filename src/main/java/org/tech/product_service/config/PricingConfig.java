@@ -0,0 +1,14 @@
+package org.tech.product_service.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Pricing configuration.
+ * @see PricingProperties
+ * @author Josip Begic
+ */
+@Configuration
+@EnableConfigurationProperties(PricingProperties.class)
+public class PricingConfig {
+}
@@ -0,0 +1,36 @@
+package org.tech.product_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for USD pricing of new products.
+ * <p>
+ *   Bound from {@code product.pricing.*}. In {@link Mode#SYNC} mode product creation fetches the
+ *   exchange rate from HNB and fails with {@code 503} when it is unavailable. In {@link Mode#ASYNC}
+ *   mode product creation never calls HNB: products are priced with the already cached rate, or
+ *   stored as pending and priced later by the pricing worker.
+ * </p>
+ * @see org.tech.product_service.pricing.PendingPriceWorker
+ * @author Josip Begic
+ */
+@Data
+@ConfigurationProperties(prefix = "product.pricing")
+public class PricingProperties {
+
+  /**
+   * How new products are priced.
+   */
+  private Mode mode = Mode.SYNC;
+
+  /**
+   * Maximum number of pending products priced per statement.
+   */
+  private int batchSize = 500;
+
+  public enum Mode {
+    SYNC,
+    ASYNC
+  }
+}
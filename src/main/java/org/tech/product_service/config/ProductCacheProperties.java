@@ -0,0 +1,59 @@
+package org.tech.product_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for product caching.
+ * <p>
+ *   Bound from {@code product.cache.*}. Sizes of the Hibernate second-level cache regions are configured
+ *   in {@code application.conf}.
+ * </p>
+ * @author Josip Begic
+ */
+@Data
+@ConfigurationProperties(prefix = "product.cache")
+public class ProductCacheProperties {
+
+  /**
+   * Number of leading product listing pages cached in the {@code productListPages} cache and served through
+   * the Hibernate query cache.
+   */
+  private int queryCachedPages = 3;
+
+  /**
+   * Maximum number of products held by all cached listing pages together.
+   */
+  private long pageCacheMaxProducts = 10_000;
+
+  /**
+   * Time after which a cached listing page expires, even if the catalog version did not change. The version only
+   * moves on the instance that made a write, so this bounds how long other instances serve an outdated page.
+   */
+  private Duration pageCacheTtl = Duration.ofMinutes(1);
+
+  /**
+   * Maximum number of products held in the {@code productsByCode} cache.
+   */
+  private long byCodeMaxSize = 10_000;
+
+  /**
+   * Time after which a product cached by code expires. Writes evict it at once on the instance that made them;
+   * this bounds how long other instances, and a read racing with a write, can serve the old product.
+   */
+  private Duration byCodeTtl = Duration.ofMinutes(1);
+
+  /**
+   * Maximum number of product IDs remembered as missing.
+   */
+  private long missingIdMaxSize = 100_000;
+
+  /**
+   * Time for which an ID that was not found is answered with 404 without querying the database. Also bounds how
+   * long a product created on another instance can still be answered with 404 on this one.
+   */
+  private Duration missingIdTtl = Duration.ofSeconds(30);
+}
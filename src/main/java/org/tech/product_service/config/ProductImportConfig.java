@@ -0,0 +1,50 @@
+package org.tech.product_service.config;
+
+import java.sql.DatabaseMetaData;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.tech.product_service.repository.bulk.JdbcBatchProductBulkWriter;
+import org.tech.product_service.repository.bulk.PostgresCopyProductBulkWriter;
+import org.tech.product_service.repository.bulk.ProductBulkWriter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuration of the bulk product import.
+ * <p>
+ *   Selects the {@link ProductBulkWriter} based on the connected database: PostgreSQL uses the
+ *   {@code COPY} protocol, every other database (H2 in tests) falls back to JDBC batches.
+ * </p>
+ * @author Josip Begic
+ */
+@Configuration
+@Slf4j
+public class ProductImportConfig {
+
+  private static final String POSTGRESQL = "PostgreSQL";
+
+  @Bean
+  public ProductBulkWriter productBulkWriter(DataSource dataSource,
+      @Value("${product.import.batch-size:1000}") int batchSize) {
+    String databaseProductName;
+    try {
+      databaseProductName = JdbcUtils.extractDatabaseMetaData(dataSource,
+          DatabaseMetaData::getDatabaseProductName);
+    } catch (MetaDataAccessException ex) {
+      log.warn("Could not determine database type, using JDBC batch import: {}", ex.getMessage());
+      return new JdbcBatchProductBulkWriter(batchSize);
+    }
+    if (POSTGRESQL.equalsIgnoreCase(databaseProductName)) {
+      log.info("Using PostgreSQL COPY for product import.");
+      return new PostgresCopyProductBulkWriter();
+    }
+    log.info("Using JDBC batch import for database {}.", databaseProductName);
+    return new JdbcBatchProductBulkWriter(batchSize);
+  }
+}
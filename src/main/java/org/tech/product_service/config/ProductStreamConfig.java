@@ -0,0 +1,14 @@
+package org.tech.product_service.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Product change stream configuration.
+ * @see ProductStreamProperties
+ * @author Josip Begic
+ */
+@Configuration
+@EnableConfigurationProperties(ProductStreamProperties.class)
+public class ProductStreamConfig {
+}
@@ -0,0 +1,45 @@
+package org.tech.product_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for the product change stream ({@code GET /product/stream}).
+ * <p>
+ *   Bound from {@code product.stream.*}.
+ * </p>
+ * @see org.tech.product_service.service.ProductChangeStreamService
+ * @author Josip Begic
+ */
+@Data
+@ConfigurationProperties(prefix = "product.stream")
+public class ProductStreamProperties {
+
+  /**
+   * Number of recent events kept in memory for {@code Last-Event-ID} resume.
+   */
+  private int replaySize = 1024;
+
+  /**
+   * Events buffered per subscriber; a subscriber that falls further behind is dropped.
+   */
+  private int subscriberBuffer = 256;
+
+  /**
+   * Maximum number of concurrent subscribers.
+   */
+  private int maxSubscribers = 1000;
+
+  /**
+   * Interval of heartbeat comments sent to idle subscribers.
+   */
+  private Duration heartbeat = Duration.ofSeconds(15);
+
+  /**
+   * Time after which a subscription is closed; clients reconnect with {@code Last-Event-ID}.
+   */
+  private Duration timeout = Duration.ofMinutes(30);
+}
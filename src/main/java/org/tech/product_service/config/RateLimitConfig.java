@@ -0,0 +1,25 @@
+package org.tech.product_service.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.tech.product_service.filter.RateLimitFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-client rate limiting configuration, active unless {@code product.rate-limit.enabled=false}.
+ * @see RateLimitFilter
+ * @author Josip Begic
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "product.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+  @Bean
+  public RateLimitFilter rateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+    return new RateLimitFilter(properties, meterRegistry);
+  }
+}
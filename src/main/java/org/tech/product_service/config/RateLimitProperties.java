@@ -0,0 +1,78 @@
+package org.tech.product_service.config;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for per-client rate limiting.
+ * <p>
+ *   Bound from {@code product.rate-limit.*}. Clients are identified by the API key header, or by
+ *   their address when no key is sent. Reads and writes have separate token buckets per client.
+ * </p>
+ * @see org.tech.product_service.filter.RateLimitFilter
+ * @author Josip Begic
+ */
+@Data
+@ConfigurationProperties(prefix = "product.rate-limit")
+public class RateLimitProperties {
+
+  /**
+   * Whether per-client rate limiting is applied.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Request header carrying the client's API key.
+   */
+  private String apiKeyHeader = "X-API-Key";
+
+  /**
+   * API keys that identify a client. Requests without one of these keys are limited by their address.
+   */
+  private Set<String> apiKeys = new HashSet<>();
+
+  /**
+   * Limit for reads (GET, HEAD).
+   */
+  private Limit read = new Limit(200, 100);
+
+  /**
+   * Limit for writes such as product creation.
+   */
+  private Limit write = new Limit(20, 10);
+
+  /**
+   * Time after which a client's full bucket is evicted.
+   */
+  private Duration idleTimeout = Duration.ofMinutes(10);
+
+  /**
+   * Maximum number of clients tracked per endpoint class; the least active are evicted beyond it.
+   */
+  private int maxClients = 100_000;
+
+  @Data
+  public static class Limit {
+    /**
+     * Burst size: requests allowed at once.
+     */
+    private long capacity;
+    /**
+     * Sustained requests per second.
+     */
+    private double refillPerSecond;
+
+    public Limit() {
+    }
+
+    public Limit(long capacity, double refillPerSecond) {
+      this.capacity = capacity;
+      this.refillPerSecond = refillPerSecond;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package org.tech.product_service.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for optional read replica datasources.
+ * <p>
+ *   Bound from {@code product.datasource.replicas.*}. When enabled, read-only transactions are routed
+ *   to one of the configured replicas, all other work goes to the primary ({@code spring.datasource.*}).
+ * </p>
+ * @see ReplicaRoutingConfig
+ * @author Josip Begic
+ */
+@Data
+@ConfigurationProperties(prefix = "product.datasource.replicas")
+public class ReplicaDataSourceProperties {
+
+  /**
+   * Whether read-only transactions should be routed to replicas.
+   */
+  private boolean enabled;
+
+  /**
+   * Replica connection settings. Pool settings are taken from {@code spring.datasource.hikari.*}.
+   */
+  private List<Replica> nodes = new ArrayList<>();
+
+  /**
+   * Maximum tolerated replication lag. Replicas lagging more are skipped until they catch up.
+   */
+  private Duration maxLag = Duration.ofSeconds(5);
+
+  /**
+   * Interval at which the replication lag of every replica is measured.
+   */
+  private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+  /**
+   * Query returning the replication lag of a replica in milliseconds.
+   */
+  private String lagQuery = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+      + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END";
+
+  /**
+   * How long a client reads from the primary after its last write (read-your-writes).
+   */
+  private Duration stickyWindow = Duration.ofSeconds(5);
+
+  @Data
+  public static class Replica {
+    private String name;
+    private String url;
+    private String username;
+    private String password;
+  }
+}
@@ -0,0 +1,82 @@
+package org.tech.product_service.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.tech.product_service.datasource.ReplicaLagMonitor;
+import org.tech.product_service.datasource.ReplicaRoutingDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Read replica routing configuration, active when {@code product.datasource.replicas.enabled=true}.
+ * <p>
+ *   Replaces the auto-configured datasource with a {@link LazyConnectionDataSourceProxy} around a
+ *   {@link ReplicaRoutingDataSource}. The primary pool is configured from {@code spring.datasource.*},
+ *   each replica gets its own Hikari pool. Spring Boot exposes a health indicator per pool under
+ *   {@code /actuator/health/db}.
+ * </p>
+ * @see ReplicaDataSourceProperties
+ * @author Josip Begic
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "product.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+  private static final String HIKARI_PROPERTIES = "spring.datasource.hikari";
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+      ReplicaDataSourceProperties replicaProperties, Environment environment) {
+    HikariDataSource primary = createPool(environment, ReplicaRoutingDataSource.PRIMARY,
+        dataSourceProperties.determineUrl(), dataSourceProperties.determineUsername(),
+        dataSourceProperties.determinePassword(), false);
+
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    for (ReplicaDataSourceProperties.Replica replica : replicaProperties.getNodes()) {
+      replicas.put(replica.getName(), createPool(environment, replica.getName(),
+          replica.getUrl(), replica.getUsername(), replica.getPassword(), true));
+    }
+    return new ReplicaRoutingDataSource(primary, replicas);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+      ReplicaDataSourceProperties replicaProperties) {
+    return new ReplicaLagMonitor(replicaRoutingDataSource, replicaProperties);
+  }
+
+  private static HikariDataSource createPool(Environment environment, String name, String url,
+      String username, String password, boolean readOnly) {
+    HikariDataSource pool = DataSourceBuilder.create()
+        .type(HikariDataSource.class)
+        .url(url)
+        .username(username)
+        .password(password)
+        .build();
+    Binder.get(environment).bind(HIKARI_PROPERTIES, Bindable.ofInstance(pool));
+    pool.setPoolName(name);
+    pool.setReadOnly(readOnly);
+    return pool;
+  }
+}
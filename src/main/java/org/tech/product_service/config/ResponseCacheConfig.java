@@ -0,0 +1,42 @@
+package org.tech.product_service.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.tech.product_service.cache.CachedResponseHttpMessageConverter;
+import org.tech.product_service.cache.OffHeapResponseStore;
+import org.tech.product_service.cache.ProductResponseCache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Off-heap product response cache configuration.
+ * <p>
+ *   The cache bean always exists; it only allocates off-heap memory when {@code product.response-cache.enabled}
+ *   is set.
+ * </p>
+ * @see ResponseCacheProperties
+ * @author Josip Begic
+ */
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig {
+
+  @Bean
+  public ProductResponseCache productResponseCache(ResponseCacheProperties properties, ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    OffHeapResponseStore store = properties.isEnabled()
+        ? new OffHeapResponseStore(properties.getCapacity().toBytes(),
+            (int) Math.min(Integer.MAX_VALUE, properties.getSlabSize().toBytes()),
+            (int) properties.getSlotSize().toBytes(), properties.getWays(), properties.getTtl())
+        : null;
+    return new ProductResponseCache(store, objectMapper, properties.isGzip(), meterRegistry);
+  }
+
+  @Bean
+  public CachedResponseHttpMessageConverter cachedResponseHttpMessageConverter() {
+    return new CachedResponseHttpMessageConverter();
+  }
+}
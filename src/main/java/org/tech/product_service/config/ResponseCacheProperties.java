@@ -0,0 +1,58 @@
+package org.tech.product_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for the off-heap cache of encoded product responses.
+ * <p>
+ *   Bound from {@code product.response-cache.*}. Off-heap memory counts against
+ *   {@code -XX:MaxDirectMemorySize}, which defaults to the maximum heap size.
+ * </p>
+ * @see org.tech.product_service.cache.ProductResponseCache
+ * @author Josip Begic
+ */
+@Data
+@ConfigurationProperties(prefix = "product.response-cache")
+public class ResponseCacheProperties {
+
+  /**
+   * Whether {@code GET /product/{id}} responses are served from the cache.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Total off-heap memory of the cache.
+   */
+  private DataSize capacity = DataSize.ofMegabytes(256);
+
+  /**
+   * Size of one direct buffer slab, at most 2 GB.
+   */
+  private DataSize slabSize = DataSize.ofMegabytes(64);
+
+  /**
+   * Size of one entry slot. Responses whose JSON and gzip variants together exceed it are not cached.
+   */
+  private DataSize slotSize = DataSize.ofKilobytes(1);
+
+  /**
+   * Slots per set; a product can only be cached in the slots of its set.
+   */
+  private int ways = 8;
+
+  /**
+   * How long an entry is served after it was cached. Bounds staleness from changes this instance does not
+   * see, e.g. those committed by another instance.
+   */
+  private Duration ttl = Duration.ofMinutes(10);
+
+  /**
+   * Whether to keep a gzip variant for clients sending {@code Accept-Encoding: gzip}.
+   */
+  private boolean gzip = true;
+}
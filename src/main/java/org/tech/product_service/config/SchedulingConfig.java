@@ -0,0 +1,17 @@
+package org.tech.product_service.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SchedulingConfig configuration class to enable scheduled background tasks in the application.
+ * Disabled with {@code product.scheduling.enabled=false}, e.g. by the one-shot {@code migrate} profile.
+ * @see org.springframework.scheduling.annotation.EnableScheduling
+ * @author Josip Begic
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "product.scheduling", name = "enabled", matchIfMissing = true)
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,7 +1,18 @@
 package org.tech.product_service.config;
 
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * SpringCachingConfig configuration class to enable caching in the application.
@@ -11,5 +22,60 @@ import org.springframework.context.annotation.Configuration;
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(ProductCacheProperties.class)
 public class SpringCachingConfig {
+
+  /**
+   * Cache of HNB exchange rates keyed by ISO 4217 currency code.
+   * Configured by {@code spring.cache.caffeine.spec}.
+   */
+  public static final String EXCHANGE_RATES_CACHE = "exchangeRates";
+
+  /**
+   * Cache of {@code ProductResponse} objects keyed by the unique product code.
+   * Bounded by {@code product.cache.by-code-max-size} and {@code product.cache.by-code-ttl}.
+   */
+  public static final String PRODUCTS_BY_CODE_CACHE = "productsByCode";
+
+  /**
+   * Cache of the leading product listing pages keyed by {@code ProductPageKey}.
+   * Bounded by {@code product.cache.page-cache-max-products}.
+   */
+  public static final String PRODUCT_LIST_PAGES_CACHE = "productListPages";
+
+  /**
+   * Registers the products-by-code cache with an expiry. Its evictions are local to the instance that wrote the
+   * product, so without one an entry could stay stale forever on the other instances.
+   */
+  @Bean
+  public CacheManagerCustomizer<CaffeineCacheManager> productsByCodeCacheCustomizer(
+      ProductCacheProperties properties) {
+    return cacheManager -> cacheManager.registerCustomCache(PRODUCTS_BY_CODE_CACHE, Caffeine.newBuilder()
+        .maximumSize(properties.getByCodeMaxSize())
+        .expireAfterWrite(properties.getByCodeTtl())
+        .recordStats()
+        .build());
+  }
+
+  /**
+   * Registers the listing page cache. Pages differ in size, so the cache is bounded by the number of
+   * products it holds rather than the number of pages. Entries of outdated catalog versions are never read
+   * again and are evicted by size or expiry.
+   */
+  @Bean
+  public CacheManagerCustomizer<CaffeineCacheManager> productListPagesCacheCustomizer(
+      ProductCacheProperties properties, MeterRegistry meterRegistry) {
+    return cacheManager -> {
+      Cache<Object, Object> cache = Caffeine.newBuilder()
+          .maximumWeight(properties.getPageCacheMaxProducts())
+          .weigher((Object key, Object page) -> ((Page<?>) page).getNumberOfElements() + 1)
+          .expireAfterWrite(properties.getPageCacheTtl())
+          .recordStats()
+          .build();
+      cacheManager.registerCustomCache(PRODUCT_LIST_PAGES_CACHE, cache);
+      Gauge.builder("product.page.cache.hit.ratio", cache, c -> c.stats().hitRate())
+          .description("Hit ratio of the product listing page cache")
+          .register(meterRegistry);
+    };
+  }
 }
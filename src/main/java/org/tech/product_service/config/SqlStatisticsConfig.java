@@ -0,0 +1,35 @@
+package org.tech.product_service.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.tech.product_service.filter.SqlStatisticsFilter;
+import org.tech.product_service.sql.SqlStatementListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-request SQL statement counting.
+ * <p>
+ *   The {@link SqlStatementListener} bean is picked up by datasource-micrometer, which wraps every
+ *   {@code DataSource} with datasource-proxy for the JDBC spans.
+ *   The replica routing datasource is excluded, its statements already pass the proxy of the primary
+ *   {@code dataSource} and would be counted twice.
+ * </p>
+ * @see SqlStatisticsProperties
+ * @author Josip Begic
+ */
+@Configuration
+@EnableConfigurationProperties(SqlStatisticsProperties.class)
+public class SqlStatisticsConfig {
+
+  @Bean
+  public SqlStatementListener sqlStatementListener(SqlStatisticsProperties properties, MeterRegistry meterRegistry) {
+    return new SqlStatementListener(properties.getSlowQueryThreshold(), meterRegistry);
+  }
+
+  @Bean
+  public SqlStatisticsFilter sqlStatisticsFilter(MeterRegistry meterRegistry) {
+    return new SqlStatisticsFilter(meterRegistry);
+  }
+}
@@ -0,0 +1,31 @@
+package org.tech.product_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for per-request SQL statement counting and slow query logging.
+ * <p>
+ *   Bound from {@code product.sql.*}.
+ * </p>
+ * @see org.tech.product_service.sql.SqlStatementListener
+ * @author Josip Begic
+ */
+@Data
+@ConfigurationProperties(prefix = "product.sql")
+public class SqlStatisticsProperties {
+
+  /**
+   * Statements taking at least this long are logged with the types of their bind parameters.
+   */
+  private Duration slowQueryThreshold = Duration.ofMillis(200);
+
+  /**
+   * Whether responses carry the {@code X-SQL-Statistics} header with the request's statement count and
+   * database time.
+   */
+  private boolean debugHeader = false;
+}
@@ -0,0 +1,44 @@
+package org.tech.product_service.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+import io.micrometer.observation.ObservationPredicate;
+
+/**
+ * Tracing configuration.
+ * <p>
+ *   Spans are created through Micrometer observations and exported with OpenTelemetry (see
+ *   {@code management.tracing.*} and {@code management.otlp.tracing.*}): HTTP server spans for controller handlers,
+ *   {@link io.micrometer.observation.annotation.Observed @Observed} service methods, JDBC connection and query
+ *   spans, and HTTP client spans for HNB calls. The predicates below keep background noise out of the traces.
+ * </p>
+ * @author Josip Begic
+ */
+@Configuration
+public class TracingConfig {
+
+  static final String ACTUATOR_PATH = "/actuator";
+  static final String SCHEDULED_TASK_OBSERVATION = "tasks.scheduled.execution";
+  static final String JDBC_OBSERVATION_PREFIX = "jdbc.";
+
+  /**
+   * Skips probe and metric scrapes, which would otherwise be the majority of all traces.
+   */
+  @Bean
+  public ObservationPredicate noActuatorRequestObservations() {
+    return (name, context) -> !(context instanceof ServerRequestObservationContext server
+        && server.getCarrier().getRequestURI().startsWith(ACTUATOR_PATH));
+  }
+
+  /**
+   * Skips the scheduled pollers (outbox relay, pending prices, stats refresh) and database calls made outside of
+   * any request, so that each trace starts with a client request.
+   */
+  @Bean
+  public ObservationPredicate noBackgroundObservations() {
+    return (name, context) -> !SCHEDULED_TASK_OBSERVATION.equals(name)
+        && !(name.startsWith(JDBC_OBSERVATION_PREFIX) && context.getParentObservation() == null);
+  }
+}
@@ -0,0 +1,56 @@
+package org.tech.product_service.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.tech.product_service.service.ExchangeRateService;
+import org.tech.product_service.service.ProductService;
+import org.tech.product_service.warmup.ConnectionPoolWarmupTask;
+import org.tech.product_service.warmup.EndpointWarmupTask;
+import org.tech.product_service.warmup.ExchangeRateWarmupTask;
+import org.tech.product_service.warmup.ProductCacheWarmupTask;
+import org.tech.product_service.warmup.WarmupRunner;
+import org.tech.product_service.warmup.WarmupTask;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Startup warm-up configuration, active unless {@code product.warmup.enabled=false}.
+ * <p>
+ *   Tasks run in this order: the exchange rate is fetched first so that nothing below waits on HNB, the pool is
+ *   filled before the caches are loaded through it, and the endpoints are called last, against warm caches.
+ * </p>
+ * @see WarmupProperties
+ * @author Josip Begic
+ */
+@Configuration
+@EnableConfigurationProperties(WarmupProperties.class)
+@ConditionalOnProperty(prefix = "product.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupConfig {
+
+  private static final Duration LOOPBACK_TIMEOUT = Duration.ofSeconds(5);
+
+  @Bean
+  public WarmupRunner warmupRunner(WarmupProperties properties, ExchangeRateService exchangeRateService,
+      DataSource dataSource, ProductService productService, RestTemplateBuilder restTemplateBuilder,
+      Environment environment, ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+    List<WarmupTask> tasks = List.of(
+        new ExchangeRateWarmupTask(exchangeRateService),
+        new ConnectionPoolWarmupTask(dataSource, properties.getConnections()),
+        new ProductCacheWarmupTask(productService, properties.getProductPages(), properties.getPageSize()),
+        new EndpointWarmupTask(restTemplateBuilder
+            .connectTimeout(LOOPBACK_TIMEOUT)
+            .readTimeout(LOOPBACK_TIMEOUT)
+            .build(), environment, properties.getEndpointIterations()));
+    return new WarmupRunner(tasks, properties.getTimeout(), eventPublisher, meterRegistry);
+  }
+}
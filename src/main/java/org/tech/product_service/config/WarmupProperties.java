@@ -0,0 +1,52 @@
+package org.tech.product_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for the startup warm-up that runs before the instance reports ready.
+ * <p>
+ *   Bound from {@code product.warmup.*}.
+ * </p>
+ * @see org.tech.product_service.warmup.WarmupRunner
+ * @author Josip Begic
+ */
+@Data
+@ConfigurationProperties(prefix = "product.warmup")
+public class WarmupProperties {
+
+  /**
+   * Whether to warm up before reporting ready.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Longest time readiness is held back; when it passes the instance becomes ready anyway. Keep it below the
+   * startup budget of the readiness probe.
+   */
+  private Duration timeout = Duration.ofSeconds(60);
+
+  /**
+   * Connections opened to fill the pool, capped at the Hikari maximum pool size.
+   */
+  private int connections = 10;
+
+  /**
+   * Pages of the default product list whose products are preloaded into the read caches.
+   */
+  private int productPages = 1;
+
+  /**
+   * Size of the preloaded pages; matches the default page size of {@code GET /product}.
+   */
+  private int pageSize = 50;
+
+  /**
+   * Rounds of loopback requests to the read endpoints. Each round sends five requests, which count against the
+   * read rate limit of the loopback client.
+   */
+  private int endpointIterations = 40;
+}
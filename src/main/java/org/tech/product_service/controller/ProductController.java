@@ -1,16 +1,37 @@
 package org.tech.product_service.controller;
 
+import java.io.InputStream;
+import java.net.URI;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.tech.product_service.api.ProductApi;
+import org.tech.product_service.cache.CachedResponse;
+import org.tech.product_service.cache.ProductResponseCache;
+import org.tech.product_service.dto.request.ProductAvailabilityRequest;
+import org.tech.product_service.dto.request.ProductLookupRequest;
+import org.tech.product_service.dto.request.ProductPatchRequest;
 import org.tech.product_service.dto.request.ProductRequest;
+import org.tech.product_service.dto.response.CatalogStatsResponse;
+import org.tech.product_service.dto.response.ProductAvailabilityResponse;
+import org.tech.product_service.dto.response.ProductImportResponse;
+import org.tech.product_service.dto.response.ProductLookupResponse;
 import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.filter.ClientKeyResolver;
+import org.tech.product_service.idempotency.IdempotencyGuard;
+import org.tech.product_service.model.PriceStatus;
+import org.tech.product_service.service.CatalogStatsService;
+import org.tech.product_service.service.ProductChangeStreamService;
+import org.tech.product_service.service.ProductImportService;
 import org.tech.product_service.service.ProductService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 
@@ -26,26 +47,91 @@ import lombok.RequiredArgsConstructor;
 public class ProductController implements ProductApi {
 
   private final ProductService productService;
+  private final ProductImportService productImportService;
+  private final ProductChangeStreamService productChangeStreamService;
+  private final ProductResponseCache productResponseCache;
+  private final CatalogStatsService catalogStatsService;
+  private final IdempotencyGuard idempotencyGuard;
+  private final ClientKeyResolver clientKeyResolver;
 
   @Override
-  public ResponseEntity<ProductResponse> createProduct(ProductRequest request) {
+  public ResponseEntity<ProductResponse> createProduct(ProductRequest request, String idempotencyKey,
+      HttpServletRequest httpRequest) {
+    if (idempotencyKey == null) {
+      return create(request);
+    }
+    return idempotencyGuard.execute(clientKeyResolver.resolve(httpRequest), idempotencyKey, request,
+        () -> create(request));
+  }
+
+  private ResponseEntity<ProductResponse> create(ProductRequest request) {
     ProductResponse productDto = productService.createProduct(request);
-    return ResponseEntity
-        .created(ServletUriComponentsBuilder
-            .fromCurrentRequest()
-            .path("/{id}")
-            .buildAndExpand(productDto.getId())
-            .toUri())
-        .body(productDto);
+    URI location = ServletUriComponentsBuilder
+        .fromCurrentRequest()
+        .path("/{id}")
+        .buildAndExpand(productDto.getId())
+        .toUri();
+    if (productDto.getPriceStatus() == PriceStatus.PENDING) {
+      return ResponseEntity.accepted().location(location).body(productDto);
+    }
+    return ResponseEntity.created(location).body(productDto);
+  }
+
+  @Override
+  public ResponseEntity<?> getProductById(Long id, String acceptEncoding) {
+    if (!productResponseCache.isEnabled()) {
+      return ResponseEntity.ok(productService.getProductById(id));
+    }
+    boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+    CachedResponse body = productResponseCache.get(id, gzip, () -> productService.getProductById(id));
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON);
+    if (productResponseCache.isGzipEnabled()) {
+      response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+    if (body.gzip()) {
+      response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    return response.body(body);
   }
 
   @Override
-  public ResponseEntity<ProductResponse> getProductById(Long id) {
-    return ResponseEntity.ok(productService.getProductById(id));
+  public ResponseEntity<ProductResponse> getProductByCode(String code) {
+    return ResponseEntity.ok(productService.getProductByCode(code));
   }
 
   @Override
   public ResponseEntity<Page<ProductResponse>> getAllProducts(Pageable pageable) {
     return ResponseEntity.ok(productService.getAllProducts(pageable));
   }
+
+  @Override
+  public ResponseEntity<ProductResponse> patchProduct(Long id, ProductPatchRequest request) {
+    return ResponseEntity.ok(productService.patchProduct(id, request));
+  }
+
+  @Override
+  public ResponseEntity<ProductAvailabilityResponse> updateAvailability(ProductAvailabilityRequest request) {
+    return ResponseEntity.ok(productService.updateAvailability(request));
+  }
+
+  @Override
+  public ResponseEntity<ProductLookupResponse> lookupProducts(ProductLookupRequest request) {
+    return ResponseEntity.ok(productService.lookupProducts(request.getIds()));
+  }
+
+  @Override
+  public ResponseEntity<CatalogStatsResponse> getCatalogStats() {
+    return ResponseEntity.ok(catalogStatsService.getCatalogStats());
+  }
+
+  @Override
+  public ResponseEntity<ProductImportResponse> importProducts(InputStream csv) {
+    return ResponseEntity.ok(productImportService.importProducts(csv));
+  }
+
+  @Override
+  public SseEmitter streamProductChanges(String lastEventId) {
+    return productChangeStreamService.subscribe(lastEventId);
+  }
 }
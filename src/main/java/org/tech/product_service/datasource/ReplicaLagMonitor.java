@@ -0,0 +1,46 @@
+package org.tech.product_service.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.tech.product_service.config.ReplicaDataSourceProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically measures the replication lag of every replica and excludes replicas that lag more
+ * than {@code product.datasource.replicas.max-lag} (or cannot be reached) from routing.
+ * @see ReplicaRoutingDataSource
+ * @author Josip Begic
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+  private final ReplicaRoutingDataSource routingDataSource;
+  private final ReplicaDataSourceProperties properties;
+
+  public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, ReplicaDataSourceProperties properties) {
+    this.routingDataSource = routingDataSource;
+    this.properties = properties;
+  }
+
+  @Scheduled(fixedDelayString = "${product.datasource.replicas.lag-check-interval:PT5S}")
+  public void checkReplicationLag() {
+    long maxLagMillis = properties.getMaxLag().toMillis();
+    for (Map.Entry<String, DataSource> replica : routingDataSource.getReplicas().entrySet()) {
+      boolean lagging;
+      try {
+        Double lagMillis = new JdbcTemplate(replica.getValue()).queryForObject(properties.getLagQuery(), Double.class);
+        lagging = lagMillis == null || lagMillis > maxLagMillis;
+        log.debug("Replica {} lag: {} ms", replica.getKey(), lagMillis);
+      } catch (Exception ex) {
+        log.warn("Failed to check replication lag of replica {}: {}", replica.getKey(), ex.getMessage());
+        lagging = true;
+      }
+      routingDataSource.setLagging(replica.getKey(), lagging);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package org.tech.product_service.datasource;
+
+/**
+ * Request scoped routing hints for {@link ReplicaRoutingDataSource}.
+ * <p>
+ *   Bound to the current thread for the duration of a request by
+ *   {@link org.tech.product_service.filter.ReadYourWritesFilter}. A request is pinned to the primary
+ *   when the client wrote recently, or once the request itself has written.
+ * </p>
+ * @author Josip Begic
+ */
+public final class ReplicaRoutingContext {
+
+  private static final ThreadLocal<State> STATE = new ThreadLocal<>();
+  private static final ThreadLocal<Boolean> REPLICA_READ = new ThreadLocal<>();
+
+  private ReplicaRoutingContext() {
+  }
+
+  /**
+   * Binds routing state to the current thread.
+   * @param primaryPinned whether reads must go to the primary
+   * @param onFirstWrite callback invoked once when the first write transaction of the request starts
+   */
+  public static void begin(boolean primaryPinned, Runnable onFirstWrite) {
+    STATE.set(new State(primaryPinned, onFirstWrite));
+  }
+
+  /**
+   * Removes routing state from the current thread.
+   */
+  public static void clear() {
+    STATE.remove();
+    REPLICA_READ.remove();
+  }
+
+  /**
+   * Tells whether the last connection obtained on this thread was routed to a replica. A read served by a
+   * replica may be behind the primary, so what it did not find must not be remembered as missing.
+   * @return {@code true} if the last routed connection of this thread went to a replica
+   */
+  public static boolean isReplicaRead() {
+    return Boolean.TRUE.equals(REPLICA_READ.get());
+  }
+
+  static void routed(boolean replica) {
+    REPLICA_READ.set(replica);
+  }
+
+  static boolean isPrimaryPinned() {
+    State state = STATE.get();
+    return state != null && state.primaryPinned;
+  }
+
+  static void markWrite() {
+    State state = STATE.get();
+    if (state == null || state.wrote) {
+      return;
+    }
+    state.wrote = true;
+    state.primaryPinned = true;
+    if (state.onFirstWrite != null) {
+      state.onFirstWrite.run();
+    }
+  }
+
+  private static final class State {
+    private boolean primaryPinned;
+    private boolean wrote;
+    private final Runnable onFirstWrite;
+
+    private State(boolean primaryPinned, Runnable onFirstWrite) {
+      this.primaryPinned = primaryPinned;
+      this.onFirstWrite = onFirstWrite;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package org.tech.product_service.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Routes connections to the primary or to a read replica based on the current transaction.
+ * <p>
+ *   Read-only transactions are spread round-robin over the replicas that are within the tolerated
+ *   replication lag. Read-write transactions, non-transactional work and requests pinned by
+ *   {@link ReplicaRoutingContext} use the primary.
+ * </p>
+ * <p>
+ *   The routing decision is made when a connection is obtained, so this datasource has to be wrapped
+ *   in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}. Otherwise the
+ *   connection is fetched before the transaction's read-only flag is known.
+ * </p>
+ * @see ReplicaLagMonitor
+ * @author Josip Begic
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+  public static final String PRIMARY = "primary";
+
+  private final Map<String, DataSource> replicas;
+  private final Set<String> laggingReplicas = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private volatile List<String> eligibleReplicas;
+
+  public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+    this.replicas = Map.copyOf(replicas);
+    this.eligibleReplicas = replicas.keySet().stream().sorted().toList();
+    Map<Object, Object> targets = new HashMap<>(replicas);
+    targets.put(PRIMARY, primary);
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    String key = route();
+    ReplicaRoutingContext.routed(!PRIMARY.equals(key));
+    return key;
+  }
+
+  private String route() {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      return PRIMARY;
+    }
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      ReplicaRoutingContext.markWrite();
+      return PRIMARY;
+    }
+    if (ReplicaRoutingContext.isPrimaryPinned()) {
+      return PRIMARY;
+    }
+    List<String> candidates = eligibleReplicas;
+    if (candidates.isEmpty()) {
+      return PRIMARY;
+    }
+    return candidates.get(Math.floorMod(nextReplica.getAndIncrement(), candidates.size()));
+  }
+
+  /**
+   * @return replica datasources keyed by replica name
+   */
+  public Map<String, DataSource> getReplicas() {
+    return replicas;
+  }
+
+  /**
+   * Marks a replica as lagging (excluded from routing) or caught up (included again).
+   * @param name replica name
+   * @param lagging whether the replica exceeds the tolerated lag or is unreachable
+   */
+  public void setLagging(String name, boolean lagging) {
+    boolean changed = lagging ? laggingReplicas.add(name) : laggingReplicas.remove(name);
+    if (changed) {
+      log.warn("Replica {} is {} routing.", name, lagging ? "excluded from" : "included again in");
+      eligibleReplicas = replicas.keySet().stream()
+          .filter(replica -> !laggingReplicas.contains(replica))
+          .sorted()
+          .toList();
+    }
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    for (DataSource target : getResolvedDataSources().values()) {
+      if (target instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+}
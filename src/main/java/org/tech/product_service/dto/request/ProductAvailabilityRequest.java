@@ -0,0 +1,29 @@
+package org.tech.product_service.dto.request;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for setting the availability of many products at once.
+ * @author Josip Begic
+ */
+@Data
+public class ProductAvailabilityRequest {
+
+  public static final int MAX_CODES = 10_000;
+
+  @Schema(description = "Codes of the products to update", example = "[\"ABC1234567\", \"XYZ7654321\"]")
+  @NotEmpty(message = "At least one product code is required")
+  @Size(max = MAX_CODES, message = "At most " + MAX_CODES + " product codes can be updated at once")
+  private List<@NotBlank(message = "Product code is required") String> codes;
+
+  @Schema(description = "Availability status to set", example = "false")
+  @NotNull(message = "Product availability is required")
+  private Boolean isAvailable;
+}
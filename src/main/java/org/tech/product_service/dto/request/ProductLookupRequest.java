@@ -0,0 +1,24 @@
+package org.tech.product_service.dto.request;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for fetching many products by ID at once.
+ * @author Josip Begic
+ */
+@Data
+public class ProductLookupRequest {
+
+  public static final int MAX_IDS = 1_000;
+
+  @Schema(description = "IDs of the products to fetch", example = "[3, 1, 2]")
+  @NotEmpty(message = "At least one product ID is required")
+  @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " products can be fetched at once")
+  private List<@NotNull(message = "Product ID is required") Long> ids;
+}
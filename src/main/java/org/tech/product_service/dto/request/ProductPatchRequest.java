@@ -0,0 +1,39 @@
+package org.tech.product_service.dto.request;
+
+import java.math.BigDecimal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for partially updating a product.
+ * <p>
+ *   Only the fields present in the request are changed; {@code null} fields are left as they are.
+ *   The product code cannot be changed. When {@code version} is given the update is rejected if the
+ *   product has been modified since that version was read.
+ * </p>
+ * @author Josip Begic
+ */
+@Data
+public class ProductPatchRequest {
+
+  @Schema(description = "New name of the product", example = "Laptop")
+  @Pattern(regexp = ".*\\S.*", message = "Product name must not be blank")
+  private String name;
+
+  @Schema(description = "New price in EUR, the USD price is recalculated", example = "9.99")
+  @DecimalMin(value = "0.0",
+              message = "Price in EUR must be greater than 0.0 EUR")
+  @Digits(integer = 15, fraction = 2,
+          message = "Price in EUR must be a valid monetary amount with up to 2 decimal places")
+  private BigDecimal priceEur;
+
+  @Schema(description = "New availability status of the product", example = "false")
+  private Boolean isAvailable;
+
+  @Schema(description = "Version of the product the update is based on, omit to skip the check", example = "3")
+  private Long version;
+}
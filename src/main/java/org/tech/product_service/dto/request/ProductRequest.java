@@ -35,7 +35,7 @@ public class ProductRequest {
   @NotNull(message = "Product price in EUR is required")
   @DecimalMin(value = "0.0",
               message = "Price in EUR must be greater than 0.0 EUR")
-  @Digits(integer = 17, fraction = 2,
+  @Digits(integer = 15, fraction = 2,
           message = "Price in EUR must be a valid monetary amount with up to 2 decimal places")
   private BigDecimal priceEur;
 
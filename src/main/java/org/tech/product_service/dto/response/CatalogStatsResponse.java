@@ -0,0 +1,57 @@
+package org.tech.product_service.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Statistics over the whole product catalog.
+ * @author Josip Begic
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CatalogStatsResponse {
+  @Schema(description = "Number of products", example = "1000000")
+  private long productCount;
+  @Schema(description = "Number of available products", example = "920000")
+  private long availableCount;
+  @Schema(description = "Share of available products, 0 without products", example = "0.92")
+  private double availabilityRatio;
+  @Schema(description = "Number of products whose USD price is pending", example = "0")
+  private long pendingPriceCount;
+  @Schema(description = "EUR price distribution, missing without products")
+  private PriceStatistics priceEur;
+  @Schema(description = "USD price distribution over priced products, missing without priced products")
+  private PriceStatistics priceUsd;
+  @Schema(description = "Latest product update", example = "2025-09-18T10:15:30")
+  private LocalDateTime lastUpdatedAt;
+  @Schema(description = "Time the statistics were computed", example = "2025-09-18T10:15:31")
+  private LocalDateTime computedAt;
+
+  @Data
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  public static class PriceStatistics {
+    @Schema(description = "Lowest price", example = "0.99")
+    private BigDecimal min;
+    @Schema(description = "Highest price", example = "4999.00")
+    private BigDecimal max;
+    @Schema(description = "Average price, rounded half up to cents", example = "84.37")
+    private BigDecimal avg;
+    @Schema(description = "Median price (nearest rank)", example = "39.99")
+    private BigDecimal p50;
+    @Schema(description = "90th percentile price (nearest rank)", example = "199.00")
+    private BigDecimal p90;
+    @Schema(description = "99th percentile price (nearest rank)", example = "1299.00")
+    private BigDecimal p99;
+  }
+}
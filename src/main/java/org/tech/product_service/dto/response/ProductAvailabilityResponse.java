@@ -0,0 +1,25 @@
+package org.tech.product_service.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Summary of a bulk availability update.
+ * @author Josip Begic
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductAvailabilityResponse {
+  @Schema(description = "Number of distinct product codes in the request", example = "2500")
+  private int requested;
+  @Schema(description = "Number of products whose availability changed", example = "2480")
+  private int updated;
+  @Schema(description = "Availability status that was set", example = "false")
+  private Boolean isAvailable;
+}
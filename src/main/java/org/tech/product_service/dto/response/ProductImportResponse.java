@@ -0,0 +1,43 @@
+package org.tech.product_service.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Summary of a bulk CSV product import.
+ * @author Josip Begic
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductImportResponse {
+  @Schema(description = "Number of data rows read from the file", example = "1000000")
+  private long rowsRead;
+  @Schema(description = "Number of products inserted or updated", example = "999998")
+  private long rowsImported;
+  @Schema(description = "Number of rows rejected by validation", example = "2")
+  private long rowsRejected;
+  @Schema(description = "Total import duration in milliseconds", example = "8500")
+  private long durationMillis;
+  @Schema(description = "Import throughput in rows per second", example = "117647")
+  private long rowsPerSecond;
+  @Schema(description = "Rejected rows with the reason, limited to the first 1000 rejects")
+  private List<Reject> rejects;
+
+  @Data
+  @AllArgsConstructor
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  public static class Reject {
+    @Schema(description = "Line number in the CSV file", example = "42")
+    private long line;
+    @Schema(description = "Reason the row was rejected", example = "code: Product code must be exact 10 characters long")
+    private String reason;
+  }
+}
@@ -0,0 +1,25 @@
+package org.tech.product_service.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a multi-get by product ID.
+ * @author Josip Begic
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductLookupResponse {
+  @Schema(description = "Found products, in the order of their first occurrence in the request")
+  private List<ProductResponse> products;
+  @Schema(description = "Requested IDs without a product, in request order", example = "[2]")
+  private List<Long> missingIds;
+}
@@ -3,6 +3,8 @@ package org.tech.product_service.dto.response;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import org.tech.product_service.model.PriceStatus;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -24,12 +26,16 @@ public class ProductResponse {
   private String name;
   @Schema(description = "Price of the product in EUR", example = "9.99")
   private BigDecimal priceEur;
-  @Schema(description = "Price of the product in USD", example = "10.99")
+  @Schema(description = "Price of the product in USD, null while the price is pending", example = "10.99")
   private BigDecimal priceUsd;
+  @Schema(description = "Whether the USD price is calculated or pending an exchange rate", example = "PRICED")
+  private PriceStatus priceStatus;
   @Schema(description = "Availability status of the product", example = "true")
   private Boolean isAvailable;
   @Schema(description = "Timestamp when the product was created", example = "2025-10-05T00:00:00")
   private LocalDateTime createdAt;
   @Schema(description = "Timestamp when the product was last updated", example = "2025-10-05T00:00:00")
   private LocalDateTime updatedAt;
+  @Schema(description = "Optimistic lock version, incremented on every update", example = "0")
+  private Long version;
 }
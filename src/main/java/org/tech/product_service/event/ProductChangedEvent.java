@@ -0,0 +1,66 @@
+package org.tech.product_service.event;
+
+import java.util.List;
+
+import org.tech.product_service.dto.response.ProductResponse;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Application event published when products change.
+ * <p>
+ *   Listeners that must only see committed changes use
+ *   {@link org.springframework.transaction.event.TransactionalEventListener}.
+ * </p>
+ * @param type kind of change
+ * @param product the product after the change, or {@code null} for {@link ChangeType#IMPORTED} and
+ *                {@link ChangeType#AVAILABILITY_CHANGED}
+ * @param availability the bulk availability change, only for {@link ChangeType#AVAILABILITY_CHANGED}
+ * @author Josip Begic
+ */
+public record ProductChangedEvent(ChangeType type, ProductResponse product,
+                                  @JsonInclude(JsonInclude.Include.NON_NULL) AvailabilityChange availability) {
+
+  public enum ChangeType {
+    /**
+     * A product was created.
+     */
+    CREATED,
+    /**
+     * A product was updated, e.g. its pending USD price was calculated.
+     */
+    UPDATED,
+    /**
+     * A bulk import inserted or updated an unknown set of products; consumers should re-read the catalog.
+     */
+    IMPORTED,
+    /**
+     * The availability of a set of products was changed by code.
+     */
+    AVAILABILITY_CHANGED
+  }
+
+  /**
+   * Availability set for a list of product codes. Codes that already had that availability are included.
+   * @param codes product codes
+   * @param isAvailable availability that was set
+   */
+  public record AvailabilityChange(List<String> codes, boolean isAvailable) {
+  }
+
+  public static ProductChangedEvent created(ProductResponse product) {
+    return new ProductChangedEvent(ChangeType.CREATED, product, null);
+  }
+
+  public static ProductChangedEvent updated(ProductResponse product) {
+    return new ProductChangedEvent(ChangeType.UPDATED, product, null);
+  }
+
+  public static ProductChangedEvent imported() {
+    return new ProductChangedEvent(ChangeType.IMPORTED, null, null);
+  }
+
+  public static ProductChangedEvent availabilityChanged(List<String> codes, boolean isAvailable) {
+    return new ProductChangedEvent(ChangeType.AVAILABILITY_CHANGED, null, new AvailabilityChange(codes, isAvailable));
+  }
+}
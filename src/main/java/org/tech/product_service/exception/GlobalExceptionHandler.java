@@ -1,9 +1,11 @@
 package org.tech.product_service.exception;
 
 import java.net.URI;
+import java.time.Clock;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -24,6 +26,11 @@ import lombok.extern.slf4j.Slf4j;
  * Handles validation errors, method not allowed errors,
  * custom product service exceptions and generic exceptions.
  * Returns structured ProblemDetail responses.
+ * <p>
+ *   Client errors are expected and can arrive in floods, e.g. crawlers requesting deleted products. They
+ *   are logged at WARN and sampled to {@value #CLIENT_ERROR_LOG_LINES_PER_SECOND} lines per second; only
+ *   server errors are logged at ERROR with every occurrence.
+ * </p>
  *
  * @author Josip Begic
  */
@@ -32,11 +39,16 @@ import lombok.extern.slf4j.Slf4j;
 public class GlobalExceptionHandler {
 
   private static final String TIMESTAMP_PROPERTY = "timestamp";
+  static final int CLIENT_ERROR_LOG_LINES_PER_SECOND = 10;
+  // The system clock avoids looking up the default time zone for every response.
+  private static final Clock CLOCK = Clock.systemDefaultZone();
+
+  private final LogSampler clientErrorLogSampler = new LogSampler(CLIENT_ERROR_LOG_LINES_PER_SECOND);
 
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ProblemDetail> handleMethodArgumentNotValidException(
       MethodArgumentNotValidException ex, HttpServletRequest httpServletRequest) {
-    log.error("Validation error: {}", ex.getMessage());
+    logClientError("Validation error: {}", ex::getMessage);
     ProblemDetail problemDetails = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST,
         "One or more fields are invalid. See 'errors' for details.");
     problemDetails.setTitle("Validation failed");
@@ -45,7 +57,7 @@ public class GlobalExceptionHandler {
     ex.getBindingResult().getFieldErrors().forEach(
         fieldError -> fieldErrors.put(fieldError.getField(), fieldError.getDefaultMessage()));
     if (!fieldErrors.isEmpty()) problemDetails.setProperty("errors", fieldErrors);
-    problemDetails.setProperty(TIMESTAMP_PROPERTY, ZonedDateTime.now());
+    problemDetails.setProperty(TIMESTAMP_PROPERTY, ZonedDateTime.now(CLOCK));
     return ResponseEntity
         .status(HttpStatus.BAD_REQUEST)
         .contentType(MediaType.APPLICATION_PROBLEM_JSON)
@@ -55,12 +67,12 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(NoResourceFoundException.class)
   public ResponseEntity<ProblemDetail> handleNoResourceFoundException(
       NoResourceFoundException ex, HttpServletRequest httpServletRequest) {
-    log.error("Resource not found: {}", ex.getMessage());
+    logClientError("Resource not found: {}", ex::getMessage);
     ProblemDetail problemDetails = ProblemDetail
         .forStatusAndDetail(HttpStatus.NOT_FOUND, "The requested resource was not found.");
     problemDetails.setTitle("Resource Not Found");
     problemDetails.setInstance(URI.create(httpServletRequest.getRequestURI()));
-    problemDetails.setProperty(TIMESTAMP_PROPERTY, ZonedDateTime.now());
+    problemDetails.setProperty(TIMESTAMP_PROPERTY, ZonedDateTime.now(CLOCK));
     return ResponseEntity
         .status(HttpStatus.NOT_FOUND)
         .contentType(MediaType.APPLICATION_PROBLEM_JSON)
@@ -70,12 +82,12 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
   public ResponseEntity<ProblemDetail> handleHttpMethodNotSupportedException(
       HttpRequestMethodNotSupportedException ex, HttpServletRequest httpServletRequest) {
-    log.error("Method not allowed: {}", ex.getMessage());
+    logClientError("Method not allowed: {}", ex::getMessage);
     ProblemDetail problemDetails = ProblemDetail
         .forStatusAndDetail(HttpStatus.METHOD_NOT_ALLOWED, ex.getMessage());
     problemDetails.setTitle("Method Not Allowed");
     problemDetails.setInstance(URI.create(httpServletRequest.getRequestURI()));
-    problemDetails.setProperty(TIMESTAMP_PROPERTY, ZonedDateTime.now());
+    problemDetails.setProperty(TIMESTAMP_PROPERTY, ZonedDateTime.now(CLOCK));
     return ResponseEntity
         .status(HttpStatus.METHOD_NOT_ALLOWED)
         .contentType(MediaType.APPLICATION_PROBLEM_JSON)
@@ -85,12 +97,12 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(HttpMessageNotReadableException.class)
   public ResponseEntity<ProblemDetail> handleHttpMessageNotReadableException(
       HttpMessageNotReadableException ex, HttpServletRequest httpServletRequest) {
-    log.error("Malformed JSON request: {}", ex.getMessage());
+    logClientError("Malformed JSON request: {}", ex::getMessage);
     ProblemDetail problemDetails = ProblemDetail
         .forStatusAndDetail(HttpStatus.BAD_REQUEST, "Malformed JSON request. Please check the syntax.");
     problemDetails.setTitle("Bad Request");
     problemDetails.setInstance(URI.create(httpServletRequest.getRequestURI()));
-    problemDetails.setProperty(TIMESTAMP_PROPERTY, ZonedDateTime.now());
+    problemDetails.setProperty(TIMESTAMP_PROPERTY, ZonedDateTime.now(CLOCK));
     return ResponseEntity
         .status(HttpStatus.BAD_REQUEST)
         .contentType(MediaType.APPLICATION_PROBLEM_JSON)
@@ -100,12 +112,16 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(ProductServiceException.class)
   public ResponseEntity<ProblemDetail> handleProductServiceException(
       ProductServiceException ex, HttpServletRequest httpServletRequest) {
-    log.error("Product service error: {}", ex.getMessage());
+    if (ex.getHttpStatus().is4xxClientError()) {
+      logClientError("Product service error: {}", ex::getMessage);
+    } else {
+      log.error("Product service error: {}", ex.getMessage());
+    }
     ProblemDetail problemDetails = ProblemDetail
         .forStatusAndDetail(ex.getHttpStatus(), ex.getMessage());
     problemDetails.setTitle("Product Service Error");
     problemDetails.setInstance(URI.create(httpServletRequest.getRequestURI()));
-    problemDetails.setProperty(TIMESTAMP_PROPERTY, ZonedDateTime.now());
+    problemDetails.setProperty(TIMESTAMP_PROPERTY, ZonedDateTime.now(CLOCK));
     return ResponseEntity
         .status(ex.getHttpStatus())
         .contentType(MediaType.APPLICATION_PROBLEM_JSON)
@@ -120,10 +136,27 @@ public class GlobalExceptionHandler {
         "An unexpected error occurred. Please try again later.");
     problemDetails.setTitle("Internal Server Error");
     problemDetails.setInstance(URI.create(httpServletRequest.getRequestURI()));
-    problemDetails.setProperty(TIMESTAMP_PROPERTY, ZonedDateTime.now());
+    problemDetails.setProperty(TIMESTAMP_PROPERTY, ZonedDateTime.now(CLOCK));
     return ResponseEntity
         .status(HttpStatus.INTERNAL_SERVER_ERROR)
         .contentType(MediaType.APPLICATION_PROBLEM_JSON)
         .body(problemDetails);
   }
+
+  /**
+   * Logs a client error at WARN unless the sampling limit for this second is used up.
+   * @param format log message format with one placeholder
+   * @param message supplies the message argument; only called when the line is written
+   */
+  private void logClientError(String format, Supplier<String> message) {
+    if (!log.isWarnEnabled()) {
+      return;
+    }
+    long suppressed = clientErrorLogSampler.acquire(System.nanoTime());
+    if (suppressed == 0) {
+      log.warn(format, message.get());
+    } else if (suppressed > 0) {
+      log.warn(format + " ({} similar errors not logged)", message.get(), suppressed);
+    }
+  }
 }
@@ -0,0 +1,48 @@
+package org.tech.product_service.exception;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits how many log lines of one kind are written per second. Lines over the limit are counted, and the
+ * count is reported with the next line that is written.
+ * <p>
+ *   The limit is approximate: threads that race on a window change may let a few extra lines through.
+ * </p>
+ * @author Josip Begic
+ */
+final class LogSampler {
+
+  static final long NOT_PERMITTED = -1;
+
+  private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final int linesPerSecond;
+  private final AtomicLong window = new AtomicLong(Long.MIN_VALUE);
+  private final AtomicInteger lines = new AtomicInteger();
+  private final LongAdder suppressed = new LongAdder();
+
+  LogSampler(int linesPerSecond) {
+    this.linesPerSecond = linesPerSecond;
+  }
+
+  /**
+   * Asks for permission to write a line.
+   * @param nowNanos current {@link System#nanoTime()}
+   * @return the number of lines suppressed since the last permitted one, or {@link #NOT_PERMITTED}
+   */
+  long acquire(long nowNanos) {
+    long current = nowNanos / WINDOW_NANOS;
+    long previous = window.get();
+    if (previous != current && window.compareAndSet(previous, current)) {
+      lines.set(0);
+    }
+    if (lines.incrementAndGet() <= linesPerSecond) {
+      return suppressed.sumThenReset();
+    }
+    suppressed.increment();
+    return NOT_PERMITTED;
+  }
+}
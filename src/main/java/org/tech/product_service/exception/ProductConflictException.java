@@ -0,0 +1,16 @@
+package org.tech.product_service.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a request conflicts with the current state of a product, e.g. a duplicate code or a stale
+ * version. Conflicts are an expected outcome, so the exception carries no stack trace.
+ *
+ * @author Josip Begic
+ */
+public class ProductConflictException extends ProductServiceException {
+
+  public ProductConflictException(String message) {
+    super(message, HttpStatus.CONFLICT, false);
+  }
+}
@@ -0,0 +1,16 @@
+package org.tech.product_service.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a requested product does not exist. Missing products are an expected outcome, so the
+ * exception carries no stack trace.
+ *
+ * @author Josip Begic
+ */
+public class ProductNotFoundException extends ProductServiceException {
+
+  public ProductNotFoundException(String message) {
+    super(message, HttpStatus.NOT_FOUND, false);
+  }
+}
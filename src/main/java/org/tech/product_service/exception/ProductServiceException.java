@@ -8,6 +8,10 @@ import lombok.Getter;
  * Custom exception class for handling product service related errors.
  * This exception can be thrown when specific error conditions occur
  * within the product service operations.
+ * <p>
+ *   Expected outcomes that clients can trigger at high volume, like a missing product, use the stackless
+ *   subclasses {@link ProductNotFoundException} and {@link ProductConflictException}.
+ * </p>
  *
  * @author Josip Begic
  */
@@ -20,4 +24,13 @@ public class ProductServiceException extends RuntimeException {
     super(message);
     this.httpStatus = httpStatus;
   }
+
+  /**
+   * Creates an exception that skips capturing the stack trace when {@code writableStackTrace} is
+   * {@code false}. Filling in the stack trace is the most expensive part of throwing.
+   */
+  protected ProductServiceException(String message, HttpStatus httpStatus, boolean writableStackTrace) {
+    super(message, null, false, writableStackTrace);
+    this.httpStatus = httpStatus;
+  }
 }
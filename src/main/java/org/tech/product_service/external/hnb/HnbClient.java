@@ -9,6 +9,7 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
+import org.tech.product_service.config.SpringCachingConfig;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,7 +22,6 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class HnbClient {
 
-  private static final String EXCHANGE_RATES_CACHE = "exchangeRates";
   private static final String CURRENCY_QUERY = "valuta";
 
   private final RestTemplate restTemplate;
@@ -40,7 +40,7 @@ public class HnbClient {
    * @param currency Currency code (e.g. "USD", "EUR") ISO 4217
    * @return HnbRateDto containing exchange rate information
    */
-  @Cacheable(value = EXCHANGE_RATES_CACHE, key = "#currency")
+  @Cacheable(value = SpringCachingConfig.EXCHANGE_RATES_CACHE, key = "#currency")
   public HnbRateDto getExchangeRateForCurrency(String currency) {
     log.info("Getting exchange rate for {}", currency);
 
@@ -58,7 +58,7 @@ public class HnbClient {
    * @param currency Currency code (e.g. "USD", "EUR") ISO 4217
    * @return HnbRateDto containing updated exchange rate information
    */
-  @CachePut(value = EXCHANGE_RATES_CACHE, key = "#currency")
+  @CachePut(value = SpringCachingConfig.EXCHANGE_RATES_CACHE, key = "#currency")
   public HnbRateDto refreshExchangeRateForCurrency(String currency) {
     log.info("Refreshing exchange rate for {}", currency);
     UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(hnbApiUrl)
@@ -0,0 +1,116 @@
+package org.tech.product_service.filter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.tech.product_service.config.AdmissionControlProperties;
+import org.tech.product_service.limit.AdaptiveConcurrencyLimiter;
+import org.tech.product_service.limit.EndpointClass;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AdmissionControlFilter sheds load before it reaches the application when the service is congested.
+ * <p>
+ *   Reads and writes are tracked by separate {@link AdaptiveConcurrencyLimiter}s. A request that would
+ *   exceed the current limit of its endpoint class is rejected immediately with a pre-encoded
+ *   {@code 503} problem response and a {@code Retry-After} header, instead of queueing in Tomcat until
+ *   it times out. Actuator endpoints (health and readiness probes) are always admitted. Requests
+ *   rejected by {@link RateLimitFilter} never reach this filter.
+ * </p>
+ * @see AdmissionControlProperties
+ * @author Josip Begic
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+  private static final String ACTUATOR_PATH = "/actuator";
+  private static final byte[] OVERLOADED_BODY = ("{\"type\":\"about:blank\",\"title\":\"Service Unavailable\","
+      + "\"status\":503,\"detail\":\"The service is overloaded. Please retry later.\"}")
+      .getBytes(StandardCharsets.UTF_8);
+
+  private final Map<EndpointClass, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(EndpointClass.class);
+  private final Map<EndpointClass, Counter> rejected = new EnumMap<>(EndpointClass.class);
+  private final String retryAfterSeconds;
+
+  public AdmissionControlFilter(AdmissionControlProperties properties, MeterRegistry meterRegistry) {
+    this.retryAfterSeconds = String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds()));
+    for (EndpointClass endpointClass : EndpointClass.values()) {
+      long latencyTarget = (endpointClass == EndpointClass.READ
+          ? properties.getReadLatencyTarget() : properties.getWriteLatencyTarget()).toNanos();
+      AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties.getInitialLimit(),
+          properties.getMinLimit(), properties.getMaxLimit(), properties.getBackoffRatio(), latencyTarget);
+      limiters.put(endpointClass, limiter);
+
+      String tag = endpointClass.name().toLowerCase(Locale.ROOT);
+      Gauge.builder("product.admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+          .description("Current adaptive concurrency limit")
+          .tag("endpoint", tag)
+          .register(meterRegistry);
+      Gauge.builder("product.admission.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+          .description("Admitted requests in flight")
+          .tag("endpoint", tag)
+          .register(meterRegistry);
+      rejected.put(endpointClass, Counter.builder("product.admission.rejected")
+          .description("Requests shed by admission control")
+          .tag("endpoint", tag)
+          .register(meterRegistry));
+    }
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    return request.getRequestURI().startsWith(ACTUATOR_PATH);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain) throws IOException, ServletException {
+    EndpointClass endpointClass = EndpointClass.of(request.getMethod(), request.getRequestURI());
+    AdaptiveConcurrencyLimiter limiter = limiters.get(endpointClass);
+    if (!limiter.tryAcquire()) {
+      rejected.get(endpointClass).increment();
+      log.debug("Shedding {} {}, {} limit {} reached", request.getMethod(), request.getRequestURI(),
+          endpointClass, limiter.getLimit());
+      response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+      response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+      response.setContentLength(OVERLOADED_BODY.length);
+      response.getOutputStream().write(OVERLOADED_BODY);
+      return;
+    }
+
+    long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      filterChain.doFilter(request, response);
+      failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+    } finally {
+      limiter.release(System.nanoTime() - start, failed);
+    }
+  }
+
+  AdaptiveConcurrencyLimiter getLimiter(EndpointClass endpointClass) {
+    return limiters.get(endpointClass);
+  }
+}
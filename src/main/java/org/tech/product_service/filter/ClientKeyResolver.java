@@ -0,0 +1,35 @@
+package org.tech.product_service.filter;
+
+import java.util.Set;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Identifies the client that sent a request, for state kept per client such as rate limits and idempotency keys.
+ * <p>
+ *   A client is identified by its API key when it is one of {@code product.rate-limit.api-keys}, otherwise by its
+ *   address. Only configured keys count: anything else could be rotated for fresh state on every request or sent
+ *   to pose as another client.
+ * </p>
+ * @see RateLimitFilter
+ * @author Josip Begic
+ */
+public class ClientKeyResolver {
+
+  private final String apiKeyHeader;
+  private final Set<String> apiKeys;
+
+  public ClientKeyResolver(String apiKeyHeader, Set<String> apiKeys) {
+    this.apiKeyHeader = apiKeyHeader;
+    this.apiKeys = Set.copyOf(apiKeys);
+  }
+
+  /**
+   * @param request the request
+   * @return {@code key:} followed by the API key, or {@code ip:} followed by the remote address
+   */
+  public String resolve(HttpServletRequest request) {
+    String apiKey = request.getHeader(apiKeyHeader);
+    return apiKey != null && apiKeys.contains(apiKey) ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+  }
+}
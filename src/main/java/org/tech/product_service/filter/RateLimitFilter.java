@@ -0,0 +1,124 @@
+package org.tech.product_service.filter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.tech.product_service.config.RateLimitProperties;
+import org.tech.product_service.limit.ClientRateLimiter;
+import org.tech.product_service.limit.EndpointClass;
+import org.tech.product_service.limit.TokenBucket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RateLimitFilter limits the request rate of each client.
+ * <p>
+ *   Clients are identified by {@link ClientKeyResolver}: by their API key when it is one of
+ *   {@code product.rate-limit.api-keys}, otherwise by their address. Every client has one {@link TokenBucket} for
+ *   reads and one for writes. Responses carry the {@code RateLimit-Limit}, {@code RateLimit-Remaining} and
+ *   {@code RateLimit-Reset} headers; a client with an empty bucket gets a {@code 429} problem response with
+ *   {@code Retry-After}. Actuator endpoints are not limited. The filter runs before {@link AdmissionControlFilter},
+ *   so rejected requests never take an admission slot or feed its latency samples.
+ * </p>
+ * @see RateLimitProperties
+ * @author Josip Begic
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  static final String LIMIT_HEADER = "RateLimit-Limit";
+  static final String REMAINING_HEADER = "RateLimit-Remaining";
+  static final String RESET_HEADER = "RateLimit-Reset";
+
+  private static final String ACTUATOR_PATH = "/actuator";
+  private static final byte[] TOO_MANY_REQUESTS_BODY = ("{\"type\":\"about:blank\",\"title\":\"Too Many Requests\","
+      + "\"status\":429,\"detail\":\"Rate limit exceeded. Please retry later.\"}")
+      .getBytes(StandardCharsets.UTF_8);
+
+  private final Map<EndpointClass, ClientRateLimiter> limiters = new EnumMap<>(EndpointClass.class);
+  private final Map<EndpointClass, Counter> rejected = new EnumMap<>(EndpointClass.class);
+  private final ClientKeyResolver clientKeyResolver;
+
+  public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+    this.clientKeyResolver = new ClientKeyResolver(properties.getApiKeyHeader(), properties.getApiKeys());
+    long idleNanos = properties.getIdleTimeout().toNanos();
+    for (EndpointClass endpointClass : EndpointClass.values()) {
+      RateLimitProperties.Limit limit = endpointClass == EndpointClass.READ ? properties.getRead() : properties.getWrite();
+      ClientRateLimiter limiter = new ClientRateLimiter(limit.getCapacity(), limit.getRefillPerSecond(), idleNanos,
+          properties.getMaxClients());
+      limiters.put(endpointClass, limiter);
+
+      String tag = endpointClass.name().toLowerCase(Locale.ROOT);
+      Gauge.builder("product.rate.limit.clients", limiter, ClientRateLimiter::size)
+          .description("Clients with a tracked token bucket")
+          .tag("endpoint", tag)
+          .register(meterRegistry);
+      rejected.put(endpointClass, Counter.builder("product.rate.limit.rejected")
+          .description("Requests rejected by the per-client rate limit")
+          .tag("endpoint", tag)
+          .register(meterRegistry));
+    }
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    return request.getRequestURI().startsWith(ACTUATOR_PATH);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain) throws IOException, ServletException {
+    EndpointClass endpointClass = EndpointClass.of(request.getMethod(), request.getRequestURI());
+    ClientRateLimiter limiter = limiters.get(endpointClass);
+    long now = System.nanoTime();
+    TokenBucket bucket = limiter.bucket(clientKeyResolver.resolve(request), now);
+    long remaining = bucket.tryConsume(now);
+
+    response.setHeader(LIMIT_HEADER, String.valueOf(limiter.getCapacity()));
+    if (remaining < 0) {
+      String retryAfter = String.valueOf(toSeconds(-remaining));
+      rejected.get(endpointClass).increment();
+      log.debug("Rate limiting {} {}, {} limit exhausted", request.getMethod(), request.getRequestURI(), endpointClass);
+      response.setHeader(REMAINING_HEADER, "0");
+      response.setHeader(RESET_HEADER, retryAfter);
+      response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+      response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+      response.setContentLength(TOO_MANY_REQUESTS_BODY.length);
+      response.getOutputStream().write(TOO_MANY_REQUESTS_BODY);
+      return;
+    }
+    response.setHeader(REMAINING_HEADER, String.valueOf(remaining));
+    response.setHeader(RESET_HEADER, String.valueOf(toSeconds(bucket.nanosUntilFull(now))));
+    filterChain.doFilter(request, response);
+  }
+
+  ClientRateLimiter getLimiter(EndpointClass endpointClass) {
+    return limiters.get(endpointClass);
+  }
+
+  private static long toSeconds(long nanos) {
+    return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+  }
+}
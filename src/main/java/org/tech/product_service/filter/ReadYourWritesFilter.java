@@ -0,0 +1,78 @@
+package org.tech.product_service.filter;
+
+import java.io.IOException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.tech.product_service.config.ReplicaDataSourceProperties;
+import org.tech.product_service.datasource.ReplicaRoutingContext;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ReadYourWritesFilter keeps clients on the primary database shortly after they wrote.
+ * <p>
+ *   When a request starts a read-write transaction, a cookie with the end of the sticky window is
+ *   added to the response. Requests carrying a cookie that has not expired read from the primary, so
+ *   a client never reads its own write from a replica that has not replayed it yet.
+ * </p>
+ * @see ReplicaRoutingContext
+ * @author Josip Begic
+ */
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "product.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+  static final String PRIMARY_UNTIL_COOKIE = "ps-primary-until";
+
+  private final ReplicaDataSourceProperties replicaProperties;
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain) throws IOException, ServletException {
+    long now = System.currentTimeMillis();
+    ReplicaRoutingContext.begin(primaryUntil(request) > now, () -> {
+      long stickyMillis = replicaProperties.getStickyWindow().toMillis();
+      Cookie cookie = new Cookie(PRIMARY_UNTIL_COOKIE, String.valueOf(now + stickyMillis));
+      cookie.setPath("/");
+      cookie.setHttpOnly(true);
+      cookie.setMaxAge((int) Math.max(1, stickyMillis / 1000));
+      response.addCookie(cookie);
+    });
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      ReplicaRoutingContext.clear();
+    }
+  }
+
+  private static long primaryUntil(HttpServletRequest request) {
+    Cookie[] cookies = request.getCookies();
+    if (cookies == null) {
+      return 0;
+    }
+    for (Cookie cookie : cookies) {
+      if (PRIMARY_UNTIL_COOKIE.equals(cookie.getName())) {
+        try {
+          return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException ex) {
+          return 0;
+        }
+      }
+    }
+    return 0;
+  }
+}
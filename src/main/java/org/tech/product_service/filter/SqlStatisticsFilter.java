@@ -0,0 +1,65 @@
+package org.tech.product_service.filter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.tech.product_service.sql.SqlStatistics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SqlStatisticsFilter counts the SQL statements and database time of every request.
+ * <p>
+ *   The counts are recorded per endpoint as {@code product.sql.statements} and {@code product.sql.time}, and
+ *   exposed to tests as the {@value #STATISTICS_ATTRIBUTE} request attribute.
+ * </p>
+ * @see SqlStatistics
+ * @author Josip Begic
+ */
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+  public static final String STATISTICS_ATTRIBUTE = SqlStatistics.class.getName();
+  static final String UNKNOWN_URI = "UNKNOWN";
+
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain) throws IOException, ServletException {
+    SqlStatistics statistics = SqlStatistics.begin();
+    request.setAttribute(STATISTICS_ATTRIBUTE, statistics);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      SqlStatistics.end();
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+      DistributionSummary.builder("product.sql.statements")
+          .description("SQL statements executed per request")
+          .tags("method", request.getMethod(), "uri", uri)
+          .register(meterRegistry)
+          .record(statistics.statements());
+      Timer.builder("product.sql.time")
+          .description("Time spent executing SQL statements per request")
+          .tags("method", request.getMethod(), "uri", uri)
+          .register(meterRegistry)
+          .record(statistics.nanos(), TimeUnit.NANOSECONDS);
+    }
+  }
+}
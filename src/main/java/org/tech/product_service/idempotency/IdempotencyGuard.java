@@ -0,0 +1,221 @@
+package org.tech.product_service.idempotency;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.tech.product_service.config.IdempotencyProperties;
+import org.tech.product_service.dto.request.ProductRequest;
+import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.exception.ProductServiceException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executes product creations at most once per {@code Idempotency-Key}.
+ * <p>
+ *   The first request with a key claims it in the {@link IdempotencyStore}, executes and stores its response.
+ *   Retries with the same key and the same body get that response replayed, with an
+ *   {@value #REPLAYED_HEADER} header, without reaching the database or the exchange rate API. Requests arriving
+ *   while the first one still runs wait for it instead of executing again: on this instance they share its
+ *   future, a request running on another instance is polled for in the shared store. A failed request releases
+ *   its key, so the client's next retry executes again. Reusing a key for a different body is rejected with 422.
+ * </p>
+ * <p>
+ *   Keys are scoped by the client that sent them, so a client can neither replay nor block another client's
+ *   request by guessing its key. The store only sees a hash of the client and the key.
+ * </p>
+ * @author Josip Begic
+ */
+@Slf4j
+public class IdempotencyGuard {
+
+  public static final String KEY_HEADER = "Idempotency-Key";
+  public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+  static final int MAX_KEY_LENGTH = 255;
+
+  private final IdempotencyStore store;
+  private final IdempotencyProperties properties;
+  private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+  private final Counter replays;
+
+  public IdempotencyGuard(IdempotencyStore store, IdempotencyProperties properties, MeterRegistry meterRegistry) {
+    this.store = store;
+    this.properties = properties;
+    this.replays = Counter.builder("product.idempotency.replays")
+        .description("Product creations answered with the stored response of an earlier request")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Executes the creation unless a request of the same client with the same key already did.
+   * @param client identity of the client, see {@link org.tech.product_service.filter.ClientKeyResolver}
+   * @param idempotencyKey the {@code Idempotency-Key} header
+   * @param request the creation request
+   * @param create executes the creation
+   * @return the response of the request that executed
+   */
+  public ResponseEntity<ProductResponse> execute(String client, String idempotencyKey, ProductRequest request,
+      Supplier<ResponseEntity<ProductResponse>> create) {
+    if (!properties.isEnabled()) {
+      return create.get();
+    }
+    if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+      throw new ProductServiceException(
+          KEY_HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters long.", HttpStatus.BAD_REQUEST);
+    }
+    String key = storeKey(client, idempotencyKey);
+    String fingerprint = fingerprint(request);
+    while (true) {
+      InFlight running = inFlight.get(key);
+      if (running != null) {
+        checkFingerprint(running.fingerprint(), fingerprint);
+        return replay(await(running.response()));
+      }
+      InFlight own = new InFlight(fingerprint, new CompletableFuture<>());
+      if (inFlight.putIfAbsent(key, own) == null) {
+        try {
+          return executeOwned(key, fingerprint, own.response(), create);
+        } finally {
+          inFlight.remove(key, own);
+        }
+      }
+    }
+  }
+
+  private ResponseEntity<ProductResponse> executeOwned(String key, String fingerprint,
+      CompletableFuture<StoredResponse> future, Supplier<ResponseEntity<ProductResponse>> create) {
+    IdempotencyRecord existing;
+    try {
+      existing = store.claim(key, fingerprint);
+      if (existing != null) {
+        checkFingerprint(existing.fingerprint(), fingerprint);
+        StoredResponse stored = existing.isCompleted() ? existing.response() : pollStore(key, fingerprint);
+        future.complete(stored);
+        return replay(stored);
+      }
+    } catch (RuntimeException ex) {
+      future.completeExceptionally(ex);
+      throw ex;
+    }
+    ResponseEntity<ProductResponse> response;
+    try {
+      response = create.get();
+    } catch (RuntimeException ex) {
+      store.release(key);
+      future.completeExceptionally(ex);
+      throw ex;
+    }
+    StoredResponse stored = new StoredResponse(response.getStatusCode().value(), response.getHeaders().getLocation(),
+        response.getBody());
+    future.complete(stored);
+    try {
+      store.complete(key, stored);
+    } catch (RuntimeException ex) {
+      log.warn("Failed to store the response for {} {}: {}", KEY_HEADER, key, ex.getMessage());
+      store.release(key);
+    }
+    return response;
+  }
+
+  private StoredResponse await(CompletableFuture<StoredResponse> response) {
+    try {
+      return response.get(properties.getWaitTimeout().toNanos(), TimeUnit.NANOSECONDS);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(ex.getCause());
+    } catch (TimeoutException ex) {
+      throw stillInProgress();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw stillInProgress();
+    }
+  }
+
+  private StoredResponse pollStore(String key, String fingerprint) {
+    long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+    long pollMillis = Math.max(1, properties.getPollInterval().toMillis());
+    while (System.nanoTime() < deadline) {
+      try {
+        Thread.sleep(pollMillis);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      IdempotencyRecord current = store.find(key);
+      if (current == null) {
+        throw new ProductServiceException("The request with this " + KEY_HEADER + " failed, retry it.",
+            HttpStatus.CONFLICT);
+      }
+      checkFingerprint(current.fingerprint(), fingerprint);
+      if (current.isCompleted()) {
+        return current.response();
+      }
+    }
+    throw stillInProgress();
+  }
+
+  private ResponseEntity<ProductResponse> replay(StoredResponse stored) {
+    replays.increment();
+    return ResponseEntity.status(stored.status())
+        .location(stored.location())
+        .header(REPLAYED_HEADER, "true")
+        .body(stored.body());
+  }
+
+  private static void checkFingerprint(String expected, String actual) {
+    if (!expected.equals(actual)) {
+      throw new ProductServiceException(KEY_HEADER + " was already used for a different request.",
+          HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+  }
+
+  private static ProductServiceException stillInProgress() {
+    return new ProductServiceException("A request with this " + KEY_HEADER + " is still being processed.",
+        HttpStatus.CONFLICT);
+  }
+
+  /**
+   * SHA-256 of the client and the key; fits the store whatever the length of the client identity.
+   */
+  static String storeKey(String client, String idempotencyKey) {
+    return sha256(client + '\u0000' + idempotencyKey);
+  }
+
+  /**
+   * SHA-256 of the request fields; prices are compared by value, so {@code 10.0} and {@code 10.00} match.
+   */
+  static String fingerprint(ProductRequest request) {
+    BigDecimal price = request.getPriceEur();
+    String canonical = request.getCode() + '\u0000' + request.getName() + '\u0000'
+        + (price == null ? null : price.stripTrailingZeros().toPlainString()) + '\u0000' + request.getIsAvailable();
+    return sha256(canonical);
+  }
+
+  private static String sha256(String value) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private record InFlight(String fingerprint, CompletableFuture<StoredResponse> response) {
+  }
+}
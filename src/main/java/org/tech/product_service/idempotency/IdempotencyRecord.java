@@ -0,0 +1,14 @@
+package org.tech.product_service.idempotency;
+
+/**
+ * State of an {@code Idempotency-Key} in an {@link IdempotencyStore}.
+ * @param fingerprint fingerprint of the request that claimed the key
+ * @param response the stored response, or {@code null} while that request is still running
+ * @author Josip Begic
+ */
+public record IdempotencyRecord(String fingerprint, StoredResponse response) {
+
+  public boolean isCompleted() {
+    return response != null;
+  }
+}
@@ -0,0 +1,42 @@
+package org.tech.product_service.idempotency;
+
+/**
+ * Bounded, expiring store of {@code Idempotency-Key}s and the responses of the requests that used them.
+ * <p>
+ *   A key is first claimed by the request that will execute, then completed with its response, or released
+ *   when it fails so that a retry executes again.
+ * </p>
+ * @see InMemoryIdempotencyStore
+ * @see JdbcIdempotencyStore
+ * @author Josip Begic
+ */
+public interface IdempotencyStore {
+
+  /**
+   * Claims a key for a request about to execute.
+   * @param key the idempotency key
+   * @param fingerprint fingerprint of the request
+   * @return {@code null} when the key was claimed, otherwise the existing record of the key
+   */
+  IdempotencyRecord claim(String key, String fingerprint);
+
+  /**
+   * Looks up a key.
+   * @param key the idempotency key
+   * @return the record of the key, or {@code null} when unknown or expired
+   */
+  IdempotencyRecord find(String key);
+
+  /**
+   * Stores the response of the request that claimed the key.
+   * @param key the idempotency key
+   * @param response the response to replay
+   */
+  void complete(String key, StoredResponse response);
+
+  /**
+   * Forgets a claimed key whose request failed.
+   * @param key the idempotency key
+   */
+  void release(String key);
+}
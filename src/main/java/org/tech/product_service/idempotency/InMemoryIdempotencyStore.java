@@ -0,0 +1,55 @@
+package org.tech.product_service.idempotency;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * {@link IdempotencyStore} kept in a bounded Caffeine cache of this instance.
+ * <p>
+ *   Keys expire {@code ttl} after they were claimed; when the cache is full the least recently used keys are
+ *   evicted first.
+ * </p>
+ * @author Josip Begic
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+  static final String CACHE_NAME = "idempotencyKeys";
+
+  private final ConcurrentMap<String, IdempotencyRecord> records;
+
+  public InMemoryIdempotencyStore(long maxKeys, Duration ttl, MeterRegistry meterRegistry) {
+    Cache<String, IdempotencyRecord> cache = Caffeine.newBuilder()
+        .maximumSize(maxKeys)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    this.records = cache.asMap();
+  }
+
+  @Override
+  public IdempotencyRecord claim(String key, String fingerprint) {
+    return records.putIfAbsent(key, new IdempotencyRecord(fingerprint, null));
+  }
+
+  @Override
+  public IdempotencyRecord find(String key) {
+    return records.get(key);
+  }
+
+  @Override
+  public void complete(String key, StoredResponse response) {
+    records.computeIfPresent(key, (k, record) -> new IdempotencyRecord(record.fingerprint(), response));
+  }
+
+  @Override
+  public void release(String key) {
+    records.computeIfPresent(key, (k, record) -> record.isCompleted() ? record : null);
+  }
+}
@@ -0,0 +1,134 @@
+package org.tech.product_service.idempotency;
+
+import java.net.URI;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.tech.product_service.dto.response.ProductResponse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link IdempotencyStore} backed by the {@code idempotency_key} table, shared by all instances.
+ * <p>
+ *   A key is claimed with a single {@code INSERT ... ON CONFLICT DO NOTHING}, so exactly one instance executes a
+ *   request no matter where its retries land. Statements run in their own auto-commit transactions: a claim must
+ *   be visible to other instances before the request executes, and must survive a rollback of the request.
+ *   Expired keys are taken over on claim and deleted in the background every {@code purge-interval}. A claim
+ *   whose response was not stored within the {@code lease}, e.g. because its instance crashed, is treated as
+ *   expired, so the client's retry executes again instead of waiting for the whole {@code ttl}.
+ * </p>
+ * @author Josip Begic
+ */
+@Slf4j
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+  static final String DELETE_EXPIRED_KEY_SQL = "DELETE FROM idempotency_key WHERE idempotency_key = ?"
+      + " AND (expires_at <= ? OR (status IS NULL AND created_at <= ?))";
+  static final String CLAIM_SQL = "INSERT INTO idempotency_key (idempotency_key, request_hash, created_at, expires_at)"
+      + " VALUES (?, ?, ?, ?) ON CONFLICT DO NOTHING";
+  static final String FIND_SQL = "SELECT request_hash, status, location, body FROM idempotency_key"
+      + " WHERE idempotency_key = ? AND expires_at > ? AND (status IS NOT NULL OR created_at > ?)";
+  static final String COMPLETE_SQL =
+      "UPDATE idempotency_key SET status = ?, location = ?, body = ? WHERE idempotency_key = ?";
+  static final String RELEASE_SQL = "DELETE FROM idempotency_key WHERE idempotency_key = ? AND status IS NULL";
+  static final String PURGE_SQL =
+      "DELETE FROM idempotency_key WHERE expires_at <= ? OR (status IS NULL AND created_at <= ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+  private final Duration ttl;
+  private final Duration lease;
+  private final Clock clock;
+
+  public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, Duration ttl, Duration lease,
+      Clock clock) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+    this.ttl = ttl;
+    this.lease = lease;
+    this.clock = clock;
+  }
+
+  @Override
+  public IdempotencyRecord claim(String key, String fingerprint) {
+    while (true) {
+      Instant now = clock.instant();
+      jdbcTemplate.update(DELETE_EXPIRED_KEY_SQL, key, Timestamp.from(now), Timestamp.from(now.minus(lease)));
+      if (jdbcTemplate.update(CLAIM_SQL, key, fingerprint, Timestamp.from(now), Timestamp.from(now.plus(ttl))) == 1) {
+        return null;
+      }
+      IdempotencyRecord existing = find(key);
+      if (existing != null) {
+        return existing;
+      }
+      // The holder released the key or its lease ran out between our insert and select; claim it again.
+    }
+  }
+
+  @Override
+  public IdempotencyRecord find(String key) {
+    Instant now = clock.instant();
+    List<IdempotencyRecord> records = jdbcTemplate.query(FIND_SQL, this::mapRecord, key, Timestamp.from(now),
+        Timestamp.from(now.minus(lease)));
+    return records.isEmpty() ? null : records.getFirst();
+  }
+
+  @Override
+  public void complete(String key, StoredResponse response) {
+    String body;
+    try {
+      body = objectMapper.writeValueAsString(response.body());
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Failed to serialize response for idempotency key " + key, ex);
+    }
+    jdbcTemplate.update(COMPLETE_SQL, response.status(),
+        response.location() == null ? null : response.location().toString(), body, key);
+  }
+
+  @Override
+  public void release(String key) {
+    jdbcTemplate.update(RELEASE_SQL, key);
+  }
+
+  /**
+   * Deletes expired keys and claims whose lease ran out.
+   * @return number of deleted keys
+   */
+  @Scheduled(fixedDelayString = "${product.idempotency.purge-interval:PT1H}")
+  public int purgeExpired() {
+    Instant now = clock.instant();
+    int purged = jdbcTemplate.update(PURGE_SQL, Timestamp.from(now), Timestamp.from(now.minus(lease)));
+    if (purged > 0) {
+      log.debug("Purged {} expired idempotency keys", purged);
+    }
+    return purged;
+  }
+
+  private IdempotencyRecord mapRecord(ResultSet rs, int rowNum) throws SQLException {
+    String fingerprint = rs.getString(1);
+    int status = rs.getInt(2);
+    if (rs.wasNull()) {
+      return new IdempotencyRecord(fingerprint, null);
+    }
+    String location = rs.getString(3);
+    ProductResponse body;
+    try {
+      body = objectMapper.readValue(rs.getString(4), ProductResponse.class);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Failed to read stored response of idempotency key", ex);
+    }
+    return new IdempotencyRecord(fingerprint,
+        new StoredResponse(status, location == null ? null : URI.create(location), body));
+  }
+}
@@ -0,0 +1,15 @@
+package org.tech.product_service.idempotency;
+
+import java.net.URI;
+
+import org.tech.product_service.dto.response.ProductResponse;
+
+/**
+ * Response of a completed request, replayed to retries with the same {@code Idempotency-Key}.
+ * @param status the HTTP status code
+ * @param location the {@code Location} header, or {@code null}
+ * @param body the response body
+ * @author Josip Begic
+ */
+public record StoredResponse(int status, URI location, ProductResponse body) {
+}
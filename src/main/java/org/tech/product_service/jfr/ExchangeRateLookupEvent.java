@@ -0,0 +1,46 @@
+package org.tech.product_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event spanning a USD to EUR exchange rate lookup.
+ * <p>
+ *   {@code hnbDuration} is the part of the lookup spent calling HNB, zero for a fresh cache hit.
+ * </p>
+ * @author Josip Begic
+ */
+@Name("org.tech.product.ExchangeRateLookup")
+@Label("Exchange Rate Lookup")
+@Category({"Product Service", "HNB"})
+@Description("USD to EUR exchange rate lookup")
+@StackTrace(false)
+public class ExchangeRateLookupEvent extends Event {
+
+  @Label("Currency")
+  public String currency;
+
+  @Label("Cache Hit")
+  @Description("Rate was in the exchange rate cache")
+  public boolean cacheHit;
+
+  @Label("Refreshed")
+  @Description("Cached rate was stale and fetched again from HNB")
+  public boolean refreshed;
+
+  @Label("HNB Duration")
+  @Timespan(Timespan.NANOSECONDS)
+  public long hnbDuration;
+
+  @Label("Succeeded")
+  public boolean succeeded;
+
+  public ExchangeRateLookupEvent(String currency) {
+    this.currency = currency;
+  }
+}
@@ -0,0 +1,183 @@
+package org.tech.product_service.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.tech.product_service.config.FlightRecordingProperties;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Actuator endpoint starting, stopping and downloading a bounded JDK Flight Recorder recording.
+ * <ul>
+ *   <li>{@code POST /actuator/jfr} with {@code {"duration":"2m","settings":"profile"}} starts a recording,</li>
+ *   <li>{@code GET /actuator/jfr} shows its state and size,</li>
+ *   <li>{@code GET /actuator/jfr/recording.jfr} downloads what was recorded so far, also while running,</li>
+ *   <li>{@code DELETE /actuator/jfr} stops it.</li>
+ * </ul>
+ * <p>
+ *   Only one recording exists at a time. Its duration and size are capped by {@code product.jfr.*}, so a forgotten
+ *   recording stops on its own. It contains the {@code org.tech.product.*} events along with the JVM's GC,
+ *   allocation and lock events. Events that record system properties, environment variables, JVM arguments
+ *   or other processes' command lines are turned off, since those may carry credentials.
+ * </p>
+ * @see FlightRecordingProperties
+ * @author Josip Begic
+ */
+@Endpoint(id = "jfr")
+@Slf4j
+public class FlightRecordingEndpoint implements DisposableBean {
+
+  static final String RECORDING_NAME = "product-service";
+  static final String RECORDING_FILE = "recording.jfr";
+  static final List<String> DISABLED_EVENTS = List.of("jdk.InitialSystemProperty", "jdk.InitialEnvironmentVariable",
+      "jdk.JVMInformation", "jdk.SystemProcess");
+
+  private final FlightRecordingProperties properties;
+
+  private Recording recording;
+  private String settings;
+  private Path dump;
+
+  public FlightRecordingEndpoint(FlightRecordingProperties properties) {
+    this.properties = properties;
+  }
+
+  @ReadOperation
+  public synchronized RecordingStatus status() {
+    return RecordingStatus.of(recording, settings);
+  }
+
+  /**
+   * Starts a new recording, replacing a stopped one.
+   * @param duration how long to record, at most {@code product.jfr.max-duration}
+   * @param settings {@code default} or {@code profile}
+   * @return the started recording, 409 if one is running or 400 for unknown settings
+   */
+  @WriteOperation
+  public synchronized WebEndpointResponse<RecordingStatus> start(@Nullable Duration duration,
+      @Nullable String settings) {
+    if (recording != null && recording.getState() == RecordingState.RUNNING) {
+      return new WebEndpointResponse<>(status(), HttpStatus.CONFLICT.value());
+    }
+    String name = settings == null ? properties.getSettings() : settings;
+    Configuration configuration;
+    try {
+      configuration = Configuration.getConfiguration(name);
+    } catch (IOException | ParseException ex) {
+      log.warn("Unknown JFR settings: {}", name);
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+    }
+    Duration maxDuration = properties.getMaxDuration();
+    Duration recordFor = duration == null || duration.isNegative() || duration.compareTo(maxDuration) > 0
+        ? maxDuration : duration;
+
+    Map<String, String> eventSettings = new HashMap<>(configuration.getSettings());
+    for (String event : DISABLED_EVENTS) {
+      eventSettings.put(event + "#enabled", "false");
+    }
+
+    discard();
+    Recording started = new Recording(eventSettings);
+    started.setName(RECORDING_NAME);
+    started.setToDisk(true);
+    started.setMaxSize(properties.getMaxSize().toBytes());
+    started.setDuration(recordFor);
+    started.start();
+    recording = started;
+    this.settings = name;
+    log.info("Started JFR recording with {} settings for {}", name, recordFor);
+    return new WebEndpointResponse<>(status(), WebEndpointResponse.STATUS_OK);
+  }
+
+  /**
+   * Stops the running recording. It stays available for download until the next one is started.
+   */
+  @DeleteOperation
+  public synchronized WebEndpointResponse<RecordingStatus> stop() {
+    if (recording == null) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+    if (recording.getState() == RecordingState.RUNNING) {
+      recording.stop();
+      log.info("Stopped JFR recording");
+    }
+    return new WebEndpointResponse<>(status(), WebEndpointResponse.STATUS_OK);
+  }
+
+  /**
+   * Dumps the recording to a temporary file and streams it; open the file in JDK Mission Control or with
+   * {@code jfr print}.
+   */
+  @ReadOperation(produces = "application/octet-stream")
+  public synchronized WebEndpointResponse<Resource> download(@Selector String file) throws IOException {
+    if (recording == null || !RECORDING_FILE.equals(file)) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+    deleteDump();
+    dump = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+    recording.dump(dump);
+    return new WebEndpointResponse<>(new FileSystemResource(dump), WebEndpointResponse.STATUS_OK);
+  }
+
+  @Override
+  public synchronized void destroy() {
+    discard();
+  }
+
+  private void discard() {
+    if (recording != null) {
+      recording.close();
+      recording = null;
+      settings = null;
+    }
+    deleteDump();
+  }
+
+  private void deleteDump() {
+    if (dump == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(dump);
+    } catch (IOException ex) {
+      log.warn("Failed to delete JFR dump {}: {}", dump, ex.getMessage());
+    }
+    dump = null;
+  }
+
+  /**
+   * State of the recording, {@code NONE} when no recording was started.
+   */
+  public record RecordingStatus(String state, String settings, Instant startTime, Duration duration, long size) {
+
+    static RecordingStatus of(Recording recording, String settings) {
+      if (recording == null) {
+        return new RecordingStatus("NONE", null, null, null, 0);
+      }
+      return new RecordingStatus(recording.getState().name(), settings, recording.getStartTime(),
+          recording.getDuration(), recording.getSize());
+    }
+  }
+}
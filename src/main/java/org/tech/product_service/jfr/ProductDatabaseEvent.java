@@ -0,0 +1,32 @@
+package org.tech.product_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning a repository call made by {@code ProductServiceImpl}.
+ * <p>
+ *   Includes time spent waiting for a pooled connection and in the second-level cache, so it can be longer than the
+ *   statements it sends.
+ * </p>
+ * @author Josip Begic
+ */
+@Name("org.tech.product.Database")
+@Label("Product Database Call")
+@Category({"Product Service", "Database"})
+@Description("Repository call made by the product service")
+@StackTrace(false)
+public class ProductDatabaseEvent extends Event {
+
+  @Label("Call")
+  @Description("Repository method, e.g. findById")
+  public String call;
+
+  public ProductDatabaseEvent(String call) {
+    this.call = call;
+  }
+}
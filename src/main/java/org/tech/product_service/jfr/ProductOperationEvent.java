@@ -0,0 +1,43 @@
+package org.tech.product_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning a product create or read in {@code ProductServiceImpl}.
+ * <p>
+ *   Shown in JDK Mission Control next to GC pauses, allocations and lock contention of the same thread.
+ * </p>
+ * @author Josip Begic
+ */
+@Name("org.tech.product.Operation")
+@Label("Product Operation")
+@Category({"Product Service"})
+@Description("Product create or read")
+@StackTrace(false)
+public class ProductOperationEvent extends Event {
+
+  @Label("Operation")
+  public String operation;
+
+  @Label("Product ID")
+  public long productId;
+
+  @Label("Product Code")
+  public String code;
+
+  @Label("Products")
+  @Description("Number of products returned")
+  public int products;
+
+  @Label("Outcome")
+  public String outcome;
+
+  public ProductOperationEvent(String operation) {
+    this.operation = operation;
+  }
+}
@@ -0,0 +1,67 @@
+package org.tech.product_service.json;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Allocation-free equivalent of {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} formatting.
+ * <p>
+ *   Seconds are always written; the fraction is written only when non-zero, without trailing zeros.
+ *   Years outside {@code 0000..9999} are rare enough to fall back to the JDK formatter.
+ * </p>
+ * @author Josip Begic
+ */
+final class IsoLocalDateTime {
+
+  /**
+   * {@code yyyy-MM-ddTHH:mm:ss.nnnnnnnnn}
+   */
+  static final int MAX_LENGTH = 29;
+
+  private IsoLocalDateTime() {
+  }
+
+  /**
+   * Formats a date-time into the buffer.
+   * @param value the date-time
+   * @param buffer buffer of at least {@link #MAX_LENGTH} characters
+   * @return number of characters written
+   */
+  static int format(LocalDateTime value, char[] buffer) {
+    int year = value.getYear();
+    if (year < 0 || year > 9999) {
+      String formatted = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value);
+      formatted.getChars(0, formatted.length(), buffer, 0);
+      return formatted.length();
+    }
+    writeDigits(buffer, 0, year, 4);
+    buffer[4] = '-';
+    writeDigits(buffer, 5, value.getMonthValue(), 2);
+    buffer[7] = '-';
+    writeDigits(buffer, 8, value.getDayOfMonth(), 2);
+    buffer[10] = 'T';
+    writeDigits(buffer, 11, value.getHour(), 2);
+    buffer[13] = ':';
+    writeDigits(buffer, 14, value.getMinute(), 2);
+    buffer[16] = ':';
+    writeDigits(buffer, 17, value.getSecond(), 2);
+    int nano = value.getNano();
+    if (nano == 0) {
+      return 19;
+    }
+    buffer[19] = '.';
+    writeDigits(buffer, 20, nano, 9);
+    int length = MAX_LENGTH;
+    while (buffer[length - 1] == '0') {
+      length--;
+    }
+    return length;
+  }
+
+  private static void writeDigits(char[] buffer, int offset, int value, int width) {
+    for (int i = offset + width - 1; i >= offset; i--) {
+      buffer[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package org.tech.product_service.json;
+
+import java.io.IOException;
+
+import org.springframework.boot.jackson.JsonComponent;
+import org.springframework.data.web.PagedModel;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Streaming Jackson serializer for the {@link PagedModel} page wrapper used by
+ * {@link org.tech.product_service.config.SpringDataConfig} ({@code VIA_DTO} page serialization).
+ * <p>
+ *   Writes the page content element by element straight to the output, followed by the page metadata,
+ *   producing the same JSON as the reflective bean serializer without introspecting the wrapper. The element
+ *   serializer is resolved once per element type instead of once per element.
+ * </p>
+ * @author Josip Begic
+ */
+@JsonComponent
+@SuppressWarnings("rawtypes")
+public class PagedModelJsonSerializer extends StdSerializer<PagedModel> {
+
+  private static final SerializableString CONTENT = new SerializedString("content");
+  private static final SerializableString PAGE = new SerializedString("page");
+  private static final SerializableString SIZE = new SerializedString("size");
+  private static final SerializableString NUMBER = new SerializedString("number");
+  private static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+  private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+
+  public PagedModelJsonSerializer() {
+    super(PagedModel.class);
+  }
+
+  @Override
+  public void serialize(PagedModel model, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(model);
+    gen.writeFieldName(CONTENT);
+    gen.writeStartArray();
+    Class<?> elementType = null;
+    JsonSerializer<Object> elementSerializer = null;
+    for (Object element : model.getContent()) {
+      if (element == null) {
+        provider.defaultSerializeNull(gen);
+        continue;
+      }
+      if (element.getClass() != elementType) {
+        elementType = element.getClass();
+        elementSerializer = provider.findValueSerializer(elementType);
+      }
+      elementSerializer.serialize(element, gen, provider);
+    }
+    gen.writeEndArray();
+    PagedModel.PageMetadata metadata = model.getMetadata();
+    gen.writeFieldName(PAGE);
+    if (metadata == null) {
+      gen.writeNull();
+    } else {
+      gen.writeStartObject();
+      gen.writeFieldName(SIZE);
+      gen.writeNumber(metadata.size());
+      gen.writeFieldName(NUMBER);
+      gen.writeNumber(metadata.number());
+      gen.writeFieldName(TOTAL_ELEMENTS);
+      gen.writeNumber(metadata.totalElements());
+      gen.writeFieldName(TOTAL_PAGES);
+      gen.writeNumber(metadata.totalPages());
+      gen.writeEndObject();
+    }
+    gen.writeEndObject();
+  }
+}
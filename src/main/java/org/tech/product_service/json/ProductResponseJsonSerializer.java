@@ -0,0 +1,135 @@
+package org.tech.product_service.json;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.springframework.boot.jackson.JsonComponent;
+import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.model.PriceStatus;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Hand-written Jackson serializer for {@link ProductResponse}, the hottest payload of the API.
+ * <p>
+ *   Writes the same JSON as the reflective bean serializer (same property order, {@code null} handling,
+ *   {@link BigDecimal} and ISO-8601 {@link LocalDateTime} formats) without property introspection:
+ *   field names and enum values are pre-encoded once and dates are formatted straight into a char buffer
+ *   instead of through {@link java.time.format.DateTimeFormatter}. If dates are configured to be written as
+ *   timestamps they are delegated to the registered serializer.
+ * </p>
+ * @author Josip Begic
+ */
+@JsonComponent
+public class ProductResponseJsonSerializer extends StdSerializer<ProductResponse> {
+
+  private static final SerializableString ID = new SerializedString("id");
+  private static final SerializableString CODE = new SerializedString("code");
+  private static final SerializableString NAME = new SerializedString("name");
+  private static final SerializableString PRICE_EUR = new SerializedString("priceEur");
+  private static final SerializableString PRICE_USD = new SerializedString("priceUsd");
+  private static final SerializableString PRICE_STATUS = new SerializedString("priceStatus");
+  private static final SerializableString IS_AVAILABLE = new SerializedString("isAvailable");
+  private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+  private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+  private static final SerializableString VERSION = new SerializedString("version");
+
+  private static final SerializableString[] PRICE_STATUSES = new SerializableString[PriceStatus.values().length];
+
+  static {
+    for (PriceStatus status : PriceStatus.values()) {
+      PRICE_STATUSES[status.ordinal()] = new SerializedString(status.name());
+    }
+  }
+
+  public ProductResponseJsonSerializer() {
+    super(ProductResponse.class);
+  }
+
+  @Override
+  public void serialize(ProductResponse product, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion().getValueInclusion();
+    boolean writeNulls = inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+    boolean datesAsTimestamps = provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    gen.writeStartObject(product);
+    writeNumber(gen, ID, product.getId(), writeNulls);
+    writeString(gen, CODE, product.getCode(), writeNulls);
+    writeString(gen, NAME, product.getName(), writeNulls);
+    writeNumber(gen, PRICE_EUR, product.getPriceEur(), writeNulls);
+    writeNumber(gen, PRICE_USD, product.getPriceUsd(), writeNulls);
+    if (product.getPriceStatus() != null) {
+      gen.writeFieldName(PRICE_STATUS);
+      gen.writeString(PRICE_STATUSES[product.getPriceStatus().ordinal()]);
+    } else if (writeNulls) {
+      gen.writeFieldName(PRICE_STATUS);
+      gen.writeNull();
+    }
+    if (product.getIsAvailable() != null) {
+      gen.writeFieldName(IS_AVAILABLE);
+      gen.writeBoolean(product.getIsAvailable());
+    } else if (writeNulls) {
+      gen.writeFieldName(IS_AVAILABLE);
+      gen.writeNull();
+    }
+    writeDateTime(gen, provider, CREATED_AT, product.getCreatedAt(), writeNulls, datesAsTimestamps);
+    writeDateTime(gen, provider, UPDATED_AT, product.getUpdatedAt(), writeNulls, datesAsTimestamps);
+    writeNumber(gen, VERSION, product.getVersion(), writeNulls);
+    gen.writeEndObject();
+  }
+
+  private static void writeNumber(JsonGenerator gen, SerializableString name, Long value, boolean writeNulls)
+      throws IOException {
+    if (value != null) {
+      gen.writeFieldName(name);
+      gen.writeNumber(value);
+    } else if (writeNulls) {
+      gen.writeFieldName(name);
+      gen.writeNull();
+    }
+  }
+
+  private static void writeNumber(JsonGenerator gen, SerializableString name, BigDecimal value, boolean writeNulls)
+      throws IOException {
+    if (value != null) {
+      gen.writeFieldName(name);
+      gen.writeNumber(value);
+    } else if (writeNulls) {
+      gen.writeFieldName(name);
+      gen.writeNull();
+    }
+  }
+
+  private static void writeString(JsonGenerator gen, SerializableString name, String value, boolean writeNulls)
+      throws IOException {
+    if (value != null) {
+      gen.writeFieldName(name);
+      gen.writeString(value);
+    } else if (writeNulls) {
+      gen.writeFieldName(name);
+      gen.writeNull();
+    }
+  }
+
+  private static void writeDateTime(JsonGenerator gen, SerializerProvider provider, SerializableString name,
+      LocalDateTime value, boolean writeNulls, boolean datesAsTimestamps) throws IOException {
+    if (value == null) {
+      if (writeNulls) {
+        gen.writeFieldName(name);
+        gen.writeNull();
+      }
+    } else if (datesAsTimestamps) {
+      provider.defaultSerializeField(name.getValue(), value, gen);
+    } else {
+      gen.writeFieldName(name);
+      char[] buffer = new char[IsoLocalDateTime.MAX_LENGTH];
+      gen.writeString(buffer, 0, IsoLocalDateTime.format(value, buffer));
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package org.tech.product_service.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limiter with an AIMD (additive increase, multiplicative decrease) limit.
+ * <p>
+ *   While requests complete within the latency target and the limit is actually used, the limit grows
+ *   by roughly one per {@code limit} completed requests. A slow or failed request multiplies the limit
+ *   by the backoff ratio, at most once per latency target period so that one burst of slow responses
+ *   does not collapse the limit to its minimum.
+ * </p>
+ * @author Josip Begic
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final long latencyTargetNanos;
+  private volatile double limit;
+  private long lastBackoffNanos;
+
+  public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+      long latencyTargetNanos) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.backoffRatio = backoffRatio;
+    this.latencyTargetNanos = latencyTargetNanos;
+    this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    this.lastBackoffNanos = System.nanoTime() - latencyTargetNanos;
+  }
+
+  /**
+   * Tries to admit a request.
+   * @return {@code true} if the request may proceed and {@link #release} must be called when it
+   *     completes, {@code false} if it should be shed
+   */
+  public boolean tryAcquire() {
+    int currentLimit = getLimit();
+    while (true) {
+      int current = inFlight.get();
+      if (current >= currentLimit) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Releases an admitted request and feeds its outcome into the limit.
+   * @param latencyNanos time the request took
+   * @param failed whether the request failed with a server error
+   */
+  public void release(long latencyNanos, boolean failed) {
+    int inFlightBeforeRelease = inFlight.getAndDecrement();
+    onSample(latencyNanos, failed, inFlightBeforeRelease);
+  }
+
+  private synchronized void onSample(long latencyNanos, boolean failed, int inFlightBeforeRelease) {
+    if (failed || latencyNanos > latencyTargetNanos) {
+      long now = System.nanoTime();
+      if (now - lastBackoffNanos >= latencyTargetNanos) {
+        limit = Math.max(minLimit, limit * backoffRatio);
+        lastBackoffNanos = now;
+      }
+    } else if (inFlightBeforeRelease * 2 >= limit) {
+      // Only grow while at least half of the limit is in use, otherwise the limit is not the bottleneck.
+      limit = Math.min(maxLimit, limit + 1.0 / limit);
+    }
+  }
+
+  /**
+   * @return the current concurrency limit
+   */
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  /**
+   * @return number of admitted requests that have not completed yet
+   */
+  public int getInFlight() {
+    return inFlight.get();
+  }
+}
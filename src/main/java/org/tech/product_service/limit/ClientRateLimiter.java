@@ -0,0 +1,88 @@
+package org.tech.product_service.limit;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import lombok.Getter;
+
+/**
+ * Per-client rate limiter backed by {@link TokenBucket}s.
+ * <p>
+ *   Buckets live in a bounded Caffeine cache, so lookups of existing clients are lock-free and eviction is
+ *   amortized by Caffeine instead of scanning on the request path. A bucket expires once it has been full for the
+ *   idle timeout, when it is indistinguishable from a new one. At {@code maxClients} the least valuable buckets are
+ *   evicted; every client keeps a bucket of its own, there is no shared overflow bucket one client could drain
+ *   for all the others.
+ * </p>
+ * @author Josip Begic
+ */
+public class ClientRateLimiter {
+
+  @Getter
+  private final long capacity;
+  private final double refillPerSecond;
+  private final Cache<String, TokenBucket> buckets;
+
+  public ClientRateLimiter(long capacity, double refillPerSecond, long idleNanos, int maxClients) {
+    this(capacity, refillPerSecond, idleNanos, maxClients, Ticker.systemTicker());
+  }
+
+  /**
+   * @param ticker source of {@link System#nanoTime()}-based time for expiry; the buckets use the time passed
+   *     to {@link #bucket}
+   */
+  ClientRateLimiter(long capacity, double refillPerSecond, long idleNanos, int maxClients, Ticker ticker) {
+    this.capacity = capacity;
+    this.refillPerSecond = refillPerSecond;
+    // Expiry is computed before the request's token is taken, so allow for one more token to refill.
+    long tokenNanos = (long) Math.ceil(TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+    this.buckets = Caffeine.newBuilder()
+        .maximumSize(maxClients)
+        .expireAfter(new IdleExpiry(idleNanos + tokenNanos))
+        .ticker(ticker)
+        .build();
+  }
+
+  /**
+   * Returns the bucket of a client, creating it if needed.
+   * @param clientKey validated API key or client address
+   * @param nowNanos current {@link System#nanoTime()}
+   * @return the client's bucket
+   */
+  public TokenBucket bucket(String clientKey, long nowNanos) {
+    return buckets.get(clientKey, key -> new TokenBucket(capacity, refillPerSecond, nowNanos));
+  }
+
+  /**
+   * @return number of clients currently tracked
+   */
+  public long size() {
+    buckets.cleanUp();
+    return buckets.estimatedSize();
+  }
+
+  /**
+   * Expires a bucket the given time after it is full again.
+   */
+  private record IdleExpiry(long idleNanos) implements Expiry<String, TokenBucket> {
+
+    @Override
+    public long expireAfterCreate(String key, TokenBucket bucket, long currentTime) {
+      return bucket.nanosUntilFull(currentTime) + idleNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, TokenBucket bucket, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, bucket, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, TokenBucket bucket, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, bucket, currentTime);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package org.tech.product_service.limit;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * Classes of endpoints that are limited independently.
+ * @author Josip Begic
+ */
+public enum EndpointClass {
+  /**
+   * Safe requests (GET, HEAD) such as product lookups and listings, and the read-only multi-get
+   * {@code POST /product/lookup}.
+   */
+  READ,
+  /**
+   * Requests modifying the catalog such as product creation.
+   */
+  WRITE;
+
+  private static final String LOOKUP_PATH = "/product/lookup";
+
+  /**
+   * Classifies a request by its route.
+   * @param method HTTP method name
+   * @param path request URI
+   * @return {@link #READ} for GET, HEAD and {@code POST /product/lookup}, {@link #WRITE} otherwise
+   */
+  public static EndpointClass of(String method, String path) {
+    if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)) {
+      return READ;
+    }
+    return HttpMethod.POST.matches(method) && LOOKUP_PATH.equals(path) ? READ : WRITE;
+  }
+}
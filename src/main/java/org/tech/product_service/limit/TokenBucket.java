@@ -0,0 +1,61 @@
+package org.tech.product_service.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * <p>
+ *   Implemented as the generic cell rate algorithm (GCRA): instead of a token count and a refill
+ *   timestamp, the bucket keeps a single "theoretical arrival time" which is advanced by one
+ *   emission interval per consumed token. A request is allowed while the theoretical arrival time
+ *   is at most {@code capacity - 1} intervals in the future. Because the whole state is one
+ *   {@code long}, consuming a token is a single compare-and-set.
+ * </p>
+ * @author Josip Begic
+ */
+public class TokenBucket {
+
+  private final long emissionIntervalNanos;
+  private final long burstToleranceNanos;
+  private final AtomicLong theoreticalArrivalNanos;
+
+  /**
+   * @param capacity maximum number of tokens (burst size)
+   * @param refillPerSecond tokens added per second
+   * @param nowNanos current {@link System#nanoTime()}
+   */
+  public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+    this.emissionIntervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+    this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+    this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+  }
+
+  /**
+   * Tries to take one token.
+   * @param nowNanos current {@link System#nanoTime()}
+   * @return tokens remaining after this request if allowed, or a negative value whose magnitude is
+   *     the number of nanoseconds until the next token is available if rejected
+   */
+  public long tryConsume(long nowNanos) {
+    while (true) {
+      long tat = theoreticalArrivalNanos.get();
+      long base = tat - nowNanos > 0 ? tat : nowNanos;
+      long waitNanos = base - nowNanos - burstToleranceNanos;
+      if (waitNanos > 0) {
+        return -waitNanos;
+      }
+      long newTat = base + emissionIntervalNanos;
+      if (theoreticalArrivalNanos.compareAndSet(tat, newTat)) {
+        return (burstToleranceNanos + emissionIntervalNanos - (newTat - nowNanos)) / emissionIntervalNanos;
+      }
+    }
+  }
+
+  /**
+   * @param nowNanos current {@link System#nanoTime()}
+   * @return nanoseconds until the bucket is full again
+   */
+  public long nanosUntilFull(long nowNanos) {
+    return Math.max(0, theoreticalArrivalNanos.get() - nowNanos);
+  }
+}
@@ -0,0 +1,33 @@
+package org.tech.product_service.mapper;
+
+import java.math.BigDecimal;
+
+import org.mapstruct.Named;
+import org.tech.product_service.money.Cents;
+
+/**
+ * MapStruct conversions between API decimal amounts and prices stored in cents.
+ * <p>
+ *   Referenced by name, because MapStruct's built-in {@code long} to {@link BigDecimal} conversion would map
+ *   cents as whole units.
+ * </p>
+ * @author Josip Begic
+ */
+public final class MoneyMapper {
+
+  public static final String TO_DECIMAL = "centsToDecimal";
+  public static final String TO_CENTS = "decimalToCents";
+
+  private MoneyMapper() {
+  }
+
+  @Named(TO_DECIMAL)
+  public static BigDecimal centsToDecimal(Long cents) {
+    return cents == null ? null : Cents.toDecimal(cents);
+  }
+
+  @Named(TO_CENTS)
+  public static long decimalToCents(BigDecimal amount) {
+    return Cents.of(amount);
+  }
+}
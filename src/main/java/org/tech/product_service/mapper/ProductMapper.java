@@ -10,8 +10,9 @@ import org.tech.product_service.model.Product;
 /**
  * Mapper for converting between Product entity and ProductRequest/ProductResponse DTOs.
  * Uses MapStruct for automatic mapping implementation generation.
+ * Prices are converted between decimal amounts and cents by {@link MoneyMapper}.
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = MoneyMapper.class)
 public interface ProductMapper {
 
   /**
@@ -20,6 +21,8 @@ public interface ProductMapper {
    * @param product the Product entity
    * @return ProductResponse DTO
    */
+  @Mapping(target = "priceEur", qualifiedByName = MoneyMapper.TO_DECIMAL)
+  @Mapping(target = "priceUsd", qualifiedByName = MoneyMapper.TO_DECIMAL)
   ProductResponse toDto(Product product);
 
   /**
@@ -31,8 +34,11 @@ public interface ProductMapper {
    * @return Product entity
    */
   @Mapping(target = "id", ignore = true)
+  @Mapping(target = "priceEur", qualifiedByName = MoneyMapper.TO_CENTS)
   @Mapping(target = "priceUsd", ignore = true)
+  @Mapping(target = "priceStatus", ignore = true)
   @Mapping(target = "createdAt", ignore = true)
   @Mapping(target = "updatedAt", ignore = true)
+  @Mapping(target = "version", ignore = true)
   Product toEntity(ProductRequest request);
 }
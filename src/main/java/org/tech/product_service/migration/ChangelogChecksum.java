@@ -0,0 +1,72 @@
+package org.tech.product_service.migration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+/**
+ * Checksum of the Liquibase changelog files on the classpath.
+ * <p>
+ *   Hashes the file names and contents in name order, so any added, removed or edited changelog changes
+ *   the checksum. A Liquibase label filter is hashed too: a migration that held back a contract step must
+ *   not mark the schema as up to date for a later run without the filter.
+ * </p>
+ * @author Josip Begic
+ */
+public final class ChangelogChecksum {
+
+  static final String TAG_PREFIX = "schema-";
+  private static final String CHANGELOG_PATTERN = "classpath*:db/changelog/**/*.xml";
+
+  private ChangelogChecksum() {
+  }
+
+  /**
+   * Computes the Liquibase tag identifying the changelog files on the classpath.
+   * @return {@code schema-} followed by a truncated SHA-256 of the changelog files
+   */
+  public static String tag() {
+    return tag(null);
+  }
+
+  /**
+   * Computes the Liquibase tag identifying the changelog files on the classpath applied with a label filter.
+   * @param labelFilter the {@code spring.liquibase.label-filter}, or {@code null} if none
+   * @return {@code schema-} followed by a truncated SHA-256 of the changelog files and the filter
+   */
+  public static String tag(String labelFilter) {
+    return tag(new PathMatchingResourcePatternResolver(), CHANGELOG_PATTERN, labelFilter);
+  }
+
+  static String tag(ResourcePatternResolver resolver, String pattern, String labelFilter) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      Resource[] resources = resolver.getResources(pattern);
+      Arrays.sort(resources, Comparator.comparing(Resource::getFilename, Comparator.nullsFirst(String::compareTo)));
+      for (Resource resource : resources) {
+        digest.update(String.valueOf(resource.getFilename()).getBytes());
+        try (InputStream in = resource.getInputStream()) {
+          digest.update(in.readAllBytes());
+        }
+      }
+      if (labelFilter != null && !labelFilter.isBlank()) {
+        digest.update(("labels:" + labelFilter.strip()).getBytes());
+      }
+      // databasechangelog.tag is VARCHAR(255); 32 hex characters are plenty to tell changelogs apart.
+      return TAG_PREFIX + HexFormat.of().formatHex(digest.digest(), 0, 16);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to read Liquibase changelog files", ex);
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
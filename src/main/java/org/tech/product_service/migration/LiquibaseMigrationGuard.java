@@ -0,0 +1,111 @@
+package org.tech.product_service.migration;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.tech.product_service.config.MigrationProperties;
+
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Skips Liquibase on startup when the schema is already at the changelog on the classpath.
+ * <p>
+ *   After every successful migration the latest {@code databasechangelog} row is tagged with the
+ *   {@link ChangelogChecksum}. In {@link MigrationProperties.Mode#IF_CHANGED} mode a startup that finds this
+ *   tag does not run Liquibase at all, which saves parsing the changelogs, taking the change log lock and
+ *   comparing every changeset. Any failure to read the tag, e.g. a fresh database, falls back to running
+ *   Liquibase.
+ * </p>
+ * <p>
+ *   {@link SpringLiquibase} does not expose whether it will run, so the guard is given
+ *   {@code spring.liquibase.enabled} and remembers which beans it turned off itself.
+ * </p>
+ * @author Josip Begic
+ */
+@Slf4j
+public class LiquibaseMigrationGuard implements BeanPostProcessor {
+
+  private static final String DEFAULT_CHANGELOG_TABLE = "databasechangelog";
+
+  private final MigrationProperties.Mode mode;
+  private final String checksumTag;
+  private final boolean enabled;
+  private final Set<String> skipped = ConcurrentHashMap.newKeySet();
+
+  /**
+   * @param mode when to run Liquibase
+   * @param checksumTag tag of the changelog on the classpath
+   * @param enabled the resolved {@code spring.liquibase.enabled}
+   */
+  public LiquibaseMigrationGuard(MigrationProperties.Mode mode, String checksumTag, boolean enabled) {
+    this.mode = mode;
+    this.checksumTag = checksumTag;
+    this.enabled = enabled;
+  }
+
+  @Override
+  public Object postProcessBeforeInitialization(Object bean, String beanName) {
+    if (bean instanceof SpringLiquibase liquibase && enabled
+        && mode == MigrationProperties.Mode.IF_CHANGED && isTagged(liquibase)) {
+      log.info("Database schema is at changelog {}, skipping Liquibase.", checksumTag);
+      liquibase.setShouldRun(false);
+      skipped.add(beanName);
+    }
+    return bean;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof SpringLiquibase liquibase && shouldRun(beanName)) {
+      tag(liquibase);
+    }
+    return bean;
+  }
+
+  /**
+   * @param beanName name of a {@link SpringLiquibase} bean
+   * @return whether the bean runs its migrations
+   */
+  boolean shouldRun(String beanName) {
+    return enabled && !skipped.contains(beanName);
+  }
+
+  private boolean isTagged(SpringLiquibase liquibase) {
+    try {
+      Integer count = jdbcTemplate(liquibase).queryForObject(
+          "SELECT COUNT(*) FROM " + table(liquibase) + " WHERE tag = ?", Integer.class, checksumTag);
+      return count != null && count > 0;
+    } catch (DataAccessException ex) {
+      log.info("Cannot read Liquibase changelog tag, running migrations: {}", ex.getMessage());
+      return false;
+    }
+  }
+
+  private void tag(SpringLiquibase liquibase) {
+    String table = table(liquibase);
+    try {
+      jdbcTemplate(liquibase).update("UPDATE " + table + " SET tag = ? WHERE orderexecuted = "
+          + "(SELECT MAX(orderexecuted) FROM " + table + ")", checksumTag);
+      log.info("Tagged database schema with changelog {}.", checksumTag);
+    } catch (DataAccessException ex) {
+      log.warn("Failed to tag database schema with changelog {}: {}", checksumTag, ex.getMessage());
+    }
+  }
+
+  private JdbcTemplate jdbcTemplate(SpringLiquibase liquibase) {
+    DataSource dataSource = liquibase.getDataSource();
+    return new JdbcTemplate(dataSource);
+  }
+
+  private String table(SpringLiquibase liquibase) {
+    String table = liquibase.getDatabaseChangeLogTable() != null
+        ? liquibase.getDatabaseChangeLogTable() : DEFAULT_CHANGELOG_TABLE;
+    return liquibase.getLiquibaseSchema() != null ? liquibase.getLiquibaseSchema() + "." + table : table;
+  }
+}
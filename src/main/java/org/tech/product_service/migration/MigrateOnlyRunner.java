@@ -0,0 +1,30 @@
+package org.tech.product_service.migration;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exits the application once the context, and with it Liquibase, has started.
+ * <p>
+ *   Used by the {@code migrate} profile to run migrations as a one-shot job, so application instances can
+ *   start with Liquibase disabled.
+ * </p>
+ * @author Josip Begic
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class MigrateOnlyRunner implements ApplicationRunner {
+
+  private final ConfigurableApplicationContext context;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    log.info("Database migrations completed, exiting.");
+    System.exit(SpringApplication.exit(context, () -> 0));
+  }
+}
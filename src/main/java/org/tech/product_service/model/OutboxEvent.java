@@ -0,0 +1,55 @@
+package org.tech.product_service.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * An event waiting in the transactional outbox.
+ * <p>
+ * Rows are inserted in the same transaction as the change they describe and deleted by
+ * {@link org.tech.product_service.outbox.OutboxRelay} once they have been published, so an event is
+ * published if and only if its change was committed.
+ *
+ * @author Josip Begic
+ */
+@Entity
+@Table(name = "outbox_event")
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+  @Id
+  @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(length = 32, nullable = false)
+  private String aggregateType;
+
+  @Column(length = 64)
+  private String aggregateId;
+
+  @Column(length = 32, nullable = false)
+  private String eventType;
+
+  @Column(columnDefinition = "text", nullable = false)
+  private String payload;
+
+  @CreationTimestamp
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+}
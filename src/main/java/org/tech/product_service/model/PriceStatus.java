@@ -0,0 +1,17 @@
+package org.tech.product_service.model;
+
+/**
+ * State of a product's USD price.
+ * @author Josip Begic
+ */
+public enum PriceStatus {
+  /**
+   * The USD price has been calculated.
+   */
+  PRICED,
+  /**
+   * The product was accepted while no exchange rate was available; the USD price is calculated
+   * later by {@link org.tech.product_service.pricing.PendingPriceWorker}.
+   */
+  PENDING
+}
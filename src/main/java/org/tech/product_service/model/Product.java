@@ -1,15 +1,22 @@
 package org.tech.product_service.model;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,17 +28,23 @@ import lombok.Setter;
  * <p>
  * The {@code Product} entity defines an item that can be sold within the system.
  * Each product has a unique code, localized prices in EUR and USD, and an
- * availability status. Audit fields track the creation and update timestamps.
+ * availability status. The USD price is missing while {@link #priceStatus} is {@link PriceStatus#PENDING}. Audit fields track the creation and update timestamps.
  *
  * <p><strong>Usage:</strong>
  * <ul>
  *   <li>Managed by JPA and persisted in the {@code product} table.</li>
+ *   <li>Cached in the {@value #CACHE_REGION} second-level cache region (read-write).</li>
+ *   <li>Updates write only the changed columns and are guarded by the optimistic lock {@code version}.</li>
+ *   <li>Prices are stored as {@code long} cents, see {@link org.tech.product_service.money.Cents}.</li>
  *   <li>Construct instances via Lombok's {@code @Builder} or the all-args constructor.</li>
  * </ul>
  *
  * @author Josip Begic
  */
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = Product.CODE_CONSTRAINT, columnNames = "code"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Product.CACHE_REGION)
+@DynamicUpdate
 @Builder
 @Getter
 @Setter
@@ -39,21 +52,40 @@ import lombok.Setter;
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 public class Product {
 
+  public static final String CACHE_REGION = "product";
+
+  /**
+   * Name PostgreSQL gave the unique constraint on {@code code} created by the Liquibase changelog.
+   */
+  public static final String CODE_CONSTRAINT = "product_code_key";
+
   @Id
   @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
   private Long id;
 
-  @Column(unique = true, nullable = false)
+  @Column(nullable = false)
   private String code;
 
   @Column(nullable = false)
   private String name;
 
-  @Column(precision = 19, scale = 2, nullable = false)
-  private BigDecimal priceEur;
+  /**
+   * Price in EUR cents. The attribute keeps the name of the API field so that sorting and queries by
+   * {@code priceEur} are unchanged.
+   */
+  @Column(name = "price_eur_cents", nullable = false)
+  private long priceEur;
 
-  @Column(precision = 19, scale = 2, nullable = false)
-  private BigDecimal priceUsd;
+  /**
+   * Price in USD cents, {@code null} while the price is pending.
+   */
+  @Column(name = "price_usd_cents")
+  private Long priceUsd;
+
+  @Enumerated(EnumType.STRING)
+  @Column(length = 16, nullable = false)
+  @Builder.Default
+  private PriceStatus priceStatus = PriceStatus.PRICED;
 
   @Column(nullable = false)
   private Boolean isAvailable;
@@ -65,4 +97,8 @@ public class Product {
   @UpdateTimestamp
   @Column(nullable = false)
   private LocalDateTime updatedAt;
+
+  @Version
+  @Column(nullable = false)
+  private Long version;
 }
@@ -0,0 +1,45 @@
+package org.tech.product_service.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Conversions between decimal amounts and {@code long} minor units (cents).
+ * <p>
+ *   Prices are stored and compared as cents; {@link BigDecimal} is only used at the API boundary, where amounts
+ *   are decimal numbers with up to two fraction digits. Converting to cents never rounds: an amount with more
+ *   than two fraction digits is rejected with an {@link ArithmeticException}
+ *   ({@link RoundingMode#UNNECESSARY}). Rounding happens only in {@link FixedRate#convert(long)}. The API accepts
+ *   15 integer digits, so any amount and its conversion with a realistic exchange rate fit a {@code long}.
+ * </p>
+ * @author Josip Begic
+ */
+public final class Cents {
+
+  /**
+   * Number of fraction digits of an amount.
+   */
+  public static final int SCALE = 2;
+
+  private Cents() {
+  }
+
+  /**
+   * Converts a decimal amount to cents.
+   * @param amount amount with at most {@value #SCALE} fraction digits
+   * @return the amount in cents
+   * @throws ArithmeticException if the amount has more fraction digits or does not fit a {@code long}
+   */
+  public static long of(BigDecimal amount) {
+    return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+  }
+
+  /**
+   * Converts cents to a decimal amount with scale {@value #SCALE}.
+   * @param cents amount in cents
+   * @return the decimal amount
+   */
+  public static BigDecimal toDecimal(long cents) {
+    return BigDecimal.valueOf(cents, SCALE);
+  }
+}
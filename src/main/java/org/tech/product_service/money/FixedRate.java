@@ -0,0 +1,70 @@
+package org.tech.product_service.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An exchange rate held as an exact fixed-point number, {@code unscaled / divisor}, for converting amounts in
+ * cents without allocating.
+ * <p>
+ *   {@link #convert(long)} rounds half up to whole cents and returns exactly what
+ *   {@code Cents.toDecimal(cents).multiply(rate).setScale(2, RoundingMode.HALF_UP)} returns.
+ * </p>
+ * @param unscaled the rate's digits, e.g. {@code 1163400} for {@code 1.163400}
+ * @param divisor {@code 10^scale} of the rate, e.g. {@code 1000000}
+ * @author Josip Begic
+ */
+public record FixedRate(long unscaled, long divisor) {
+
+  private static final int MAX_SCALE = 18;
+
+  public FixedRate {
+    if (unscaled <= 0 || divisor <= 0) {
+      throw new IllegalArgumentException("Rate must be positive: " + unscaled + "/" + divisor);
+    }
+  }
+
+  /**
+   * Creates a fixed-point rate from a decimal rate.
+   * @param rate positive rate with at most 18 fraction digits
+   * @return the fixed-point rate
+   * @throws ArithmeticException if the rate cannot be represented exactly
+   */
+  public static FixedRate of(BigDecimal rate) {
+    BigDecimal stripped = rate.stripTrailingZeros();
+    int scale = Math.max(stripped.scale(), 0);
+    if (scale > MAX_SCALE) {
+      throw new ArithmeticException("Rate " + rate + " has more than " + MAX_SCALE + " fraction digits");
+    }
+    return new FixedRate(stripped.setScale(scale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact(),
+        pow10(scale));
+  }
+
+  /**
+   * Converts an amount in cents, rounding half up to whole cents.
+   * @param cents non-negative amount in cents
+   * @return the converted amount in cents
+   * @throws ArithmeticException if the result does not fit a {@code long}
+   */
+  public long convert(long cents) {
+    if (cents < 0) {
+      throw new IllegalArgumentException("Amount must not be negative: " + cents);
+    }
+    // cents * unscaled / divisor, split so that no intermediate product overflows before the result does.
+    long whole = cents / divisor;
+    long remainder = cents % divisor;
+    long fraction = Math.multiplyExact(remainder, unscaled);
+    long fractionQuotient = fraction / divisor;
+    long fractionRemainder = fraction % divisor;
+    long result = Math.addExact(Math.multiplyExact(whole, unscaled), fractionQuotient);
+    return fractionRemainder >= divisor - fractionRemainder ? Math.incrementExact(result) : result;
+  }
+
+  private static long pow10(int exponent) {
+    long result = 1;
+    for (int i = 0; i < exponent; i++) {
+      result *= 10;
+    }
+    return result;
+  }
+}
@@ -0,0 +1,42 @@
+package org.tech.product_service.outbox;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.tech.product_service.model.OutboxEvent;
+
+/**
+ * Publisher that appends events to a file as JSON lines, for local testing. Each batch is written and
+ * flushed with a single write.
+ * @author Josip Begic
+ */
+public class FileOutboxPublisher implements OutboxPublisher {
+
+  private final Path file;
+
+  public FileOutboxPublisher(Path file) {
+    this.file = file;
+  }
+
+  @Override
+  public synchronized void publish(List<OutboxEvent> events) throws IOException {
+    StringBuilder lines = new StringBuilder();
+    for (OutboxEvent event : events) {
+      lines.append("{\"id\":").append(event.getId())
+          .append(",\"aggregateType\":\"").append(event.getAggregateType())
+          .append("\",\"eventType\":\"").append(event.getEventType())
+          .append("\",\"createdAt\":\"").append(event.getCreatedAt())
+          .append("\",\"payload\":").append(event.getPayload())
+          .append("}\n");
+    }
+    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+      writer.write(lines.toString());
+    }
+  }
+}
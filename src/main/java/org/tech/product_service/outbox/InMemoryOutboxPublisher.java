@@ -0,0 +1,39 @@
+package org.tech.product_service.outbox;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.tech.product_service.model.OutboxEvent;
+
+/**
+ * Publisher that keeps the most recent events in memory, for local testing.
+ * @author Josip Begic
+ */
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+
+  private final int capacity;
+  private final Deque<OutboxEvent> events = new ArrayDeque<>();
+
+  public InMemoryOutboxPublisher(int capacity) {
+    this.capacity = capacity;
+  }
+
+  @Override
+  public synchronized void publish(List<OutboxEvent> batch) {
+    for (OutboxEvent event : batch) {
+      if (events.size() == capacity) {
+        events.removeFirst();
+      }
+      events.addLast(event);
+    }
+  }
+
+  /**
+   * @return published events, oldest first
+   */
+  public synchronized List<OutboxEvent> getEvents() {
+    return new ArrayList<>(events);
+  }
+}
@@ -0,0 +1,23 @@
+package org.tech.product_service.outbox;
+
+import java.util.List;
+
+import org.tech.product_service.model.OutboxEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publisher that only logs events. Default until a real broker publisher is configured.
+ * @author Josip Begic
+ */
+@Slf4j
+public class LoggingOutboxPublisher implements OutboxPublisher {
+
+  @Override
+  public void publish(List<OutboxEvent> events) {
+    for (OutboxEvent event : events) {
+      log.debug("Outbox event {} {} {}: {}", event.getId(), event.getAggregateType(), event.getEventType(),
+          event.getPayload());
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package org.tech.product_service.outbox;
+
+import java.util.List;
+
+import org.tech.product_service.model.OutboxEvent;
+
+/**
+ * Delivers outbox events to other systems.
+ * <p>
+ *   Called by {@link OutboxRelay} with a batch of events in insertion order while their rows are locked.
+ *   The events are deleted when this method returns normally; if it throws, the whole batch is retried on
+ *   the next run, so implementations must tolerate redelivery (consumers deduplicate by event ID).
+ * </p>
+ * @author Josip Begic
+ */
+public interface OutboxPublisher {
+
+  /**
+   * Publishes a batch of events.
+   * @param events events in insertion order
+   * @throws Exception if the batch could not be delivered
+   */
+  void publish(List<OutboxEvent> events) throws Exception;
+}
@@ -0,0 +1,112 @@
+package org.tech.product_service.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+import org.tech.product_service.config.OutboxProperties;
+import org.tech.product_service.model.OutboxEvent;
+import org.tech.product_service.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains the transactional outbox to the configured {@link OutboxPublisher}.
+ * <p>
+ *   Every batch is handled in one transaction: the oldest unlocked rows are locked with
+ *   {@code SELECT ... FOR UPDATE SKIP LOCKED}, published together and deleted with one statement. Several
+ *   instances can relay concurrently without publishing the same batch twice; a failed batch is rolled
+ *   back and retried on the next run.
+ * </p>
+ * @see OutboxWriter
+ * @author Josip Begic
+ */
+@Slf4j
+public class OutboxRelay {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final OutboxPublisher publisher;
+  private final TransactionOperations transactionOperations;
+  private final OutboxProperties properties;
+  private final Counter published;
+  private final Counter failures;
+  private final Timer publishLatency;
+  private final AtomicLong lagMillis = new AtomicLong();
+
+  public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxPublisher publisher,
+      TransactionOperations transactionOperations, OutboxProperties properties, MeterRegistry meterRegistry) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.publisher = publisher;
+    this.transactionOperations = transactionOperations;
+    this.properties = properties;
+    this.published = Counter.builder("product.outbox.published")
+        .description("Outbox events published")
+        .register(meterRegistry);
+    this.failures = Counter.builder("product.outbox.failures")
+        .description("Outbox batches that failed to publish")
+        .register(meterRegistry);
+    this.publishLatency = Timer.builder("product.outbox.latency")
+        .description("Time from writing an outbox event to publishing it")
+        .register(meterRegistry);
+    Gauge.builder("product.outbox.lag", lagMillis, AtomicLong::get)
+        .description("Age of the oldest unpublished outbox event")
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Relays outbox events until the outbox is empty or {@code max-batches-per-run} is reached.
+   * @return number of published events
+   */
+  @Scheduled(fixedDelayString = "${product.outbox.poll-interval:PT1S}")
+  public int relay() {
+    int total = 0;
+    try {
+      for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+        Integer relayed = transactionOperations.execute(status -> relayBatch());
+        total += relayed == null ? 0 : relayed;
+        if (relayed == null || relayed < properties.getBatchSize()) {
+          break;
+        }
+      }
+    } catch (RuntimeException ex) {
+      failures.increment();
+      log.warn("Failed to relay outbox events, retrying on next run: {}", ex.getMessage());
+    }
+    LocalDateTime oldest = outboxEventRepository.findOldestCreatedAt();
+    lagMillis.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()));
+    if (total > 0) {
+      log.debug("Relayed {} outbox events", total);
+    }
+    return total;
+  }
+
+  private int relayBatch() {
+    List<OutboxEvent> events = outboxEventRepository.lockNextBatch(properties.getBatchSize());
+    if (events.isEmpty()) {
+      return 0;
+    }
+    try {
+      publisher.publish(events);
+    } catch (RuntimeException ex) {
+      throw ex;
+    } catch (Exception ex) {
+      throw new IllegalStateException(ex.getMessage(), ex);
+    }
+    outboxEventRepository.deleteAllByIdInBatch(events.stream().map(OutboxEvent::getId).toList());
+
+    LocalDateTime now = LocalDateTime.now();
+    for (OutboxEvent event : events) {
+      publishLatency.record(Duration.between(event.getCreatedAt(), now));
+    }
+    published.increment(events.size());
+    return events.size();
+  }
+}
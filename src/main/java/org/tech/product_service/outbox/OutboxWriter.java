@@ -0,0 +1,52 @@
+package org.tech.product_service.outbox;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.tech.product_service.event.ProductChangedEvent;
+import org.tech.product_service.model.OutboxEvent;
+import org.tech.product_service.repository.OutboxEventRepository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Appends product changes to the transactional outbox.
+ * <p>
+ *   Must be called inside the transaction that makes the change, so the event row commits or rolls back
+ *   together with it.
+ * </p>
+ * @see OutboxRelay
+ * @author Josip Begic
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+  static final String PRODUCT_AGGREGATE = "product";
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Appends a product change to the outbox.
+   * @param event the change
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(ProductChangedEvent event) {
+    String payload;
+    try {
+      payload = objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Failed to serialize product change event " + event.type(), ex);
+    }
+    outboxEventRepository.save(OutboxEvent.builder()
+        .aggregateType(PRODUCT_AGGREGATE)
+        .aggregateId(event.product() == null ? null : String.valueOf(event.product().getId()))
+        .eventType(event.type().name())
+        .payload(payload)
+        .build());
+  }
+}
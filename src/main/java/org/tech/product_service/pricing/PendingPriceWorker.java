@@ -0,0 +1,104 @@
+package org.tech.product_service.pricing;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.tech.product_service.config.PricingProperties;
+import org.tech.product_service.config.SpringCachingConfig;
+import org.tech.product_service.event.ProductChangedEvent;
+import org.tech.product_service.exception.ProductServiceException;
+import org.tech.product_service.mapper.ProductMapper;
+import org.tech.product_service.model.PriceStatus;
+import org.tech.product_service.model.Product;
+import org.tech.product_service.outbox.OutboxWriter;
+import org.tech.product_service.repository.ProductRepository;
+import org.tech.product_service.service.ExchangeRateService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically prices products that were accepted with a {@link PriceStatus#PENDING} USD price.
+ * <p>
+ *   HNB is only called when pending products exist. Pending products are priced in batches of
+ *   {@code product.pricing.batch-size} with one set-based update per batch, so a backlog built up
+ *   during an HNB outage is cleared with a single exchange rate lookup. When no rate is available
+ *   the products stay pending until the next run. Every priced product is published as a
+ *   {@link ProductChangedEvent} and written to the outbox in the same transaction as its update, so
+ *   stream subscribers and other systems learn when pricing completes.
+ * </p>
+ * @see PricingProperties
+ * @author Josip Begic
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingPriceWorker {
+
+  private final ProductRepository productRepository;
+  private final ExchangeRateService exchangeRateService;
+  private final PricingProperties pricingProperties;
+  private final CacheManager cacheManager;
+  private final ProductMapper productMapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private final OutboxWriter outboxWriter;
+  private final TransactionOperations transactionOperations;
+
+  /**
+   * Prices all pending products.
+   * @return number of priced products
+   */
+  @Scheduled(fixedDelayString = "${product.pricing.pending-interval:PT10S}")
+  public int pricePendingProducts() {
+    PageRequest batch = PageRequest.of(0, pricingProperties.getBatchSize());
+    List<Long> ids = productRepository.findIdsByPriceStatus(PriceStatus.PENDING, batch);
+    if (ids.isEmpty()) {
+      return 0;
+    }
+
+    BigDecimal rate;
+    try {
+      rate = exchangeRateService.getUsdToEurMiddleRate();
+    } catch (ProductServiceException ex) {
+      log.warn("Exchange rate still unavailable, products stay pending: {}", ex.getMessage());
+      return 0;
+    }
+
+    int priced = 0;
+    while (!ids.isEmpty()) {
+      List<Long> batchIds = ids;
+      Integer batchPriced = transactionOperations.execute(status -> priceBatch(batchIds, rate));
+      priced += batchPriced == null ? 0 : batchPriced;
+      if (ids.size() < batch.getPageSize()) {
+        break;
+      }
+      ids = productRepository.findIdsByPriceStatus(PriceStatus.PENDING, batch);
+    }
+
+    Cache productsByCode = cacheManager.getCache(SpringCachingConfig.PRODUCTS_BY_CODE_CACHE);
+    if (productsByCode != null) {
+      productsByCode.clear();
+    }
+    log.info("Priced {} pending products with USD to EUR rate {}", priced, rate);
+    return priced;
+  }
+
+  private int priceBatch(List<Long> ids, BigDecimal rate) {
+    int priced = productRepository.pricePending(ids, rate);
+    if (priced > 0) {
+      for (Product product : productRepository.findAllById(ids)) {
+        ProductChangedEvent event = ProductChangedEvent.updated(productMapper.toDto(product));
+        outboxWriter.append(event);
+        eventPublisher.publishEvent(event);
+      }
+    }
+    return priced;
+  }
+}
@@ -0,0 +1,35 @@
+package org.tech.product_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.tech.product_service.model.OutboxEvent;
+
+/**
+ * Repository interface for managing {@link OutboxEvent} entities.
+ *
+ * @author Josip Begic
+ * @see org.tech.product_service.outbox.OutboxRelay
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  /**
+   * Locks the oldest outbox events that are not locked by another relay. Must be called in a transaction;
+   * the locks are held until it ends.
+   * @param limit maximum number of events
+   * @return locked events in insertion order
+   */
+  @Query(value = "SELECT * FROM outbox_event ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+
+  /**
+   * @return creation time of the oldest unpublished event, or {@code null} if the outbox is empty
+   */
+  @Query("select min(e.createdAt) from OutboxEvent e")
+  LocalDateTime findOldestCreatedAt();
+}
@@ -0,0 +1,22 @@
+package org.tech.product_service.repository;
+
+import java.util.List;
+
+import org.tech.product_service.model.Product;
+
+/**
+ * Custom {@link ProductRepository} fragment for loading many products by ID.
+ * @see ProductLookupRepositoryImpl
+ * @author Josip Begic
+ */
+public interface ProductLookupRepository {
+
+  /**
+   * Loads products by ID, taking them from the second-level cache where possible and fetching the rest with
+   * chunked {@code IN} queries.
+   * @param ids distinct product IDs
+   * @return a list aligned with {@code ids}: the product with the ID at the same index, or {@code null} when it
+   *         does not exist
+   */
+  List<Product> findAllByIdInOrder(List<Long> ids);
+}
@@ -0,0 +1,37 @@
+package org.tech.product_service.repository;
+
+import java.util.List;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.tech.product_service.model.Product;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Implementation of {@link ProductLookupRepository} on top of Hibernate's multi-load.
+ * <p>
+ *   {@code findAllById} always queries the database. Hibernate's multi-load first resolves IDs from the
+ *   persistence context and the second-level cache and only queries the misses, {@value #BATCH_SIZE} IDs per
+ *   statement, so large lookups never produce a single oversized {@code IN} list.
+ * </p>
+ * @author Josip Begic
+ */
+public class ProductLookupRepositoryImpl implements ProductLookupRepository {
+
+  static final int BATCH_SIZE = 500;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public List<Product> findAllByIdInOrder(List<Long> ids) {
+    return entityManager.unwrap(Session.class)
+        .byMultipleIds(Product.class)
+        .with(CacheMode.NORMAL)
+        .withBatchSize(BATCH_SIZE)
+        .enableOrderedReturn(true)
+        .multiLoad(ids);
+  }
+}
@@ -1,9 +1,25 @@
 package org.tech.product_service.repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.tech.product_service.model.PriceStatus;
 import org.tech.product_service.model.Product;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for managing {@link Product} entities.
  * <p>
@@ -23,12 +39,72 @@ import org.tech.product_service.model.Product;
  * @see org.springframework.data.jpa.repository.JpaRepository
  */
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductLookupRepository {
+
+  String PAGES_CACHE_REGION = "productPages";
+
+  /**
+   * Finds a product by its unique code (natural identifier).
+   * @param code the 10 character product code
+   * @return the product if one exists with the given code
+   */
+  Optional<Product> findByCode(String code);
+
+  /**
+   * Same as {@link #findAll(Pageable)}, but the result (product IDs) and the total count are stored in the
+   * {@value #PAGES_CACHE_REGION} query cache region. Hibernate invalidates it whenever the product table is
+   * changed through JPA. Meant for the few hot first pages only.
+   * @param pageable page request
+   * @return page of products
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PAGES_CACHE_REGION)
+  })
+  @Query("select p from Product p")
+  Page<Product> findAllCached(Pageable pageable);
+
+  /**
+   * Finds the IDs of products with the given price status, in ID order.
+   * @param priceStatus the price status
+   * @param pageable limits the number of returned IDs
+   * @return IDs of matching products
+   */
+  @Query("select p.id from Product p where p.priceStatus = :priceStatus order by p.id")
+  List<Long> findIdsByPriceStatus(@Param("priceStatus") PriceStatus priceStatus, Pageable pageable);
+
+  /**
+   * Prices pending products with one set-based update. Products that are no longer pending
+   * (e.g. priced concurrently by another instance) are left untouched.
+   * @param ids IDs of the products to price
+   * @param rate USD to EUR middle exchange rate, applied to cents and rounded half up like
+   *             {@link org.tech.product_service.money.FixedRate#convert(long)}
+   * @return number of priced products
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("""
+      update Product p
+      set p.priceUsd = cast(round(p.priceEur * :rate, 0) as Long),
+          p.priceStatus = org.tech.product_service.model.PriceStatus.PRICED,
+          p.updatedAt = local datetime,
+          p.version = p.version + 1
+      where p.id in :ids and p.priceStatus = org.tech.product_service.model.PriceStatus.PENDING""")
+  int pricePending(@Param("ids") List<Long> ids, @Param("rate") BigDecimal rate);
 
   /**
-   * Checks if a product with the given code exists in the database.
-   * @param code the product code to check for existence
-   * @return true if a product with the specified code exists, false otherwise
+   * Sets the availability of the products with the given codes in one set-based update. Products that
+   * already have the requested availability are not touched, so their version and update time stay.
+   * @param codes product codes
+   * @param isAvailable availability to set
+   * @return number of changed products
    */
-  boolean existsByCode(String code);
+  @Modifying(clearAutomatically = true)
+  @Query("""
+      update Product p
+      set p.isAvailable = :isAvailable,
+          p.updatedAt = local datetime,
+          p.version = p.version + 1
+      where p.code in :codes and p.isAvailable <> :isAvailable""")
+  int updateAvailability(@Param("codes") Collection<String> codes, @Param("isAvailable") boolean isAvailable);
 }
@@ -0,0 +1,100 @@
+package org.tech.product_service.repository.bulk;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Portable {@link ProductBulkWriter} using JDBC batches.
+ * <p>
+ *   Used for databases without a {@code COPY} protocol (e.g. H2 in tests). Each chunk of rows is
+ *   first applied as a batch of updates by code; rows that did not match an existing product are
+ *   then inserted with a second batch.
+ * </p>
+ * @author Josip Begic
+ */
+public class JdbcBatchProductBulkWriter implements ProductBulkWriter {
+
+  private static final String UPDATE_BY_CODE = """
+      UPDATE product SET name = ?, price_eur_cents = ?, price_usd_cents = ?, price_status = 'PRICED',
+        is_available = ?, updated_at = ?, version = version + 1
+      WHERE code = ?""";
+
+  private static final String INSERT = """
+      INSERT INTO product (code, name, price_eur_cents, price_usd_cents, price_status, is_available, created_at,
+        updated_at, version)
+      VALUES (?, ?, ?, ?, 'PRICED', ?, ?, ?, 0)""";
+
+  private final int batchSize;
+
+  public JdbcBatchProductBulkWriter(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public long write(Connection connection, Iterator<ProductImportRow> rows) throws SQLException {
+    long written = 0;
+    // Keyed by code so that duplicates inside one chunk collapse to the last row.
+    Map<String, ProductImportRow> chunk = new LinkedHashMap<>();
+    try (PreparedStatement update = connection.prepareStatement(UPDATE_BY_CODE);
+         PreparedStatement insert = connection.prepareStatement(INSERT)) {
+      while (rows.hasNext()) {
+        ProductImportRow row = rows.next();
+        chunk.put(row.code(), row);
+        if (chunk.size() >= batchSize) {
+          written += flush(update, insert, chunk.values());
+          chunk.clear();
+        }
+      }
+      if (!chunk.isEmpty()) {
+        written += flush(update, insert, chunk.values());
+      }
+    }
+    return written;
+  }
+
+  private static int flush(PreparedStatement update, PreparedStatement insert,
+      Collection<ProductImportRow> rows) throws SQLException {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<ProductImportRow> ordered = new ArrayList<>(rows);
+    for (ProductImportRow row : ordered) {
+      update.setString(1, row.name());
+      update.setLong(2, row.priceEurCents());
+      update.setLong(3, row.priceUsdCents());
+      update.setBoolean(4, row.isAvailable());
+      update.setTimestamp(5, now);
+      update.setString(6, row.code());
+      update.addBatch();
+    }
+    int[] updated = update.executeBatch();
+
+    boolean hasInserts = false;
+    for (int i = 0; i < updated.length; i++) {
+      if (updated[i] != 0) {
+        continue;
+      }
+      ProductImportRow row = ordered.get(i);
+      insert.setString(1, row.code());
+      insert.setString(2, row.name());
+      insert.setLong(3, row.priceEurCents());
+      insert.setLong(4, row.priceUsdCents());
+      insert.setBoolean(5, row.isAvailable());
+      insert.setTimestamp(6, now);
+      insert.setTimestamp(7, now);
+      insert.addBatch();
+      hasInserts = true;
+    }
+    if (hasInserts) {
+      insert.executeBatch();
+    }
+    return ordered.size();
+  }
+}
@@ -0,0 +1,116 @@
+package org.tech.product_service.repository.bulk;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ProductBulkWriter} for PostgreSQL using the {@code COPY ... FROM STDIN} protocol.
+ * <p>
+ *   Rows are streamed into a transaction scoped temporary staging table and then merged into
+ *   {@code product} with a single {@code INSERT ... ON CONFLICT (code) DO UPDATE} statement.
+ *   This avoids a round trip per row and lets PostgreSQL parse the data in bulk.
+ * </p>
+ * @author Josip Begic
+ */
+@Slf4j
+public class PostgresCopyProductBulkWriter implements ProductBulkWriter {
+
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+  private static final String CREATE_STAGING_TABLE = """
+      CREATE TEMPORARY TABLE product_import_staging (
+        line_no BIGINT NOT NULL,
+        code VARCHAR(10) NOT NULL,
+        name VARCHAR(255) NOT NULL,
+        price_eur_cents BIGINT NOT NULL,
+        price_usd_cents BIGINT NOT NULL,
+        is_available BOOLEAN NOT NULL
+      ) ON COMMIT DROP""";
+
+  private static final String COPY_INTO_STAGING_TABLE = """
+      COPY product_import_staging (line_no, code, name, price_eur_cents, price_usd_cents, is_available)
+      FROM STDIN WITH (FORMAT csv)""";
+
+  private static final String MERGE_STAGING_TABLE = """
+      INSERT INTO product (code, name, price_eur_cents, price_usd_cents, price_status, is_available, created_at,
+        updated_at, version)
+      SELECT DISTINCT ON (code) code, name, price_eur_cents, price_usd_cents, 'PRICED', is_available, LOCALTIMESTAMP,
+        LOCALTIMESTAMP, 0
+      FROM product_import_staging
+      ORDER BY code, line_no DESC
+      ON CONFLICT (code) DO UPDATE SET
+        name = EXCLUDED.name,
+        price_eur_cents = EXCLUDED.price_eur_cents,
+        price_usd_cents = EXCLUDED.price_usd_cents,
+        price_status = EXCLUDED.price_status,
+        is_available = EXCLUDED.is_available,
+        updated_at = EXCLUDED.updated_at,
+        version = product.version + 1""";
+
+  @Override
+  public long write(Connection connection, Iterator<ProductImportRow> rows) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(CREATE_STAGING_TABLE);
+    }
+
+    CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_INTO_STAGING_TABLE);
+    try {
+      StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 512);
+      while (rows.hasNext()) {
+        appendCsvLine(buffer, rows.next());
+        if (buffer.length() >= COPY_BUFFER_SIZE) {
+          flush(copyIn, buffer);
+        }
+      }
+      flush(copyIn, buffer);
+      long copied = copyIn.endCopy();
+      log.info("Copied {} rows into product import staging table.", copied);
+    } finally {
+      if (copyIn.isActive()) {
+        copyIn.cancelCopy();
+      }
+    }
+
+    try (Statement statement = connection.createStatement()) {
+      return statement.executeUpdate(MERGE_STAGING_TABLE);
+    }
+  }
+
+  private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+    if (buffer.isEmpty()) {
+      return;
+    }
+    byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+    copyIn.writeToCopy(bytes, 0, bytes.length);
+    buffer.setLength(0);
+  }
+
+  private static void appendCsvLine(StringBuilder buffer, ProductImportRow row) {
+    buffer.append(row.lineNumber()).append(',');
+    appendQuoted(buffer, row.code()).append(',');
+    appendQuoted(buffer, row.name()).append(',');
+    buffer.append(row.priceEurCents()).append(',')
+        .append(row.priceUsdCents()).append(',')
+        .append(row.isAvailable()).append('\n');
+  }
+
+  private static StringBuilder appendQuoted(StringBuilder buffer, String value) {
+    buffer.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"') {
+        buffer.append('"');
+      }
+      buffer.append(c);
+    }
+    return buffer.append('"');
+  }
+}
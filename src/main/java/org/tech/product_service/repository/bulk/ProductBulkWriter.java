@@ -0,0 +1,31 @@
+package org.tech.product_service.repository.bulk;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+/**
+ * Writes a stream of product rows into the {@code product} table with upsert-on-code semantics.
+ * <p>
+ *   Implementations consume the iterator lazily so that the whole import never has to be held
+ *   in memory. The connection is bound to the caller's transaction and must not be committed or
+ *   closed by the writer.
+ * </p>
+ * @see PostgresCopyProductBulkWriter
+ * @see JdbcBatchProductBulkWriter
+ * @author Josip Begic
+ */
+public interface ProductBulkWriter {
+
+  /**
+   * Loads all rows and merges them into the {@code product} table. Rows with a code that already
+   * exists update the existing product, other rows are inserted. If the same code appears more than
+   * once, the row with the highest line number wins.
+   *
+   * @param connection JDBC connection participating in the current transaction
+   * @param rows rows to load, consumed lazily
+   * @return number of products inserted or updated
+   * @throws SQLException if loading or merging fails
+   */
+  long write(Connection connection, Iterator<ProductImportRow> rows) throws SQLException;
+}
@@ -0,0 +1,16 @@
+package org.tech.product_service.repository.bulk;
+
+/**
+ * A validated and priced product row ready to be bulk loaded into the {@code product} table.
+ *
+ * @param lineNumber line of the source file the row was read from (used to resolve duplicates, last one wins)
+ * @param code unique 10 character product code
+ * @param name product name
+ * @param priceEurCents price in EUR cents
+ * @param priceUsdCents price in USD cents computed with the exchange rate fetched for the import
+ * @param isAvailable availability status
+ * @author Josip Begic
+ */
+public record ProductImportRow(long lineNumber, String code, String name, long priceEurCents,
+                               long priceUsdCents, boolean isAvailable) {
+}
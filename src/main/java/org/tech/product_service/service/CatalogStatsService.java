@@ -0,0 +1,20 @@
+package org.tech.product_service.service;
+
+import org.tech.product_service.dto.response.CatalogStatsResponse;
+
+/**
+ * Service interface for statistics over the whole product catalog.
+ *
+ * @author Josip Begic
+ */
+public interface CatalogStatsService {
+
+  /**
+   * Returns counts, price distributions and availability of all products. The statistics are computed from an
+   * in-memory snapshot and may lag behind the database by up to {@code product.stats.max-staleness}; writes made
+   * through other instances are picked up by the periodic reload.
+   *
+   * @return the catalog statistics
+   */
+  CatalogStatsResponse getCatalogStats();
+}
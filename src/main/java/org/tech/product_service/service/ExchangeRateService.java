@@ -1,6 +1,7 @@
 package org.tech.product_service.service;
 
 import java.math.BigDecimal;
+import java.util.Optional;
 
 /**
  * ExchangeRateService provides methods to fetch exchange rates between different currencies.
@@ -17,4 +18,12 @@ public interface ExchangeRateService {
    * @return the middle exchange rate from USD to EUR as a BigDecimal
    */
   BigDecimal getUsdToEurMiddleRate();
+
+  /**
+   * Gets the last middle exchange rate from USD to EUR fetched from HNB, if it is still current.
+   * Never calls HNB.
+   *
+   * @return the current middle exchange rate from USD to EUR, or empty if none has been fetched today
+   */
+  Optional<BigDecimal> getCachedUsdToEurMiddleRate();
 }
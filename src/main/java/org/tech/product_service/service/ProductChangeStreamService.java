@@ -0,0 +1,21 @@
+package org.tech.product_service.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * ProductChangeStreamService pushes committed product changes to subscribers as Server-Sent Events.
+ *
+ * @see org.tech.product_service.event.ProductChangedEvent
+ * @author Josip Begic
+ */
+public interface ProductChangeStreamService {
+
+  /**
+   * Subscribes to product changes.
+   * @param lastEventId ID of the last event the client received, or {@code null} for a new subscription.
+   *     Newer events still held in the replay buffer are sent first; an ID issued by another instance or an
+   *     earlier run of this one gets a {@code reset} event.
+   * @return the emitter streaming events to the client
+   */
+  SseEmitter subscribe(String lastEventId);
+}
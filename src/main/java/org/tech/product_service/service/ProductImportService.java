@@ -0,0 +1,26 @@
+package org.tech.product_service.service;
+
+import java.io.InputStream;
+
+import org.tech.product_service.dto.response.ProductImportResponse;
+
+/**
+ * ProductImportService defines the contract for bulk loading products from a CSV file.
+ *
+ * @see ProductImportResponse
+ * @author Josip Begic
+ */
+public interface ProductImportService {
+
+  /**
+   * Imports products from a CSV stream with upsert-on-code semantics.
+   * <p>
+   *   The first line must be a header containing the columns {@code name}, {@code code},
+   *   {@code priceEur} and {@code isAvailable} in any order. Rows are validated like a
+   *   {@code ProductRequest}; invalid rows are rejected and reported, valid rows are imported.
+   * </p>
+   * @param csv CSV content, read as UTF-8 and consumed as a stream
+   * @return {@link ProductImportResponse} with import statistics and rejected rows
+   */
+  ProductImportResponse importProducts(InputStream csv);
+}
@@ -1,9 +1,14 @@
 package org.tech.product_service.service;
 
+import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.tech.product_service.dto.request.ProductAvailabilityRequest;
+import org.tech.product_service.dto.request.ProductPatchRequest;
 import org.tech.product_service.dto.request.ProductRequest;
+import org.tech.product_service.dto.response.ProductAvailabilityResponse;
+import org.tech.product_service.dto.response.ProductLookupResponse;
 import org.tech.product_service.dto.response.ProductResponse;
 
 /**
@@ -30,10 +35,39 @@ public interface ProductService {
    */
   ProductResponse getProductById(Long id);
 
+  /**
+   * Retrieves many products by their unique identifiers in one call.
+   * @param ids the product IDs, duplicates are ignored
+   * @return {@link ProductLookupResponse} with the found products in request order and the missing IDs
+   */
+  ProductLookupResponse lookupProducts(List<Long> ids);
+
+  /**
+   * Retrieves a product by its unique 10 character code.
+   * @param code the unique code of the product.
+   * @return {@link ProductResponse} containing the product details.
+   */
+  ProductResponse getProductByCode(String code);
+
   /**
    * Fetches all products with pagination support.
    * @param pageable {@link Pageable} object containing pagination information.
    * @return a paginated list of {@link ProductResponse}.
    */
   Page<ProductResponse> getAllProducts(Pageable pageable);
+
+  /**
+   * Partially updates a product. Only the fields present in the request are changed and written.
+   * @param id the unique identifier of the product.
+   * @param request {@link ProductPatchRequest} containing the fields to change.
+   * @return {@link ProductResponse} containing the updated product details.
+   */
+  ProductResponse patchProduct(Long id, ProductPatchRequest request);
+
+  /**
+   * Sets the availability of all products with the given codes with a single update statement.
+   * @param request {@link ProductAvailabilityRequest} containing the codes and the availability.
+   * @return {@link ProductAvailabilityResponse} with the number of changed products.
+   */
+  ProductAvailabilityResponse updateAvailability(ProductAvailabilityRequest request);
 }
@@ -0,0 +1,247 @@
+package org.tech.product_service.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.tech.product_service.config.CatalogStatsProperties;
+import org.tech.product_service.dto.response.CatalogStatsResponse;
+import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.event.ProductChangedEvent;
+import org.tech.product_service.exception.ProductServiceException;
+import org.tech.product_service.money.Cents;
+import org.tech.product_service.service.CatalogStatsService;
+import org.tech.product_service.stats.CatalogAggregates;
+import org.tech.product_service.stats.CatalogColumns;
+import org.tech.product_service.stats.PriceAggregates;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CatalogStatsServiceImpl implements the CatalogStatsService interface.
+ * <p>
+ *   Statistics are computed from a {@link CatalogColumns} snapshot instead of loading entities. The snapshot is
+ *   loaded once the application is ready, streamed from a single query, and then kept current by applying
+ *   committed creates and updates from {@link ProductChangedEvent}s. Imports and bulk availability changes do not
+ *   carry the changed rows and trigger a reload in the background, as does the periodic refresh. Changes
+ *   committed while a reload runs are replayed onto the new snapshot; rows only move to newer versions.
+ * </p>
+ * <p>
+ *   Computed statistics are reused until the snapshot changes, and for at most
+ *   {@code product.stats.max-staleness} while it keeps changing.
+ * </p>
+ * @see CatalogStatsService
+ * @author Josip Begic
+ */
+@Service
+@Slf4j
+public class CatalogStatsServiceImpl implements CatalogStatsService {
+
+  static final String LOAD_QUERY = """
+      SELECT id, version, price_eur_cents, price_usd_cents, is_available, updated_at
+      FROM product
+      ORDER BY id""";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate readOnlyTransaction;
+  private final CatalogStatsProperties properties;
+  private final ExecutorService loader =
+      Executors.newSingleThreadExecutor(Thread.ofVirtual().name("catalog-stats-loader").factory());
+  private final AtomicBoolean reloadQueued = new AtomicBoolean();
+
+  private final Object writeLock = new Object();
+  private volatile CatalogColumns columns;
+  private List<ProductResponse> changesDuringReload;
+
+  private final Object computeLock = new Object();
+  private volatile Computed computed;
+
+  public CatalogStatsServiceImpl(DataSource dataSource, PlatformTransactionManager transactionManager,
+      CatalogStatsProperties properties) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.jdbcTemplate.setFetchSize(properties.getFetchSize());
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.properties = properties;
+  }
+
+  @Override
+  public CatalogStatsResponse getCatalogStats() {
+    CatalogColumns current = columns;
+    if (current == null) {
+      throw new ProductServiceException(properties.isEnabled()
+          ? "Catalog statistics are not loaded yet." : "Catalog statistics are disabled.",
+          HttpStatus.SERVICE_UNAVAILABLE);
+    }
+    Computed last = computed;
+    if (last != null && last.isFresh(current, properties.getMaxStaleness().toNanos())) {
+      return last.response();
+    }
+    synchronized (computeLock) {
+      last = computed;
+      if (last != null && last.isFresh(current, properties.getMaxStaleness().toNanos())) {
+        return last.response();
+      }
+      long start = System.nanoTime();
+      CatalogAggregates aggregates = current.aggregate();
+      CatalogStatsResponse response = toResponse(aggregates);
+      computed = new Computed(current, aggregates.modifications(), System.nanoTime(), response);
+      log.debug("Computed statistics of {} products in {} us.", aggregates.productCount(),
+          TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+      return response;
+    }
+  }
+
+  /**
+   * Applies a committed product change to the snapshot.
+   * @param event the product change
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    switch (event.type()) {
+      case CREATED, UPDATED -> apply(event.product());
+      case IMPORTED, AVAILABILITY_CHANGED -> requestReload();
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    requestReload();
+  }
+
+  @Scheduled(fixedDelayString = "${product.stats.refresh-interval:PT5M}",
+             initialDelayString = "${product.stats.refresh-interval:PT5M}")
+  public void refresh() {
+    requestReload();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    loader.shutdownNow();
+  }
+
+  /**
+   * Queues a reload of the snapshot unless one is already queued.
+   */
+  void requestReload() {
+    if (properties.isEnabled() && reloadQueued.compareAndSet(false, true)) {
+      loader.execute(this::reload);
+    }
+  }
+
+  void reload() {
+    // Cleared first, so that a change arriving during this reload queues another one.
+    reloadQueued.set(false);
+    long start = System.nanoTime();
+    synchronized (writeLock) {
+      changesDuringReload = new ArrayList<>();
+    }
+    try {
+      CatalogColumns previous = columns;
+      CatalogColumns loaded = new CatalogColumns(previous == null ? 0 : previous.size());
+      readOnlyTransaction.executeWithoutResult(status ->
+          jdbcTemplate.query(LOAD_QUERY, (RowCallbackHandler) rs -> {
+            long priceUsd = rs.getLong(4);
+            if (rs.wasNull()) {
+              priceUsd = CatalogColumns.NO_PRICE;
+            }
+            loaded.upsert(rs.getLong(1), rs.getLong(2), rs.getLong(3), priceUsd, rs.getBoolean(5),
+                toSeconds(rs.getObject(6, LocalDateTime.class)));
+          }));
+      synchronized (writeLock) {
+        changesDuringReload.forEach(product -> upsert(loaded, product));
+        columns = loaded;
+      }
+      log.info("Loaded catalog statistics snapshot of {} products in {} ms.", loaded.size(),
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    } catch (RuntimeException ex) {
+      log.error("Failed to load catalog statistics snapshot: {}", ex.getMessage());
+    } finally {
+      synchronized (writeLock) {
+        changesDuringReload = null;
+      }
+    }
+  }
+
+  private void apply(ProductResponse product) {
+    synchronized (writeLock) {
+      CatalogColumns current = columns;
+      if (current != null) {
+        upsert(current, product);
+      }
+      if (changesDuringReload != null) {
+        changesDuringReload.add(product);
+      }
+    }
+  }
+
+  private static void upsert(CatalogColumns target, ProductResponse product) {
+    target.upsert(product.getId(), product.getVersion() == null ? 0 : product.getVersion(),
+        Cents.of(product.getPriceEur()),
+        product.getPriceUsd() == null ? CatalogColumns.NO_PRICE : Cents.of(product.getPriceUsd()),
+        Boolean.TRUE.equals(product.getIsAvailable()), toSeconds(product.getUpdatedAt()));
+  }
+
+  private static long toSeconds(LocalDateTime dateTime) {
+    return dateTime == null ? Long.MIN_VALUE : dateTime.toEpochSecond(ZoneOffset.UTC);
+  }
+
+  private static CatalogStatsResponse toResponse(CatalogAggregates aggregates) {
+    long count = aggregates.productCount();
+    return CatalogStatsResponse.builder()
+        .productCount(count)
+        .availableCount(aggregates.availableCount())
+        .availabilityRatio(count == 0 ? 0 : (double) aggregates.availableCount() / count)
+        .pendingPriceCount(aggregates.pendingPriceCount())
+        .priceEur(toStatistics(aggregates.priceEur()))
+        .priceUsd(toStatistics(aggregates.priceUsd()))
+        .lastUpdatedAt(aggregates.lastUpdatedAt() == null || aggregates.lastUpdatedAt() == Long.MIN_VALUE
+            ? null : LocalDateTime.ofEpochSecond(aggregates.lastUpdatedAt(), 0, ZoneOffset.UTC))
+        .computedAt(LocalDateTime.now())
+        .build();
+  }
+
+  private static CatalogStatsResponse.PriceStatistics toStatistics(PriceAggregates prices) {
+    if (prices == null) {
+      return null;
+    }
+    return CatalogStatsResponse.PriceStatistics.builder()
+        .min(Cents.toDecimal(prices.min()))
+        .max(Cents.toDecimal(prices.max()))
+        .avg(Cents.toDecimal(prices.avg()))
+        .p50(Cents.toDecimal(prices.p50()))
+        .p90(Cents.toDecimal(prices.p90()))
+        .p99(Cents.toDecimal(prices.p99()))
+        .build();
+  }
+
+  /**
+   * Statistics computed from a snapshot at a given modification count.
+   */
+  private record Computed(CatalogColumns columns, long modifications, long computedAtNanos,
+                          CatalogStatsResponse response) {
+
+    boolean isFresh(CatalogColumns current, long maxStalenessNanos) {
+      return columns == current
+          && (modifications == current.modifications() || System.nanoTime() - computedAtNanos < maxStalenessNanos);
+    }
+  }
+}
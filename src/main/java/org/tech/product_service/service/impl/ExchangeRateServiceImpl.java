@@ -2,14 +2,21 @@ package org.tech.product_service.service.impl;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.tech.product_service.config.SpringCachingConfig;
 import org.tech.product_service.exception.ProductServiceException;
 import org.tech.product_service.external.hnb.HnbClient;
 import org.tech.product_service.external.hnb.HnbRateDto;
+import org.tech.product_service.jfr.ExchangeRateLookupEvent;
 import org.tech.product_service.service.ExchangeRateService;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -18,29 +25,50 @@ import lombok.extern.slf4j.Slf4j;
  * to fetch and refresh exchange rates from the Croatian National Bank (HNB).
  * It includes methods to get the USD to EUR middle exchange rate, ensuring that the rate is
  * up-to-date by checking its date of application.
+ * <p>
+ *   Every lookup is recorded as an {@link ExchangeRateLookupEvent} while a flight recording is running.
+ * </p>
  *
  * @see ExchangeRateService
  * @author Josip Begic
  */
 @Service
+@Observed(name = "product.exchange-rate")
 @RequiredArgsConstructor
 @Slf4j
 public class ExchangeRateServiceImpl implements ExchangeRateService {
 
   private final HnbClient hnbClient;
+  private final CacheManager cacheManager;
   private static final String USD_CURRENCY = "USD";
+  private final AtomicReference<HnbRateDto> lastUsdRate = new AtomicReference<>();
 
   @Override
   public BigDecimal getUsdToEurMiddleRate() {
     log.info("Fetching USD to EUR exchange rate");
+    ExchangeRateLookupEvent event = new ExchangeRateLookupEvent(USD_CURRENCY);
+    boolean recording = event.isEnabled();
+    event.begin();
+    if (recording) {
+      event.cacheHit = isCached(USD_CURRENCY);
+    }
     try {
+      long started = recording ? System.nanoTime() : 0;
       HnbRateDto usdRate = hnbClient.getExchangeRateForCurrency(USD_CURRENCY);
+      if (recording && !event.cacheHit) {
+        event.hnbDuration = System.nanoTime() - started;
+      }
 
       if (usdRate == null || usdRate.getMiddleRateAsBigDecimal() == null
           || usdRate.getDateOfApplicationAsLocalDate().isBefore(LocalDate.now())) {
 
         log.info("USD rate is missing or stale. Refreshing from HNB...");
+        event.refreshed = true;
+        started = recording ? System.nanoTime() : 0;
         usdRate = hnbClient.refreshExchangeRateForCurrency(USD_CURRENCY);
+        if (recording) {
+          event.hnbDuration += System.nanoTime() - started;
+        }
 
         if (usdRate == null || usdRate.getMiddleRateAsBigDecimal() == null) {
           throw new ProductServiceException(
@@ -48,12 +76,35 @@ public class ExchangeRateServiceImpl implements ExchangeRateService {
         }
       }
       log.info("USD to EUR exchange rate fetched: {}", usdRate.getMiddleRateAsBigDecimal());
+      lastUsdRate.set(usdRate);
+      event.succeeded = true;
       return usdRate.getMiddleRateAsBigDecimal();
     } catch (Exception ex) {
       log.error("Error fetching USD to EUR exchange rate: {}", ex.getMessage());
       throw new ProductServiceException(
           "Error occurred while trying to fetch exchange rate from Croatian National Bank (HNB).",
           HttpStatus.SERVICE_UNAVAILABLE);
+    } finally {
+      event.commit();
     }
   }
+
+  @Override
+  public Optional<BigDecimal> getCachedUsdToEurMiddleRate() {
+    HnbRateDto usdRate = lastUsdRate.get();
+    if (usdRate == null || usdRate.getDateOfApplicationAsLocalDate().isBefore(LocalDate.now())) {
+      return Optional.empty();
+    }
+    return Optional.of(usdRate.getMiddleRateAsBigDecimal());
+  }
+
+  /**
+   * Peeks into the exchange rate cache; only called while the lookup is being recorded. Goes through the
+   * Caffeine map view, which does not count as a hit or miss in the {@code exchangeRates} cache statistics.
+   */
+  private boolean isCached(String currency) {
+    Cache cache = cacheManager.getCache(SpringCachingConfig.EXCHANGE_RATES_CACHE);
+    return cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine
+        && caffeine.asMap().containsKey(currency);
+  }
 }
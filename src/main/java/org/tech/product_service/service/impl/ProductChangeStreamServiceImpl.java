@@ -0,0 +1,250 @@
+package org.tech.product_service.service.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.tech.product_service.config.ProductStreamProperties;
+import org.tech.product_service.event.ProductChangedEvent;
+import org.tech.product_service.exception.ProductServiceException;
+import org.tech.product_service.service.ProductChangeStreamService;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ProductChangeStreamServiceImpl implements the ProductChangeStreamService interface.
+ * <p>
+ *   Committed {@link ProductChangedEvent}s are serialized once, numbered and appended to an in-memory
+ *   replay ring. Every subscriber has a bounded queue drained by its own virtual thread, so a slow client
+ *   never blocks the publisher or other subscribers. A subscriber whose queue overflows is sent a
+ *   {@code dropped} event carrying the ID of the last event it received and is disconnected; it resumes
+ *   by reconnecting with that ID as {@code Last-Event-ID}. When the requested ID has already left the
+ *   replay ring a {@code reset} event tells the client to re-read the catalog.
+ * </p>
+ * <p>
+ *   Event IDs are {@code <bootId>-<sequence>}. The sequence restarts with every process, so an ID carrying another
+ *   boot ID, issued by another instance behind the load balancer or before a restart, says nothing about which of
+ *   this process's events the client has seen and is answered with {@code reset} too.
+ * </p>
+ * <p>
+ *   The ring is filled only by this instance's own application events. The outbox cannot feed it, since every
+ *   outbox row is relayed by a single instance, so subscribers never see changes made on other instances.
+ * </p>
+ * @see ProductChangeStreamService
+ * @author Josip Begic
+ */
+@Service
+@Slf4j
+public class ProductChangeStreamServiceImpl implements ProductChangeStreamService {
+
+  static final String DROPPED_EVENT = "dropped";
+  static final String RESET_EVENT = "reset";
+  static final char ID_SEPARATOR = '-';
+
+  private final ObjectMapper objectMapper;
+  private final ProductStreamProperties properties;
+  private final Counter droppedSubscribers;
+  private final String bootId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+  private final Object lock = new Object();
+  private final Change[] ring;
+  private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+  private long nextId = 1;
+
+  public ProductChangeStreamServiceImpl(ObjectMapper objectMapper, ProductStreamProperties properties,
+      MeterRegistry meterRegistry) {
+    this.objectMapper = objectMapper;
+    this.properties = properties;
+    this.ring = new Change[properties.getReplaySize()];
+    Gauge.builder("product.stream.subscribers", subscribers, Set::size)
+        .description("Connected product change stream subscribers")
+        .register(meterRegistry);
+    this.droppedSubscribers = Counter.builder("product.stream.dropped")
+        .description("Subscribers disconnected because they fell behind")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public SseEmitter subscribe(String lastEventId) {
+    if (subscribers.size() >= properties.getMaxSubscribers()) {
+      throw new ProductServiceException("Too many product stream subscribers.", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+    SseEmitter emitter = createEmitter(properties.getTimeout().toMillis());
+    Subscriber subscriber;
+    synchronized (lock) {
+      long oldestId = Math.max(1, nextId - ring.length);
+      List<Change> backlog = new ArrayList<>();
+      boolean gap = false;
+      long lastDeliveredId = nextId - 1;
+      if (lastEventId != null) {
+        long lastId = sequenceOf(lastEventId);
+        gap = lastId < oldestId - 1 || lastId >= nextId;
+        lastDeliveredId = gap ? oldestId - 1 : lastId;
+        for (long id = lastDeliveredId + 1; id < nextId; id++) {
+          backlog.add(ring[(int) (id % ring.length)]);
+        }
+      }
+      subscriber = new Subscriber(emitter, backlog, gap, lastDeliveredId);
+      subscribers.add(subscriber);
+    }
+    emitter.onCompletion(subscriber::close);
+    emitter.onTimeout(subscriber::close);
+    emitter.onError(ex -> subscriber.close());
+    Thread.ofVirtual().name("product-stream-", subscriber.hashCode()).start(subscriber::drain);
+    return emitter;
+  }
+
+  /**
+   * Appends a committed change to the replay ring and hands it to all subscribers. Runs immediately when
+   * the event is published outside a transaction.
+   * @param event the product change
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    String json;
+    try {
+      json = objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException ex) {
+      log.error("Failed to serialize product change event {}: {}", event.type(), ex.getMessage());
+      return;
+    }
+    String name = event.type().name().toLowerCase(Locale.ROOT);
+    synchronized (lock) {
+      Change change = new Change(nextId++, name, json);
+      ring[(int) (change.id() % ring.length)] = change;
+      for (Subscriber subscriber : subscribers) {
+        subscriber.offer(change);
+      }
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    for (Subscriber subscriber : subscribers) {
+      subscriber.emitter.complete();
+      subscriber.close();
+    }
+  }
+
+  /**
+   * @param sequence sequence number of an event of this process
+   * @return the event ID sent to clients
+   */
+  String eventId(long sequence) {
+    return bootId + ID_SEPARATOR + sequence;
+  }
+
+  /**
+   * @param eventId an event ID sent by a client
+   * @return its sequence number, or {@code -1} when it was not issued by this process
+   */
+  long sequenceOf(String eventId) {
+    int separator = eventId.lastIndexOf(ID_SEPARATOR);
+    if (separator != bootId.length() || !eventId.startsWith(bootId)) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(eventId, separator + 1, eventId.length(), 10);
+    } catch (NumberFormatException ex) {
+      return -1;
+    }
+  }
+
+  SseEmitter createEmitter(long timeoutMillis) {
+    return new SseEmitter(timeoutMillis);
+  }
+
+  int getSubscriberCount() {
+    return subscribers.size();
+  }
+
+  private record Change(long id, String name, String json) {
+  }
+
+  private final class Subscriber {
+
+    private final SseEmitter emitter;
+    private final List<Change> backlog;
+    private final boolean gap;
+    private final BlockingQueue<Change> queue;
+    private volatile boolean overflowed;
+    private volatile boolean closed;
+    private long lastDeliveredId;
+
+    private Subscriber(SseEmitter emitter, List<Change> backlog, boolean gap, long lastDeliveredId) {
+      this.emitter = emitter;
+      this.backlog = backlog;
+      this.gap = gap;
+      this.lastDeliveredId = lastDeliveredId;
+      this.queue = new ArrayBlockingQueue<>(properties.getSubscriberBuffer());
+    }
+
+    private void offer(Change change) {
+      if (!overflowed && !queue.offer(change)) {
+        overflowed = true;
+      }
+    }
+
+    private void drain() {
+      long heartbeatNanos = properties.getHeartbeat().toNanos();
+      try {
+        if (gap) {
+          emitter.send(SseEmitter.event().name(RESET_EVENT).data("{\"reason\":\"replay window exceeded\"}"));
+        }
+        for (Change change : backlog) {
+          send(change);
+        }
+        while (!closed) {
+          if (overflowed) {
+            droppedSubscribers.increment();
+            log.debug("Dropping slow product stream subscriber, resume from {}", lastDeliveredId);
+            emitter.send(SseEmitter.event().name(DROPPED_EVENT)
+                .data("{\"resumeFrom\":\"" + eventId(lastDeliveredId) + "\"}"));
+            emitter.complete();
+            break;
+          }
+          Change change = queue.poll(heartbeatNanos, TimeUnit.NANOSECONDS);
+          if (change == null) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+          } else {
+            send(change);
+          }
+        }
+      } catch (IOException | IllegalStateException ex) {
+        log.debug("Product stream subscriber disconnected: {}", ex.getMessage());
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      } finally {
+        close();
+      }
+    }
+
+    private void send(Change change) throws IOException {
+      emitter.send(SseEmitter.event().id(eventId(change.id())).name(change.name()).data(change.json()));
+      lastDeliveredId = change.id();
+    }
+
+    private void close() {
+      closed = true;
+      subscribers.remove(this);
+    }
+  }
+}
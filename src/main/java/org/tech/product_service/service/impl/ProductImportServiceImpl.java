@@ -0,0 +1,284 @@
+package org.tech.product_service.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.hibernate.Cache;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.tech.product_service.config.SpringCachingConfig;
+import org.tech.product_service.dto.request.ProductRequest;
+import org.tech.product_service.dto.response.ProductImportResponse;
+import org.tech.product_service.event.ProductChangedEvent;
+import org.tech.product_service.exception.ProductServiceException;
+import org.tech.product_service.money.Cents;
+import org.tech.product_service.money.FixedRate;
+import org.tech.product_service.outbox.OutboxWriter;
+import org.tech.product_service.repository.bulk.ProductBulkWriter;
+import org.tech.product_service.repository.bulk.ProductImportRow;
+import org.tech.product_service.service.ExchangeRateService;
+import org.tech.product_service.service.ProductImportService;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ProductImportServiceImpl implements the ProductImportService interface.
+ * <p>
+ *   The CSV stream is parsed line by line and handed to the {@link ProductBulkWriter} as a lazy
+ *   iterator, so memory use does not depend on the file size. The USD price of every row is
+ *   computed with a single exchange rate fetched before the import starts.
+ * </p>
+ * @see ProductImportService
+ * @author Josip Begic
+ */
+@Service
+@Observed(name = "product.import")
+@RequiredArgsConstructor
+@Slf4j
+public class ProductImportServiceImpl implements ProductImportService {
+
+  static final int MAX_REPORTED_REJECTS = 1000;
+  private static final int MAX_NAME_LENGTH = 255;
+
+  private static final String NAME_COLUMN = "name";
+  private static final String CODE_COLUMN = "code";
+  private static final String PRICE_EUR_COLUMN = "priceEur";
+  private static final String IS_AVAILABLE_COLUMN = "isAvailable";
+  private static final List<String> REQUIRED_COLUMNS =
+      List.of(NAME_COLUMN, CODE_COLUMN, PRICE_EUR_COLUMN, IS_AVAILABLE_COLUMN);
+
+  private final ProductBulkWriter productBulkWriter;
+  private final ExchangeRateService exchangeRateService;
+  private final Validator validator;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final OutboxWriter outboxWriter;
+  private final EntityManagerFactory entityManagerFactory;
+
+  @CacheEvict(value = SpringCachingConfig.PRODUCTS_BY_CODE_CACHE, allEntries = true)
+  @Override
+  public ProductImportResponse importProducts(InputStream csv) {
+    // Fetched once up front so that neither HNB nor a per-row lookup is in the load path.
+    FixedRate usdToEurRate = FixedRate.of(exchangeRateService.getUsdToEurMiddleRate());
+    long start = System.nanoTime();
+
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+      CsvRowIterator rows = new CsvRowIterator(reader, usdToEurRate);
+      Long imported = transactionTemplate.execute(status -> {
+        Long written = jdbcTemplate.execute(
+            (ConnectionCallback<Long>) connection -> productBulkWriter.write(connection, rows));
+        if (written != null && written > 0) {
+          ProductChangedEvent event = ProductChangedEvent.imported();
+          outboxWriter.append(event);
+          eventPublisher.publishEvent(event);
+        }
+        return written;
+      });
+      // Rows were written with plain JDBC, which Hibernate does not see: drop cached entities and queries.
+      entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+
+      long durationNanos = System.nanoTime() - start;
+      long durationMillis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+      long rowsPerSecond = durationNanos > 0 ? rows.rowsRead * 1_000_000_000L / durationNanos : rows.rowsRead;
+      log.info("Imported {} products from {} rows ({} rejected) in {} ms, {} rows/s.",
+          imported, rows.rowsRead, rows.rowsRejected, durationMillis, rowsPerSecond);
+
+      return ProductImportResponse.builder()
+          .rowsRead(rows.rowsRead)
+          .rowsImported(imported == null ? 0 : imported)
+          .rowsRejected(rows.rowsRejected)
+          .durationMillis(durationMillis)
+          .rowsPerSecond(rowsPerSecond)
+          .rejects(rows.rejects)
+          .build();
+    } catch (IOException | UncheckedIOException ex) {
+      log.error("Failed to read product import: {}", ex.getMessage());
+      throw new ProductServiceException("Failed to read the uploaded CSV file.", HttpStatus.BAD_REQUEST);
+    }
+  }
+
+  /**
+   * Lazily parses, validates and prices CSV lines. Invalid lines are skipped and recorded.
+   */
+  private final class CsvRowIterator implements Iterator<ProductImportRow> {
+
+    private final BufferedReader reader;
+    private final FixedRate usdToEurRate;
+    private final Map<String, Integer> columns;
+    private final List<ProductImportResponse.Reject> rejects = new ArrayList<>();
+    private long lineNumber = 1;
+    private long rowsRead;
+    private long rowsRejected;
+    private ProductImportRow next;
+
+    private CsvRowIterator(BufferedReader reader, FixedRate usdToEurRate) throws IOException {
+      this.reader = reader;
+      this.usdToEurRate = usdToEurRate;
+      this.columns = readHeader(reader.readLine());
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (next == null) {
+        String line = readLine();
+        if (line == null) {
+          return false;
+        }
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+        rowsRead++;
+        next = toRow(line);
+      }
+      return true;
+    }
+
+    @Override
+    public ProductImportRow next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      ProductImportRow row = next;
+      next = null;
+      return row;
+    }
+
+    private String readLine() {
+      try {
+        return reader.readLine();
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+
+    private ProductImportRow toRow(String line) {
+      List<String> fields = parseCsvLine(line);
+      if (fields == null || fields.size() < columns.size()) {
+        return reject("Malformed CSV line");
+      }
+
+      ProductRequest request = new ProductRequest();
+      request.setName(field(fields, NAME_COLUMN));
+      request.setCode(field(fields, CODE_COLUMN));
+      try {
+        String price = field(fields, PRICE_EUR_COLUMN);
+        request.setPriceEur(price.isEmpty() ? null : new BigDecimal(price));
+      } catch (NumberFormatException ex) {
+        return reject("priceEur: Price in EUR must be a valid decimal number");
+      }
+      String available = field(fields, IS_AVAILABLE_COLUMN).toLowerCase(Locale.ROOT);
+      if (!available.isEmpty() && !"true".equals(available) && !"false".equals(available)) {
+        return reject("isAvailable: Product availability must be true or false");
+      }
+      request.setIsAvailable(available.isEmpty() ? null : Boolean.valueOf(available));
+
+      Set<ConstraintViolation<ProductRequest>> violations = validator.validate(request);
+      if (!violations.isEmpty()) {
+        return reject(violations.stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining("; ")));
+      }
+      if (request.getName().length() > MAX_NAME_LENGTH) {
+        return reject("name: Product name must be at most " + MAX_NAME_LENGTH + " characters long");
+      }
+
+      long priceEurCents = Cents.of(request.getPriceEur());
+      return new ProductImportRow(lineNumber, request.getCode(), request.getName(), priceEurCents,
+          usdToEurRate.convert(priceEurCents), request.getIsAvailable());
+    }
+
+    private String field(List<String> fields, String column) {
+      return fields.get(columns.get(column)).trim();
+    }
+
+    private ProductImportRow reject(String reason) {
+      rowsRejected++;
+      if (rejects.size() < MAX_REPORTED_REJECTS) {
+        rejects.add(new ProductImportResponse.Reject(lineNumber, reason));
+      }
+      return null;
+    }
+  }
+
+  private static Map<String, Integer> readHeader(String header) {
+    if (header == null) {
+      throw new ProductServiceException("CSV file is empty, a header line is required.", HttpStatus.BAD_REQUEST);
+    }
+    List<String> names = parseCsvLine(header.replace("\uFEFF", ""));
+    Map<String, Integer> columns = new HashMap<>();
+    if (names != null) {
+      for (int i = 0; i < names.size(); i++) {
+        columns.put(names.get(i).trim(), i);
+      }
+    }
+    List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+    if (!missing.isEmpty()) {
+      throw new ProductServiceException("CSV header is missing required columns: " + missing,
+          HttpStatus.BAD_REQUEST);
+    }
+    return columns;
+  }
+
+  /**
+   * Splits a single CSV line (RFC 4180 quoting, no embedded line breaks).
+   * @return the fields or {@code null} if a quoted field is not terminated
+   */
+  static List<String> parseCsvLine(String line) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          field.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    if (quoted) {
+      return null;
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+}
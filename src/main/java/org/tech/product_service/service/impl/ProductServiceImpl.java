@@ -1,22 +1,53 @@
 package org.tech.product_service.service.impl;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.tech.product_service.cache.MissingProductIds;
+import org.tech.product_service.cache.ProductPageKeyGenerator;
+import org.tech.product_service.config.PricingProperties;
+import org.tech.product_service.config.ProductCacheProperties;
+import org.tech.product_service.config.SpringCachingConfig;
+import org.tech.product_service.dto.request.ProductAvailabilityRequest;
+import org.tech.product_service.dto.request.ProductPatchRequest;
 import org.tech.product_service.dto.request.ProductRequest;
+import org.tech.product_service.dto.response.ProductAvailabilityResponse;
+import org.tech.product_service.dto.response.ProductLookupResponse;
 import org.tech.product_service.dto.response.ProductResponse;
-import org.tech.product_service.exception.ProductServiceException;
+import org.tech.product_service.event.ProductChangedEvent;
+import org.tech.product_service.exception.ProductConflictException;
+import org.tech.product_service.exception.ProductNotFoundException;
+import org.tech.product_service.jfr.ProductDatabaseEvent;
+import org.tech.product_service.jfr.ProductOperationEvent;
 import org.tech.product_service.mapper.ProductMapper;
+import org.tech.product_service.model.PriceStatus;
+import org.tech.product_service.money.Cents;
+import org.tech.product_service.money.FixedRate;
 import org.tech.product_service.model.Product;
+import org.tech.product_service.outbox.OutboxWriter;
 import org.tech.product_service.repository.ProductRepository;
 import org.tech.product_service.service.ExchangeRateService;
 import org.tech.product_service.service.ProductService;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,60 +55,348 @@ import lombok.extern.slf4j.Slf4j;
  * ProductServiceImpl implements the ProductService interface and provides business logic
  * for managing products. It includes methods to create a product, retrieve a product by ID,
  * and fetch all products with pagination support.
+ * <p>
+ *   Product creation is not transactional as a whole: the exchange rate is resolved before the
+ *   insert, so no database connection is held while waiting on HNB. Only the insert and its outbox
+ *   event share a transaction. Partial updates work the same way and write only the changed columns,
+ *   guarded by the product version.
+ * </p>
+ * <p>
+ *   Creates and reads are recorded as {@link ProductOperationEvent}s and repository calls as
+ *   {@link ProductDatabaseEvent}s while a flight recording is running.
+ * </p>
  *
  * @see ProductService
  * @author Josip Begic
  */
 @Service
+@Observed(name = "product.service")
 @RequiredArgsConstructor
 @Slf4j
 public class ProductServiceImpl implements ProductService {
 
+  private static final String UNIQUE_VIOLATION = "23505";
+
   private final ProductRepository productRepository;
   private final ProductMapper productMapper;
   private final ExchangeRateService exchangeRateService;
+  private final PricingProperties pricingProperties;
+  private final ApplicationEventPublisher eventPublisher;
+  private final OutboxWriter outboxWriter;
+  private final TransactionOperations transactionOperations;
+  private final ProductCacheProperties productCacheProperties;
+  private final CacheManager cacheManager;
+  private final MissingProductIds missingProductIds;
 
-  @Transactional
+  @CacheEvict(value = SpringCachingConfig.PRODUCTS_BY_CODE_CACHE, key = "#request.code")
   @Override
   public ProductResponse createProduct(ProductRequest request) {
     log.info("Creating product {}", request);
+    ProductOperationEvent operation = new ProductOperationEvent("create");
+    operation.begin();
+    operation.code = request.getCode();
 
-    if (productRepository.existsByCode(request.getCode())) {
-      throw new ProductServiceException("Product with code: " + request.getCode() + " already exists.",
-          HttpStatus.CONFLICT);
-    }
     Product product = productMapper.toEntity(request);
-    BigDecimal usdPrice = request.getPriceEur()
-        .multiply(exchangeRateService.getUsdToEurMiddleRate())
-        .setScale(2, RoundingMode.HALF_UP);
-    product.setPriceUsd(usdPrice);
+    ProductResponse response;
+    try {
+      applyPrice(product, Cents.of(request.getPriceEur()), resolveRate());
+      // Insert directly and let the unique constraint on product.code detect duplicates.
+      // This saves a round trip per create and is not racy like an exists-then-insert check.
+      // The outbox row commits atomically with the product.
+      response = transactionOperations.execute(status -> {
+        ProductResponse saved =
+            productMapper.toDto(database("saveAndFlush", () -> productRepository.saveAndFlush(product)));
+        ProductChangedEvent event = ProductChangedEvent.created(saved);
+        appendToOutbox(event);
+        eventPublisher.publishEvent(event);
+        return saved;
+      });
+      operation.productId = response.getId();
+      operation.outcome = "created";
+    } catch (DataIntegrityViolationException ex) {
+      if (!isDuplicateCode(ex)) {
+        operation.outcome = "error";
+        throw ex;
+      }
+      log.warn("Product with code: {} rejected by database constraint: {}", request.getCode(),
+          ex.getMostSpecificCause().getMessage());
+      operation.outcome = "conflict";
+      throw new ProductConflictException("Product with code: " + request.getCode() + " already exists.");
+    } finally {
+      operation.commit();
+    }
+    log.info("Product with ID: {} saved to database.", response.getId());
+    return response;
+  }
 
-    Product savedProduct = productRepository.save(product);
-    log.info("Product with ID: {} saved to database.", savedProduct.getId());
 
-    return productMapper.toDto(savedProduct);
+  /**
+   * Not transactional: a product has no lazy associations, and an ID that is known to be missing is answered
+   * without acquiring a connection. The repository lookup runs in its own read-only transaction.
+   */
+  @Override
+  public ProductResponse getProductById(Long id) {
+    log.info("Fetching product with ID: {}", id);
+    ProductOperationEvent operation = new ProductOperationEvent("getById");
+    operation.begin();
+    operation.productId = id;
+    operation.outcome = "missing";
+    try {
+      if (missingProductIds.isMissing(id)) {
+        operation.outcome = "knownMissing";
+        throw productNotFound(id);
+      }
+      long missingStamp = missingProductIds.stamp();
+      Product product = database("findById", () -> productRepository.findById(id)).orElse(null);
+      if (product == null) {
+        missingProductIds.markMissing(id, missingStamp);
+        throw productNotFound(id);
+      }
+      missingProductIds.markExisting(id);
+      log.info("Product with ID: {} fetched from database.", id);
+      operation.products = 1;
+      operation.outcome = "found";
+      return productMapper.toDto(product);
+    } finally {
+      operation.commit();
+    }
   }
 
+  /**
+   * IDs known to be missing are skipped; the others are loaded with one multi-load that takes products from the
+   * second-level cache and fetches the rest in chunked {@code IN} queries.
+   */
+  @Transactional(readOnly = true)
+  @Override
+  public ProductLookupResponse lookupProducts(List<Long> ids) {
+    Set<Long> distinct = new LinkedHashSet<>(ids);
+    log.info("Looking up {} products by ID", distinct.size());
+    ProductOperationEvent operation = new ProductOperationEvent("lookup");
+    operation.begin();
+    List<Long> candidates = new ArrayList<>(distinct.size());
+    for (Long id : distinct) {
+      if (!missingProductIds.isMissing(id)) {
+        candidates.add(id);
+      }
+    }
+    long missingStamp = missingProductIds.stamp();
+    List<Product> loaded = candidates.isEmpty() ? List.of()
+        : database("findAllByIdInOrder", () -> productRepository.findAllByIdInOrder(candidates));
+    for (Product product : loaded) {
+      if (product != null) {
+        missingProductIds.markExisting(product.getId());
+      }
+    }
+
+    List<ProductResponse> products = new ArrayList<>(loaded.size());
+    List<Long> missingIds = new ArrayList<>();
+    int next = 0;
+    for (Long id : distinct) {
+      boolean loadedId = next < candidates.size() && candidates.get(next).equals(id);
+      Product product = loadedId ? loaded.get(next++) : null;
+      if (product != null) {
+        products.add(productMapper.toDto(product));
+        continue;
+      }
+      if (loadedId) {
+        missingProductIds.markMissing(id, missingStamp);
+      }
+      missingIds.add(id);
+    }
+    operation.products = products.size();
+    operation.outcome = missingIds.isEmpty() ? "found" : "partial";
+    operation.commit();
+    return ProductLookupResponse.builder()
+        .products(products)
+        .missingIds(missingIds)
+        .build();
+  }
 
+  @Cacheable(value = SpringCachingConfig.PRODUCTS_BY_CODE_CACHE, key = "#code")
   @Transactional(readOnly = true)
   @Override
-  public ProductResponse getProductById(Long id) {
-    log.info("Fetching product with ID: {}", id);
-    Product product = productRepository.findById(id)
-        .orElseThrow(() -> new ProductServiceException("Product with ID: " + id + " not found.",
-            HttpStatus.NOT_FOUND));
-    log.info("Product with ID: {} fetched from database.", id);
-    return productMapper.toDto(product);
+  public ProductResponse getProductByCode(String code) {
+    log.info("Fetching product with code: {}", code);
+    ProductOperationEvent operation = new ProductOperationEvent("getByCode");
+    operation.begin();
+    operation.code = code;
+    operation.outcome = "missing";
+    try {
+      Product product = database("findByCode", () -> productRepository.findByCode(code))
+          .orElseThrow(() -> new ProductNotFoundException("Product with code: " + code + " not found."));
+      log.info("Product with code: {} fetched from database.", code);
+      operation.productId = product.getId();
+      operation.products = 1;
+      operation.outcome = "found";
+      return productMapper.toDto(product);
+    } finally {
+      operation.commit();
+    }
   }
 
+  @Cacheable(cacheNames = SpringCachingConfig.PRODUCT_LIST_PAGES_CACHE,
+      keyGenerator = ProductPageKeyGenerator.BEAN_NAME,
+      condition = "@" + ProductPageKeyGenerator.BEAN_NAME + ".isCacheable(#pageable)")
   @Transactional(readOnly = true)
   @Override
   public Page<ProductResponse> getAllProducts(Pageable pageable) {
     log.info("Fetching all products - page: {}, size: {}, sort: {}", pageable.getPageNumber(),
         pageable.getPageSize(), pageable.getSort());
-    Page<Product> products = productRepository.findAll(pageable);
+    ProductOperationEvent operation = new ProductOperationEvent("list");
+    operation.begin();
+    Page<Product> products = pageable.getPageNumber() < productCacheProperties.getQueryCachedPages()
+        ? database("findAllCached", () -> productRepository.findAllCached(pageable))
+        : database("findAll", () -> productRepository.findAll(pageable));
     log.info("Fetched {} products from database.", products.getNumberOfElements());
-    return products.map(productMapper::toDto);
+    Page<ProductResponse> page = products.map(productMapper::toDto);
+    operation.products = page.getNumberOfElements();
+    operation.outcome = "found";
+    operation.commit();
+    return page;
+  }
+
+  @CacheEvict(value = SpringCachingConfig.PRODUCTS_BY_CODE_CACHE, key = "#result.code")
+  @Override
+  public ProductResponse patchProduct(Long id, ProductPatchRequest request) {
+    log.info("Patching product with ID: {} {}", id, request);
+
+    // Like creation, resolve the rate before the transaction so no connection waits on HNB.
+    FixedRate rate = request.getPriceEur() != null ? resolveRate() : null;
+    ProductResponse response;
+    try {
+      response = transactionOperations.execute(status -> {
+        Product product = database("findById", () -> productRepository.findById(id))
+            .orElseThrow(() -> productNotFound(id));
+        if (request.getVersion() != null && !request.getVersion().equals(product.getVersion())) {
+          throw new OptimisticLockingFailureException("Version " + request.getVersion() + " is stale.");
+        }
+        if (!applyPatch(product, request, rate)) {
+          log.info("Patch of product with ID: {} changes nothing.", id);
+          return productMapper.toDto(product);
+        }
+        // Dynamic update: Hibernate writes only the dirty columns and checks the version in the WHERE clause.
+        ProductResponse saved =
+            productMapper.toDto(database("saveAndFlush", () -> productRepository.saveAndFlush(product)));
+        ProductChangedEvent event = ProductChangedEvent.updated(saved);
+        appendToOutbox(event);
+        eventPublisher.publishEvent(event);
+        return saved;
+      });
+    } catch (OptimisticLockingFailureException ex) {
+      log.warn("Product with ID: {} was modified concurrently: {}", id, ex.getMessage());
+      throw new ProductConflictException("Product with ID: " + id + " was modified by another request.");
+    }
+    log.info("Product with ID: {} patched.", id);
+    return response;
+  }
+
+  @Override
+  public ProductAvailabilityResponse updateAvailability(ProductAvailabilityRequest request) {
+    List<String> codes = request.getCodes().stream().distinct().toList();
+    boolean isAvailable = request.getIsAvailable();
+    log.info("Setting availability to {} for {} products.", isAvailable, codes.size());
+
+    // One set-based UPDATE instead of a load-modify-save cycle per product. Hibernate invalidates the
+    // second-level cache regions the bulk update touches.
+    int updated = transactionOperations.execute(status -> {
+      int count = database("updateAvailability", () -> productRepository.updateAvailability(codes, isAvailable));
+      if (count > 0) {
+        ProductChangedEvent event = ProductChangedEvent.availabilityChanged(codes, isAvailable);
+        appendToOutbox(event);
+        eventPublisher.publishEvent(event);
+      }
+      return count;
+    });
+    Cache productsByCode = cacheManager.getCache(SpringCachingConfig.PRODUCTS_BY_CODE_CACHE);
+    if (productsByCode != null && updated > 0) {
+      codes.forEach(productsByCode::evict);
+    }
+    log.info("Availability changed for {} of {} products.", updated, codes.size());
+    return ProductAvailabilityResponse.builder()
+        .requested(codes.size())
+        .updated(updated)
+        .isAvailable(isAvailable)
+        .build();
+  }
+
+  /**
+   * Runs a repository call inside a {@link ProductDatabaseEvent}. Committing a disabled event is a no-op.
+   */
+  private static <T> T database(String call, Supplier<T> repositoryCall) {
+    ProductDatabaseEvent event = new ProductDatabaseEvent(call);
+    event.begin();
+    try {
+      return repositoryCall.get();
+    } finally {
+      event.commit();
+    }
+  }
+
+  private void appendToOutbox(ProductChangedEvent event) {
+    database("outbox.append", () -> {
+      outboxWriter.append(event);
+      return null;
+    });
+  }
+
+  /**
+   * Whether a violation is the unique constraint on {@code product.code}. NOT NULL, length and check violations
+   * or a failed outbox insert are errors, not duplicates.
+   */
+  static boolean isDuplicateCode(DataIntegrityViolationException ex) {
+    return ex.getCause() instanceof ConstraintViolationException violation
+        && UNIQUE_VIOLATION.equals(violation.getSQLState())
+        && violation.getConstraintName() != null
+        && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Product.CODE_CONSTRAINT);
+  }
+
+  private static ProductNotFoundException productNotFound(Long id) {
+    return new ProductNotFoundException("Product with ID: " + id + " not found.");
+  }
+
+  /**
+   * Resolves the USD to EUR rate used to price a product. In asynchronous pricing mode only a cached
+   * rate is used.
+   * @return the rate, or {@code null} when the product has to be priced later
+   */
+  private FixedRate resolveRate() {
+    BigDecimal rate = pricingProperties.getMode() == PricingProperties.Mode.ASYNC
+        ? exchangeRateService.getCachedUsdToEurMiddleRate().orElse(null)
+        : exchangeRateService.getUsdToEurMiddleRate();
+    return rate == null ? null : FixedRate.of(rate);
+  }
+
+  private void applyPrice(Product product, long priceEurCents, FixedRate rate) {
+    product.setPriceEur(priceEurCents);
+    if (rate != null) {
+      product.setPriceUsd(rate.convert(priceEurCents));
+      product.setPriceStatus(PriceStatus.PRICED);
+    } else {
+      log.info("No current exchange rate, product with code: {} will be priced later.", product.getCode());
+      product.setPriceUsd(null);
+      product.setPriceStatus(PriceStatus.PENDING);
+    }
+  }
+
+  /**
+   * Applies the non-null fields of a patch request to a product.
+   * @return {@code true} if any field changed
+   */
+  private boolean applyPatch(Product product, ProductPatchRequest request, FixedRate rate) {
+    boolean changed = false;
+    if (request.getName() != null && !request.getName().equals(product.getName())) {
+      product.setName(request.getName());
+      changed = true;
+    }
+    if (request.getIsAvailable() != null && !request.getIsAvailable().equals(product.getIsAvailable())) {
+      product.setIsAvailable(request.getIsAvailable());
+      changed = true;
+    }
+    if (request.getPriceEur() != null && Cents.of(request.getPriceEur()) != product.getPriceEur()) {
+      applyPrice(product, Cents.of(request.getPriceEur()), rate);
+      changed = true;
+    }
+    return changed;
   }
 }
 
@@ -0,0 +1,80 @@
+package org.tech.product_service.sql;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.StringJoiner;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Counts the statements of the current request and logs slow ones.
+ * <p>
+ *   Registered with the datasource-proxy wrapper around every {@code DataSource}. A statement slower than
+ *   {@code product.sql.slow-query-threshold} is logged with its SQL and the types of its bind parameters; values
+ *   are never logged, they may contain customer data.
+ * </p>
+ * @see SqlStatistics
+ * @author Josip Begic
+ */
+@Slf4j
+public class SqlStatementListener implements QueryExecutionListener {
+
+  static final String START_NANOS = SqlStatementListener.class.getName() + ".start";
+
+  private final long slowQueryNanos;
+  private final Counter slowQueries;
+
+  public SqlStatementListener(Duration slowQueryThreshold, MeterRegistry meterRegistry) {
+    this.slowQueryNanos = slowQueryThreshold.toNanos();
+    this.slowQueries = Counter.builder("product.sql.slow")
+        .description("SQL statements slower than product.sql.slow-query-threshold")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    execInfo.addCustomValue(START_NANOS, System.nanoTime());
+  }
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+    long elapsedNanos = start == null ? Duration.ofMillis(execInfo.getElapsedTime()).toNanos()
+        : System.nanoTime() - start;
+    String query = queryInfoList.isEmpty() ? "" : queryInfoList.getFirst().getQuery();
+    SqlStatistics statistics = SqlStatistics.current();
+    if (statistics != null) {
+      statistics.record(query, elapsedNanos);
+    }
+    if (elapsedNanos >= slowQueryNanos) {
+      slowQueries.increment();
+      log.warn("Slow SQL ({} ms{}): {} {}", Duration.ofNanos(elapsedNanos).toMillis(),
+          execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "", query,
+          queryInfoList.isEmpty() ? "[]" : parameterShape(queryInfoList.getFirst()));
+    }
+  }
+
+  /**
+   * Types of the bind parameters of the first parameter set, e.g. {@code [Long, String, null]}.
+   */
+  static String parameterShape(QueryInfo queryInfo) {
+    StringJoiner shape = new StringJoiner(", ", "[", "]");
+    List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+    if (parametersList.isEmpty()) {
+      return shape.toString();
+    }
+    for (ParameterSetOperation operation : parametersList.getFirst()) {
+      Object[] args = operation.getArgs();
+      Object value = args.length > 1 ? args[1] : null;
+      boolean isNull = value == null || "setNull".equals(operation.getMethod().getName());
+      shape.add(isNull ? "null" : value.getClass().getSimpleName());
+    }
+    return shape.toString();
+  }
+}
@@ -0,0 +1,77 @@
+package org.tech.product_service.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL statements executed by the current request.
+ * <p>
+ *   Bound to the request thread by {@link org.tech.product_service.filter.SqlStatisticsFilter} and filled by
+ *   {@link SqlStatementListener}. Statements run on other threads (background tasks, async work) are not counted.
+ * </p>
+ * @author Josip Begic
+ */
+public final class SqlStatistics {
+
+  static final int MAX_RECORDED_QUERIES = 32;
+
+  private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+  private int statements;
+  private long nanos;
+  private final List<String> queries = new ArrayList<>();
+
+  /**
+   * Starts counting for the current thread.
+   * @return the statistics of the current thread
+   */
+  public static SqlStatistics begin() {
+    SqlStatistics statistics = new SqlStatistics();
+    CURRENT.set(statistics);
+    return statistics;
+  }
+
+  /**
+   * Stops counting for the current thread.
+   */
+  public static void end() {
+    CURRENT.remove();
+  }
+
+  /**
+   * @return the statistics of the current thread, or {@code null} outside a request
+   */
+  public static SqlStatistics current() {
+    return CURRENT.get();
+  }
+
+  void record(String query, long elapsedNanos) {
+    statements++;
+    nanos += elapsedNanos;
+    if (queries.size() < MAX_RECORDED_QUERIES) {
+      queries.add(query);
+    }
+  }
+
+  /**
+   * @return number of statements (batches count once) sent to the database
+   */
+  public int statements() {
+    return statements;
+  }
+
+  /**
+   * @return time spent executing the statements, in nanoseconds
+   */
+  public long nanos() {
+    return nanos;
+  }
+
+  /**
+   * @return SQL of the first {@value #MAX_RECORDED_QUERIES} statements, in execution order
+   */
+  public List<String> queries() {
+    return Collections.unmodifiableList(queries);
+  }
+}
@@ -0,0 +1,47 @@
+package org.tech.product_service.sql;
+
+import java.util.Locale;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import lombok.NonNull;
+
+/**
+ * Adds the {@value #HEADER} debug header, e.g. {@code statements=2;time=1.35ms}, to every response body.
+ * <p>
+ *   Written just before the body, when the handler and its transactions are done and the headers are not yet
+ *   committed. Enabled with {@code product.sql.debug-header=true}; meant for development and load tests.
+ * </p>
+ * @author Josip Begic
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "product.sql", name = "debug-header", havingValue = "true")
+public class SqlStatisticsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+  public static final String HEADER = "X-SQL-Statistics";
+
+  @Override
+  public boolean supports(@NonNull MethodParameter returnType,
+      @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public Object beforeBodyWrite(Object body, @NonNull MethodParameter returnType,
+      @NonNull MediaType selectedContentType, @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+    SqlStatistics statistics = SqlStatistics.current();
+    if (statistics != null) {
+      response.getHeaders().set(HEADER, String.format(Locale.ROOT, "statements=%d;time=%.2fms",
+          statistics.statements(), statistics.nanos() / 1_000_000.0));
+    }
+    return body;
+  }
+}
@@ -0,0 +1,17 @@
+package org.tech.product_service.stats;
+
+/**
+ * Aggregates over all products of a {@link CatalogColumns} snapshot. Prices are in cents.
+ * @param productCount number of products
+ * @param availableCount number of available products
+ * @param pendingPriceCount number of products without a USD price
+ * @param priceEur EUR price aggregates, {@code null} without products
+ * @param priceUsd USD price aggregates over priced products, {@code null} without priced products
+ * @param lastUpdatedAt latest update as seconds of the local date-time at UTC offset, {@code null} without products
+ * @param modifications {@link CatalogColumns#modifications()} the aggregates were computed at
+ * @author Josip Begic
+ */
+public record CatalogAggregates(long productCount, long availableCount, long pendingPriceCount,
+                                PriceAggregates priceEur, PriceAggregates priceUsd, Long lastUpdatedAt,
+                                long modifications) {
+}
@@ -0,0 +1,201 @@
+package org.tech.product_service.stats;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Column-oriented in-memory copy of the product attributes needed for catalog statistics.
+ * <p>
+ *   Each attribute is a primitive array indexed by row, and rows are kept sorted by product ID. Product IDs are
+ *   generated in ascending order, so a new product is almost always appended and an update finds its row by
+ *   binary search. Availability is a bit set. About 40 bytes are held per product, with no object per row.
+ * </p>
+ * <p>
+ *   Aggregation scans each column with a plain counted loop that the JIT can unroll and vectorize. Reads and
+ *   writes are guarded by a read-write lock.
+ * </p>
+ * @author Josip Begic
+ */
+public final class CatalogColumns {
+
+  /**
+   * USD price of a product whose price is pending. Negative, so that price aggregation skips it.
+   */
+  public static final long NO_PRICE = -1;
+
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private long[] ids;
+  private long[] versions;
+  private long[] priceEurCents;
+  private long[] priceUsdCents;
+  private long[] updatedAtSeconds;
+  private long[] availableBits;
+  private int size;
+  private long modifications;
+
+  public CatalogColumns(int expectedSize) {
+    int capacity = Math.max(expectedSize, INITIAL_CAPACITY);
+    ids = new long[capacity];
+    versions = new long[capacity];
+    priceEurCents = new long[capacity];
+    priceUsdCents = new long[capacity];
+    updatedAtSeconds = new long[capacity];
+    availableBits = new long[wordsFor(capacity)];
+  }
+
+  /**
+   * Inserts a product or overwrites its row, unless the row already holds a newer version.
+   * @param id product ID
+   * @param version product version
+   * @param eurCents EUR price in cents
+   * @param usdCents USD price in cents or {@link #NO_PRICE}
+   * @param available availability
+   * @param updatedAt last update as seconds of the local date-time at UTC offset
+   * @return {@code true} if the row was written
+   */
+  public boolean upsert(long id, long version, long eurCents, long usdCents, boolean available, long updatedAt) {
+    lock.writeLock().lock();
+    try {
+      int row;
+      if (size == 0 || ids[size - 1] < id) {
+        row = size;
+        insertRow(row);
+      } else {
+        row = Arrays.binarySearch(ids, 0, size, id);
+        if (row >= 0) {
+          if (versions[row] > version) {
+            return false;
+          }
+        } else {
+          row = -row - 1;
+          insertRow(row);
+        }
+      }
+      ids[row] = id;
+      versions[row] = version;
+      priceEurCents[row] = eurCents;
+      priceUsdCents[row] = usdCents;
+      updatedAtSeconds[row] = updatedAt;
+      setAvailable(row, available);
+      modifications++;
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return size;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @return number of writes so far; changes whenever the aggregates may have changed
+   */
+  public long modifications() {
+    lock.readLock().lock();
+    try {
+      return modifications;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Computes all aggregates in a few linear passes over the columns, without copying them. Writers wait until
+   * the aggregation is done.
+   * @return the aggregates, with {@code null} price statistics when there are no (priced) products
+   */
+  public CatalogAggregates aggregate() {
+    lock.readLock().lock();
+    try {
+      return new CatalogAggregates(size, countAvailable(size), size - countPriced(size),
+          PriceAggregates.of(priceEurCents, size), PriceAggregates.of(priceUsdCents, size),
+          size == 0 ? null : max(updatedAtSeconds, size, Long.MIN_VALUE), modifications);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private long countPriced(int count) {
+    long priced = 0;
+    for (int row = 0; row < count; row++) {
+      if (priceUsdCents[row] != NO_PRICE) {
+        priced++;
+      }
+    }
+    return priced;
+  }
+
+  private long countAvailable(int count) {
+    int fullWords = count >>> 6;
+    long available = 0;
+    for (int word = 0; word < fullWords; word++) {
+      available += Long.bitCount(availableBits[word]);
+    }
+    int rest = count & 63;
+    if (rest != 0) {
+      available += Long.bitCount(availableBits[fullWords] & ((1L << rest) - 1));
+    }
+    return available;
+  }
+
+  private static long max(long[] values, int count, long empty) {
+    long max = empty;
+    for (int i = 0; i < count; i++) {
+      max = Math.max(max, values[i]);
+    }
+    return max;
+  }
+
+  private void insertRow(int row) {
+    if (size == ids.length) {
+      grow();
+    }
+    if (row < size) {
+      int moved = size - row;
+      System.arraycopy(ids, row, ids, row + 1, moved);
+      System.arraycopy(versions, row, versions, row + 1, moved);
+      System.arraycopy(priceEurCents, row, priceEurCents, row + 1, moved);
+      System.arraycopy(priceUsdCents, row, priceUsdCents, row + 1, moved);
+      System.arraycopy(updatedAtSeconds, row, updatedAtSeconds, row + 1, moved);
+      for (int i = size; i > row; i--) {
+        setAvailable(i, isAvailable(i - 1));
+      }
+    }
+    size++;
+  }
+
+  private void grow() {
+    int capacity = ids.length + (ids.length >> 1);
+    ids = Arrays.copyOf(ids, capacity);
+    versions = Arrays.copyOf(versions, capacity);
+    priceEurCents = Arrays.copyOf(priceEurCents, capacity);
+    priceUsdCents = Arrays.copyOf(priceUsdCents, capacity);
+    updatedAtSeconds = Arrays.copyOf(updatedAtSeconds, capacity);
+    availableBits = Arrays.copyOf(availableBits, wordsFor(capacity));
+  }
+
+  private boolean isAvailable(int row) {
+    return (availableBits[row >>> 6] & (1L << row)) != 0;
+  }
+
+  private void setAvailable(int row, boolean available) {
+    if (available) {
+      availableBits[row >>> 6] |= 1L << row;
+    } else {
+      availableBits[row >>> 6] &= ~(1L << row);
+    }
+  }
+
+  private static int wordsFor(int capacity) {
+    return (capacity + 63) >>> 6;
+  }
+}
@@ -0,0 +1,100 @@
+package org.tech.product_service.stats;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * Distribution of one price column, in cents. Percentiles use the nearest-rank method and the average is
+ * rounded half up to whole cents.
+ * @author Josip Begic
+ */
+public record PriceAggregates(long min, long max, long avg, long p50, long p90, long p99) {
+
+  private static final int BUCKET_BITS = 16;
+  private static final int[] PERCENTS = {50, 90, 99};
+
+  /**
+   * Computes the aggregates of a price column without sorting it.
+   * <p>
+   *   The first pass finds the count, range and sum. The second counts prices into {@code 2^16} equal-width buckets
+   *   over the range, which locates the bucket of every percentile rank. Only the prices of those buckets are then
+   *   collected and sorted, so the work is linear in the column size for any realistic price distribution.
+   * </p>
+   * @param prices prices in cents; negative values mark missing prices and are skipped
+   * @param count number of rows to read
+   * @return the aggregates, or {@code null} if there are no prices
+   */
+  static PriceAggregates of(long[] prices, int count) {
+    long n = 0;
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    long sum = 0;
+    boolean overflow = false;
+    for (int i = 0; i < count; i++) {
+      long price = prices[i];
+      if (price >= 0) {
+        n++;
+        min = Math.min(min, price);
+        max = Math.max(max, price);
+        sum += price;
+        // Prices are not negative, so an overflowing sum turns negative.
+        overflow |= sum < 0;
+      }
+    }
+    if (n == 0) {
+      return null;
+    }
+    long avg = overflow || sum > Long.MAX_VALUE - n / 2 ? averageExact(prices, count, n) : (sum + n / 2) / n;
+
+    int shift = Math.max(0, 64 - Long.numberOfLeadingZeros(max - min) - BUCKET_BITS);
+    int[] buckets = new int[1 << BUCKET_BITS];
+    for (int i = 0; i < count; i++) {
+      long price = prices[i];
+      if (price >= 0) {
+        buckets[(int) ((price - min) >>> shift)]++;
+      }
+    }
+
+    long[] percentiles = new long[PERCENTS.length];
+    int bucket = 0;
+    long below = 0;
+    for (int p = 0; p < PERCENTS.length; p++) {
+      long rank = Math.max(1, (n * PERCENTS[p] + 99) / 100);
+      while (below + buckets[bucket] < rank) {
+        below += buckets[bucket++];
+      }
+      percentiles[p] = shift == 0
+          ? min + bucket
+          : select(prices, count, min, shift, bucket, buckets[bucket], (int) (rank - below));
+    }
+    return new PriceAggregates(min, max, avg, percentiles[0], percentiles[1], percentiles[2]);
+  }
+
+  /**
+   * Returns the price of the given rank within one bucket.
+   */
+  private static long select(long[] prices, int count, long min, int shift, int bucket, int size, int rank) {
+    long[] members = new long[size];
+    int found = 0;
+    for (int i = 0; i < count && found < size; i++) {
+      long price = prices[i];
+      if (price >= 0 && (int) ((price - min) >>> shift) == bucket) {
+        members[found++] = price;
+      }
+    }
+    Arrays.sort(members);
+    return members[rank - 1];
+  }
+
+  private static long averageExact(long[] prices, int count, long n) {
+    BigInteger sum = BigInteger.ZERO;
+    for (int i = 0; i < count; i++) {
+      if (prices[i] >= 0) {
+        sum = sum.add(BigInteger.valueOf(prices[i]));
+      }
+    }
+    return new BigDecimal(sum).divide(BigDecimal.valueOf(n), 0, RoundingMode.HALF_UP).longValueExact();
+  }
+}
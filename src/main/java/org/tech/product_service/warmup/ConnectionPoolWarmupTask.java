@@ -0,0 +1,53 @@
+package org.tech.product_service.warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Opens connections up to the pool size at once and returns them, so the first requests find them idle in the pool.
+ * <p>
+ *   Hikari fills the pool in the background too, but only after startup and one connection at a time.
+ * </p>
+ * @author Josip Begic
+ */
+@RequiredArgsConstructor
+public class ConnectionPoolWarmupTask implements WarmupTask {
+
+  private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+  private final DataSource dataSource;
+  private final int connections;
+
+  @Override
+  public String name() {
+    return "connectionPool";
+  }
+
+  @Override
+  public void run() throws SQLException {
+    int count = connections;
+    if (dataSource.isWrapperFor(HikariDataSource.class)) {
+      count = Math.min(count, dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize());
+    }
+    List<Connection> opened = new ArrayList<>(count);
+    try {
+      for (int i = 0; i < count && !Thread.currentThread().isInterrupted(); i++) {
+        Connection connection = dataSource.getConnection();
+        opened.add(connection);
+        connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+      }
+    } finally {
+      for (Connection connection : opened) {
+        connection.close();
+      }
+    }
+  }
+}
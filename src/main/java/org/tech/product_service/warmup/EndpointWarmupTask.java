@@ -0,0 +1,91 @@
+package org.tech.product_service.warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Calls the read endpoints over loopback, so request mapping, JSON serialization, the filters and the service
+ * layer are class-loaded and JIT compiled before real traffic arrives.
+ * <p>
+ *   Only reads are sent, a warm-up must never create products. The requests count against the read rate limit of
+ *   the loopback client; the task stops early when it is reached.
+ * </p>
+ * @author Josip Begic
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class EndpointWarmupTask implements WarmupTask {
+
+  static final long MISSING_PRODUCT_ID = Long.MAX_VALUE;
+  private static final int MAX_SAMPLE_PRODUCTS = 20;
+
+  private final RestTemplate restTemplate;
+  private final Environment environment;
+  private final int iterations;
+
+  @Override
+  public String name() {
+    return "endpoints";
+  }
+
+  @Override
+  public void run() {
+    Integer port = environment.getProperty("local.server.port", Integer.class);
+    if (port == null) {
+      log.info("No web server running, skipping endpoint warm-up.");
+      return;
+    }
+    String baseUrl = "http://localhost:" + port + environment.getProperty("server.servlet.context-path", "");
+
+    List<Long> ids = new ArrayList<>();
+    List<String> codes = new ArrayList<>();
+    JsonNode page = restTemplate.getForObject(baseUrl + "/product", JsonNode.class);
+    if (page != null) {
+      for (JsonNode product : page.path("content")) {
+        if (ids.size() == MAX_SAMPLE_PRODUCTS) {
+          break;
+        }
+        ids.add(product.path("id").asLong());
+        codes.add(product.path("code").asText());
+      }
+    }
+
+    try {
+      for (int i = 0; i < iterations && !Thread.currentThread().isInterrupted(); i++) {
+        restTemplate.getForObject(baseUrl + "/product?page=0", JsonNode.class);
+        expectNotFound(() -> restTemplate.getForObject(baseUrl + "/product/{id}", JsonNode.class, MISSING_PRODUCT_ID));
+        if (ids.isEmpty()) {
+          continue;
+        }
+        int sample = i % ids.size();
+        restTemplate.getForObject(baseUrl + "/product/{id}", JsonNode.class, ids.get(sample));
+        restTemplate.getForObject(baseUrl + "/product/code/{code}", JsonNode.class, codes.get(sample));
+        restTemplate.postForObject(baseUrl + "/product/lookup", Map.of("ids", ids), JsonNode.class);
+      }
+    } catch (HttpClientErrorException.TooManyRequests ex) {
+      log.info("Read rate limit reached, ending endpoint warm-up early.");
+    }
+  }
+
+  private static void expectNotFound(Runnable request) {
+    try {
+      request.run();
+    } catch (HttpStatusCodeException ex) {
+      if (ex.getStatusCode().value() != HttpStatus.NOT_FOUND.value()) {
+        throw ex;
+      }
+    }
+  }
+}
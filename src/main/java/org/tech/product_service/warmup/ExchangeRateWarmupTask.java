@@ -0,0 +1,25 @@
+package org.tech.product_service.warmup;
+
+import org.tech.product_service.service.ExchangeRateService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Fetches the USD to EUR rate from HNB, so the first create does not wait on it.
+ * @author Josip Begic
+ */
+@RequiredArgsConstructor
+public class ExchangeRateWarmupTask implements WarmupTask {
+
+  private final ExchangeRateService exchangeRateService;
+
+  @Override
+  public String name() {
+    return "exchangeRates";
+  }
+
+  @Override
+  public void run() {
+    exchangeRateService.getUsdToEurMiddleRate();
+  }
+}
@@ -0,0 +1,44 @@
+package org.tech.product_service.warmup;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.service.ProductService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Preloads the read caches with the products clients see first.
+ * <p>
+ *   Loads the first pages of the default product list (the page and query caches), then reads every product on them
+ *   by ID (second-level cache) and by code ({@code productsByCode}).
+ * </p>
+ * @author Josip Begic
+ */
+@RequiredArgsConstructor
+public class ProductCacheWarmupTask implements WarmupTask {
+
+  private final ProductService productService;
+  private final int pages;
+  private final int pageSize;
+
+  @Override
+  public String name() {
+    return "productCache";
+  }
+
+  @Override
+  public void run() {
+    for (int number = 0; number < pages && !Thread.currentThread().isInterrupted(); number++) {
+      Page<ProductResponse> page = productService.getAllProducts(PageRequest.of(number, pageSize, Sort.by("id")));
+      for (ProductResponse product : page) {
+        productService.getProductById(product.getId());
+        productService.getProductByCode(product.getCode());
+      }
+      if (!page.hasNext()) {
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package org.tech.product_service.warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Warms the instance up before it reports ready.
+ * <p>
+ *   Application runners run after the web server has started but before Spring Boot publishes
+ *   {@link ReadinessState#ACCEPTING_TRAFFIC}, so {@code /actuator/health/readiness} stays {@code OUT_OF_SERVICE}
+ *   while the {@link WarmupTask}s run. They run one after another on a separate thread; when
+ *   {@code product.warmup.timeout} passes the thread is interrupted and startup continues with whatever was warmed
+ *   up. The duration is logged and recorded as {@code product.warmup} (tagged with the outcome) and per task as
+ *   {@code product.warmup.task}.
+ * </p>
+ * @author Josip Begic
+ */
+@Slf4j
+public class WarmupRunner implements ApplicationRunner {
+
+  static final String COMPLETED = "completed";
+  static final String TIMEOUT = "timeout";
+  static final String FAILED = "failed";
+
+  private final List<WarmupTask> tasks;
+  private final Duration timeout;
+  private final ApplicationEventPublisher eventPublisher;
+  private final MeterRegistry meterRegistry;
+
+  public WarmupRunner(List<WarmupTask> tasks, Duration timeout, ApplicationEventPublisher eventPublisher,
+      MeterRegistry meterRegistry) {
+    this.tasks = tasks;
+    this.timeout = timeout;
+    this.eventPublisher = eventPublisher;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+    log.info("Warming up before accepting traffic, timeout {}", timeout);
+    long started = System.nanoTime();
+    FutureTask<Void> warmup = new FutureTask<>(this::runTasks, null);
+    Thread.ofPlatform().name("warmup").daemon().start(warmup);
+
+    String outcome;
+    try {
+      warmup.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+      outcome = COMPLETED;
+    } catch (TimeoutException ex) {
+      warmup.cancel(true);
+      outcome = TIMEOUT;
+    } catch (ExecutionException ex) {
+      log.warn("Warm-up failed: {}", ex.getCause().getMessage());
+      outcome = FAILED;
+    } catch (InterruptedException ex) {
+      warmup.cancel(true);
+      Thread.currentThread().interrupt();
+      outcome = FAILED;
+    }
+    long elapsed = System.nanoTime() - started;
+    Timer.builder("product.warmup")
+        .description("Startup warm-up duration")
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .record(elapsed, TimeUnit.NANOSECONDS);
+    log.info("Warm-up {} in {} ms", outcome, Duration.ofNanos(elapsed).toMillis());
+  }
+
+  private void runTasks() {
+    for (WarmupTask task : tasks) {
+      if (Thread.currentThread().isInterrupted()) {
+        return;
+      }
+      long started = System.nanoTime();
+      String outcome = COMPLETED;
+      try {
+        task.run();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        outcome = TIMEOUT;
+      } catch (Exception ex) {
+        log.warn("Warm-up task {} failed: {}", task.name(), ex.getMessage());
+        outcome = FAILED;
+      }
+      long elapsed = System.nanoTime() - started;
+      Timer.builder("product.warmup.task")
+          .description("Duration of a startup warm-up task")
+          .tags("task", task.name(), "outcome", outcome)
+          .register(meterRegistry)
+          .record(elapsed, TimeUnit.NANOSECONDS);
+      log.info("Warm-up task {} {} in {} ms", task.name(), outcome, Duration.ofNanos(elapsed).toMillis());
+    }
+  }
+}
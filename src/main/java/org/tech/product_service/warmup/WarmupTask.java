@@ -0,0 +1,22 @@
+package org.tech.product_service.warmup;
+
+/**
+ * One step of the startup warm-up run by {@link WarmupRunner}.
+ * <p>
+ *   A task should give up promptly when its thread is interrupted, which happens when the warm-up times out.
+ * </p>
+ * @author Josip Begic
+ */
+public interface WarmupTask {
+
+  /**
+   * @return name used in logs and as the {@code task} tag of {@code product.warmup.task}
+   */
+  String name();
+
+  /**
+   * Runs the step. A failure is logged and the next task runs.
+   * @throws Exception if the step fails
+   */
+  void run() throws Exception;
+}
@@ -0,0 +1,39 @@
+package org.tech.product_service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestTemplate;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "edge"})
+class EdgeProfileTest {
+
+  @Autowired
+  private ServletWebServerApplicationContext context;
+  @Autowired
+  private RestTemplate restTemplate;
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+
+  @Test
+  @DisplayName("edge profile - requests run on virtual threads and HNB is called with the JDK HttpClient")
+  void testEdgeProfile() {
+    TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+
+    assertInstanceOf(VirtualThreadExecutor.class,
+        webServer.getTomcat().getConnector().getProtocolHandler().getExecutor());
+    assertInstanceOf(JdkClientHttpRequestFactory.class, restTemplate.getRequestFactory());
+    assertEquals(404, testRestTemplate.getForEntity("/product/{id}", String.class, 424242).getStatusCode().value());
+  }
+}
@@ -0,0 +1,98 @@
+package org.tech.product_service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.tech.product_service.model.Product;
+import org.tech.product_service.repository.ProductRepository;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "management.tracing.sampling.probability=1.0")
+@AutoConfigureObservability(metrics = false)
+@ActiveProfiles("test")
+@Import(TracingTest.InMemoryExporterConfig.class)
+class TracingTest {
+
+  private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+  @TestConfiguration
+  static class InMemoryExporterConfig {
+
+    @Bean
+    InMemorySpanExporter inMemorySpanExporter() {
+      return InMemorySpanExporter.create();
+    }
+  }
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+  @Autowired
+  private ProductRepository productRepository;
+  @Autowired
+  private InMemorySpanExporter exporter;
+  @Autowired
+  private SdkTracerProvider tracerProvider;
+
+  @Test
+  @DisplayName("GET /product/code/{code} - continues the inbound W3C trace with server, service and JDBC spans")
+  void testRequestIsTraced() throws Exception {
+    productRepository.save(Product.builder()
+        .code("TRACE00001")
+        .name("Traced")
+        .priceEur(1000L)
+        .priceUsd(1170L)
+        .isAvailable(true)
+        .build());
+    HttpHeaders headers = new HttpHeaders();
+    headers.set("traceparent", "00-" + TRACE_ID + "-00f067aa0ba902b7-01");
+
+    ResponseEntity<String> response = restTemplate.exchange("/product/code/{code}", HttpMethod.GET,
+        new HttpEntity<>(headers), String.class, "TRACE00001");
+    List<SpanData> spans = awaitSpans();
+
+    assertEquals(200, response.getStatusCode().value());
+    assertTrue(spans.stream().anyMatch(span -> span.getKind() == SpanKind.SERVER));
+    assertTrue(spans.stream().anyMatch(span ->
+        "getProductByCode".equals(span.getAttributes().get(AttributeKey.stringKey("method")))));
+    assertTrue(spans.stream().anyMatch(span -> "query".equals(span.getName())));
+  }
+
+  private List<SpanData> awaitSpans() throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    List<SpanData> spans = List.of();
+    while (System.nanoTime() < deadline) {
+      tracerProvider.forceFlush().join(1, TimeUnit.SECONDS);
+      spans = exporter.getFinishedSpanItems().stream()
+          .filter(span -> TRACE_ID.equals(span.getTraceId()))
+          .toList();
+      if (spans.stream().anyMatch(span -> span.getKind() == SpanKind.SERVER)) {
+        return spans;
+      }
+      Thread.sleep(50);
+    }
+    return spans;
+  }
+}
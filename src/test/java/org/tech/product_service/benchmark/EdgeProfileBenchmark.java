@@ -0,0 +1,173 @@
+package org.tech.product_service.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.tech.product_service.ProductServiceApplication;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves the same workload from the default servlet stack and from the {@code edge} profile (virtual threads).
+ * <p>
+ *   The application runs in-process on the {@code test} profile (H2) with HNB replaced by a local stub that
+ *   answers after {@value #HNB_LATENCY_MILLIS} ms. Every invocation sends {@value #CONCURRENT_CLIENTS} requests
+ *   at once over keep-alive connections and waits for all responses.
+ * </p>
+ * <ul>
+ *   <li>{@code createProducts}: {@code POST /product}. The stub serves a rate dated yesterday, so every create
+ *   waits on HNB like on a cold rate cache; this is where a request holds a thread without holding a
+ *   connection.</li>
+ *   <li>{@code getProducts}: {@code GET /product/{id}} from the second-level cache, CPU bound.</li>
+ * </ul>
+ * Rate limiting and admission control are switched off and the Tomcat connection settings of the {@code edge}
+ * profile are applied to both stacks, so the comparison isolates the thread model.
+ * <p>
+ *   Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=EdgeProfileBenchmark}.
+ * </p>
+ * @author Josip Begic
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EdgeProfileBenchmark {
+
+  private static final int CONCURRENT_CLIENTS = 1000;
+  private static final long HNB_LATENCY_MILLIS = 50;
+  private static final int PRODUCTS = 100;
+
+  @Param({"servlet", "edge"})
+  public String stack;
+
+  private final AtomicLong nextCode = new AtomicLong();
+  private ExecutorService clientExecutor;
+  private HttpServer hnb;
+  private ConfigurableApplicationContext context;
+  private HttpClient client;
+  private String baseUrl;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    hnb = startHnbStub();
+    String[] profiles = "edge".equals(stack) ? new String[] {"test", "edge"} : new String[] {"test"};
+    context = new SpringApplicationBuilder(ProductServiceApplication.class)
+        .profiles(profiles)
+        .run("--server.port=0",
+            "--hnb.api.tecaj.v3.url=http://localhost:" + hnb.getAddress().getPort() + "/tecajn-eur/v3",
+            "--product.rate-limit.enabled=false",
+            "--product.admission.enabled=false",
+            "--server.tomcat.max-connections=20000",
+            "--server.tomcat.accept-count=1000",
+            "--server.tomcat.max-keep-alive-requests=-1",
+            "--management.tracing.enabled=false",
+            "--logging.level.org.tech.product_service=WARN");
+    baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .executor(clientExecutor)
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+    for (int i = 0; i < PRODUCTS; i++) {
+      send(createRequest()).join();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+    hnb.stop(0);
+    clientExecutor.close();
+  }
+
+  @Benchmark
+  public int createProducts() {
+    CompletableFuture<?>[] responses = new CompletableFuture<?>[CONCURRENT_CLIENTS];
+    for (int i = 0; i < CONCURRENT_CLIENTS; i++) {
+      responses[i] = send(createRequest());
+    }
+    return CompletableFuture.allOf(responses).thenApply(done -> responses.length).join();
+  }
+
+  @Benchmark
+  public int getProducts() {
+    CompletableFuture<?>[] responses = new CompletableFuture<?>[CONCURRENT_CLIENTS];
+    for (int i = 0; i < CONCURRENT_CLIENTS; i++) {
+      responses[i] = send(HttpRequest.newBuilder(URI.create(baseUrl + "/product/" + (i % PRODUCTS + 1))).build());
+    }
+    return CompletableFuture.allOf(responses).thenApply(done -> responses.length).join();
+  }
+
+  private HttpRequest createRequest() {
+    String json = "{\"name\":\"Edge\",\"code\":\"" + String.format("E%09d", nextCode.incrementAndGet())
+        + "\",\"priceEur\":10.00,\"isAvailable\":true}";
+    return HttpRequest.newBuilder(URI.create(baseUrl + "/product"))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(json))
+        .build();
+  }
+
+  private CompletableFuture<HttpResponse<Void>> send(HttpRequest request) {
+    return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+        .thenApply(response -> {
+          if (response.statusCode() >= 300) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                + response.statusCode());
+          }
+          return response;
+        });
+  }
+
+  private static HttpServer startHnbStub() throws IOException {
+    byte[] body = ("[{\"datum_primjene\":\"" + LocalDate.now().minusDays(1)
+        + "\",\"valuta\":\"USD\",\"srednji_tecaj\":\"1,170000\"}]").getBytes(StandardCharsets.UTF_8);
+    HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    server.createContext("/", exchange -> {
+      try {
+        Thread.sleep(HNB_LATENCY_MILLIS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    server.start();
+    return server;
+  }
+}
@@ -0,0 +1,97 @@
+package org.tech.product_service.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.tech.product_service.money.Cents;
+import org.tech.product_service.money.FixedRate;
+
+/**
+ * Compares converting and comparing a batch of EUR prices held as {@link BigDecimal} with the same work on
+ * {@code long} cents, e.g. pricing the rows of a CSV import.
+ * <p>
+ *   Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=PriceConversionBenchmark}, add
+ *   {@code -prof gc} to the JMH arguments to see the allocation rate.
+ * </p>
+ * @author Josip Begic
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceConversionBenchmark {
+
+  private static final int PRICES = 10_000;
+  private static final BigDecimal RATE = new BigDecimal("1.163400");
+
+  private BigDecimal[] decimalPrices;
+  private long[] centPrices;
+  private BigDecimal decimalThreshold;
+  private long centThreshold;
+  private FixedRate fixedRate;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    decimalPrices = new BigDecimal[PRICES];
+    centPrices = new long[PRICES];
+    for (int i = 0; i < PRICES; i++) {
+      centPrices[i] = random.nextLong(1, 10_000_000);
+      decimalPrices[i] = Cents.toDecimal(centPrices[i]);
+    }
+    decimalThreshold = new BigDecimal("50000.00");
+    centThreshold = Cents.of(decimalThreshold);
+    fixedRate = FixedRate.of(RATE);
+  }
+
+  @Benchmark
+  public void convertBigDecimal(Blackhole blackhole) {
+    for (BigDecimal price : decimalPrices) {
+      blackhole.consume(price.multiply(RATE).setScale(2, RoundingMode.HALF_UP));
+    }
+  }
+
+  @Benchmark
+  public void convertCents(Blackhole blackhole) {
+    for (long price : centPrices) {
+      blackhole.consume(fixedRate.convert(price));
+    }
+  }
+
+  @Benchmark
+  public int compareBigDecimal() {
+    int above = 0;
+    for (BigDecimal price : decimalPrices) {
+      if (price.compareTo(decimalThreshold) > 0) {
+        above++;
+      }
+    }
+    return above;
+  }
+
+  @Benchmark
+  public int compareCents() {
+    int above = 0;
+    for (long price : centPrices) {
+      if (price > centThreshold) {
+        above++;
+      }
+    }
+    return above;
+  }
+}
@@ -0,0 +1,113 @@
+package org.tech.product_service.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.tech.product_service.cache.MissingProductIds;
+import org.tech.product_service.config.ProductCacheProperties;
+import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.exception.GlobalExceptionHandler;
+import org.tech.product_service.exception.ProductNotFoundException;
+import org.tech.product_service.exception.ProductServiceException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Compares the cost of answering {@code GET /product/{id}} for a missing product with the cost of a cache hit
+ * for an existing one.
+ * <ul>
+ *   <li>{@code cacheHit}: lookup of a cached product.</li>
+ *   <li>{@code notFoundWithStackTrace}: the former path, an exception with a stack trace turned into a
+ *   {@code ProblemDetail}. The database round trip it also paid is not included.</li>
+ *   <li>{@code notFoundRemembered}: the negative cache lookup, a stackless exception and the
+ *   {@code ProblemDetail}.</li>
+ * </ul>
+ * Exceptions are thrown {@value #STACK_DEPTH} frames deep, roughly the depth of a controller call inside the
+ * servlet container and the Spring proxies.
+ * <p>
+ *   Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ProductNotFoundBenchmark}.
+ * </p>
+ * @author Josip Begic
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductNotFoundBenchmark {
+
+  private static final int STACK_DEPTH = 120;
+  private static final Long EXISTING_ID = 1L;
+  private static final Long MISSING_ID = 404L;
+
+  private Cache<Long, ProductResponse> products;
+  private MissingProductIds missingProductIds;
+  private GlobalExceptionHandler handler;
+  private MockHttpServletRequest request;
+
+  @Setup
+  public void setUp() {
+    products = Caffeine.newBuilder().maximumSize(10_000).build();
+    products.put(EXISTING_ID, ProductResponse.builder().id(EXISTING_ID).code("CODE000001").name("Product")
+        .priceEur(new BigDecimal("10.00")).isAvailable(true).build());
+    missingProductIds = new MissingProductIds(new ProductCacheProperties(), new SimpleMeterRegistry());
+    missingProductIds.markExisting(MISSING_ID + 1);
+    missingProductIds.markMissing(MISSING_ID, missingProductIds.stamp());
+    handler = new GlobalExceptionHandler();
+    request = new MockHttpServletRequest("GET", "/product/" + MISSING_ID);
+    request.setRequestURI("/product/" + MISSING_ID);
+  }
+
+  @Benchmark
+  public Object cacheHit() {
+    return atDepth(STACK_DEPTH, () -> products.getIfPresent(EXISTING_ID));
+  }
+
+  @Benchmark
+  public ResponseEntity<ProblemDetail> notFoundWithStackTrace() {
+    try {
+      return atDepth(STACK_DEPTH, () -> {
+        throw new ProductServiceException("Product with ID: " + MISSING_ID + " not found.", HttpStatus.NOT_FOUND);
+      });
+    } catch (ProductServiceException ex) {
+      return handler.handleProductServiceException(ex, request);
+    }
+  }
+
+  @Benchmark
+  public ResponseEntity<ProblemDetail> notFoundRemembered() {
+    try {
+      return atDepth(STACK_DEPTH, () -> {
+        if (missingProductIds.isMissing(MISSING_ID)) {
+          throw new ProductNotFoundException("Product with ID: " + MISSING_ID + " not found.");
+        }
+        return null;
+      });
+    } catch (ProductServiceException ex) {
+      return handler.handleProductServiceException(ex, request);
+    }
+  }
+
+  private static <T> T atDepth(int depth, Supplier<T> body) {
+    return depth == 0 ? body.get() : atDepth(depth - 1, body);
+  }
+}
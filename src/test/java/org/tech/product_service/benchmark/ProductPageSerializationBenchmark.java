@@ -0,0 +1,96 @@
+package org.tech.product_service.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.json.PagedModelJsonSerializer;
+import org.tech.product_service.json.ProductResponseJsonSerializer;
+import org.tech.product_service.model.PriceStatus;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Compares serializing a {@code GET /product} page with the reflective Jackson bean serializers against the
+ * hand-written {@code ProductResponse} and page serializers.
+ * <p>
+ *   Setup fails if the two mappers do not produce byte-identical JSON.
+ *   Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ProductPageSerializationBenchmark}.
+ * </p>
+ * @author Josip Begic
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductPageSerializationBenchmark {
+
+  @Param({"50", "500"})
+  private int pageSize;
+
+  private ObjectMapper reflective;
+  private ObjectMapper tuned;
+  private PagedModel<ProductResponse> page;
+
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    reflective = Jackson2ObjectMapperBuilder.json().build();
+    tuned = Jackson2ObjectMapperBuilder.json()
+        .serializers(new ProductResponseJsonSerializer(), new PagedModelJsonSerializer())
+        .modulesToInstall(BlackbirdModule.class)
+        .build();
+    List<ProductResponse> content = new ArrayList<>(pageSize);
+    LocalDateTime created = LocalDateTime.of(2025, 10, 5, 8, 30, 15, 123_456_000);
+    for (int i = 0; i < pageSize; i++) {
+      content.add(ProductResponse.builder()
+          .id((long) i + 1)
+          .code(String.format("CODE%06d", i))
+          .name("Product " + i)
+          .priceEur(new BigDecimal(i + ".99"))
+          .priceUsd(new BigDecimal(i + ".15"))
+          .priceStatus(i % 10 == 0 ? PriceStatus.PENDING : PriceStatus.PRICED)
+          .isAvailable(i % 3 != 0)
+          .createdAt(created.plusMinutes(i))
+          .updatedAt(created.plusSeconds(i))
+          .version((long) i % 5)
+          .build());
+    }
+    page = new PagedModel<>(new PageImpl<>(content, PageRequest.of(0, pageSize), 100_000));
+    if (!Arrays.equals(reflective.writeValueAsBytes(page), tuned.writeValueAsBytes(page))) {
+      throw new IllegalStateException("Tuned serializers do not produce identical JSON");
+    }
+  }
+
+  @Benchmark
+  public byte[] reflective() throws JsonProcessingException {
+    return reflective.writeValueAsBytes(page);
+  }
+
+  @Benchmark
+  public byte[] tuned() throws JsonProcessingException {
+    return tuned.writeValueAsBytes(page);
+  }
+}
@@ -0,0 +1,62 @@
+package org.tech.product_service.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tech.product_service.limit.ClientRateLimiter;
+
+/**
+ * Measures per-request overhead of the client rate limiter under contention: all threads hitting one
+ * client's bucket versus threads spread over many clients.
+ * <p>
+ *   Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=RateLimiterBenchmark}.
+ * </p>
+ * @author Josip Begic
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class RateLimiterBenchmark {
+
+  private static final int CLIENTS = 10_000;
+
+  private ClientRateLimiter limiter;
+  private String[] clientKeys;
+
+  @Setup
+  public void setUp() {
+    limiter = new ClientRateLimiter(1_000_000_000, 1_000_000_000, TimeUnit.MINUTES.toNanos(10), CLIENTS * 2);
+    clientKeys = new String[CLIENTS];
+    for (int i = 0; i < CLIENTS; i++) {
+      clientKeys[i] = "ip:10.0." + (i / 256) + "." + (i % 256);
+    }
+  }
+
+  @Benchmark
+  public long sameClient() {
+    long now = System.nanoTime();
+    return limiter.bucket(clientKeys[0], now).tryConsume(now);
+  }
+
+  @Benchmark
+  public long distinctClients() {
+    long now = System.nanoTime();
+    String clientKey = clientKeys[ThreadLocalRandom.current().nextInt(CLIENTS)];
+    return limiter.bucket(clientKey, now).tryConsume(now);
+  }
+}
@@ -0,0 +1,124 @@
+package org.tech.product_service.benchmark;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+/**
+ * Measures what tracing adds to a request that creates the spans of a {@code createProduct} trace: the server
+ * span, the {@code @Observed} service span, a JDBC connection span with two query spans and the HNB client span.
+ * <ul>
+ *   <li>{@code untraced}: the same work without observations.</li>
+ *   <li>{@code traced}: the six nested observations, sampled with the ratio given by {@code sampling}, recorded
+ *   spans handed to a batch processor with a discarding exporter.</li>
+ * </ul>
+ * The difference divided by the request latency (milliseconds with PostgreSQL and HNB in the path) is the
+ * tracing overhead; {@code management.tracing.sampling.probability} is chosen to keep it under 1%.
+ * <p>
+ *   Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=TracingOverheadBenchmark}.
+ * </p>
+ * @author Josip Begic
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TracingOverheadBenchmark {
+
+  private static final int WORK_TOKENS = 1_000;
+
+  @Param({"0.0", "0.05", "1.0"})
+  public double sampling;
+
+  private SdkTracerProvider tracerProvider;
+  private ObservationRegistry registry;
+
+  @Setup
+  public void setUp() {
+    tracerProvider = SdkTracerProvider.builder()
+        .setSampler(Sampler.parentBased(Sampler.traceIdRatioBased(sampling)))
+        .addSpanProcessor(BatchSpanProcessor.builder(new DiscardingExporter()).build())
+        .build();
+    OtelTracer tracer = new OtelTracer(tracerProvider.get("benchmark"), new OtelCurrentTraceContext(),
+        event -> { });
+    registry = ObservationRegistry.create();
+    registry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+  }
+
+  @TearDown
+  public void tearDown() {
+    tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void untraced() {
+    for (int i = 0; i < 5; i++) {
+      Blackhole.consumeCPU(WORK_TOKENS);
+    }
+  }
+
+  @Benchmark
+  public void traced() {
+    observe("http.server.requests", () ->
+        observe("product.service", () -> {
+          observe("hnb.client", () -> Blackhole.consumeCPU(WORK_TOKENS));
+          observe("jdbc.connection", () -> {
+            observe("jdbc.query", () -> Blackhole.consumeCPU(WORK_TOKENS));
+            observe("jdbc.query", () -> Blackhole.consumeCPU(WORK_TOKENS));
+            Blackhole.consumeCPU(WORK_TOKENS);
+          });
+          Blackhole.consumeCPU(WORK_TOKENS);
+        }));
+  }
+
+  private void observe(String name, Runnable work) {
+    Observation.createNotStarted(name, registry)
+        .lowCardinalityKeyValue("method", "createProduct")
+        .observe(work);
+  }
+
+  private static final class DiscardingExporter implements SpanExporter {
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package org.tech.product_service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tech.product_service.config.ProductCacheProperties;
+import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.event.ProductChangedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MissingProductIdsTest {
+
+  private final MissingProductIds missingProductIds =
+      new MissingProductIds(new ProductCacheProperties(), new SimpleMeterRegistry());
+
+  @BeforeEach
+  void setUp() {
+    missingProductIds.markExisting(100L);
+  }
+
+  @Test
+  @DisplayName("markMissing - ID is remembered until a product with that ID is created")
+  void testCreatedForgetsId() {
+    missingProductIds.markMissing(7L, missingProductIds.stamp());
+    missingProductIds.markMissing(8L, missingProductIds.stamp());
+
+    missingProductIds.onProductChanged(ProductChangedEvent.created(ProductResponse.builder().id(7L).build()));
+
+    assertFalse(missingProductIds.isMissing(7L));
+    assertTrue(missingProductIds.isMissing(8L));
+  }
+
+  @Test
+  @DisplayName("onProductChanged - import forgets all IDs, updates forget none")
+  void testImportClears() {
+    missingProductIds.markMissing(7L, missingProductIds.stamp());
+    missingProductIds.onProductChanged(ProductChangedEvent.updated(ProductResponse.builder().id(9L).build()));
+    assertTrue(missingProductIds.isMissing(7L));
+
+    missingProductIds.onProductChanged(ProductChangedEvent.imported());
+
+    assertFalse(missingProductIds.isMissing(7L));
+  }
+
+  @Test
+  @DisplayName("markMissing - rejected when a product was created or imported after the stamp was taken")
+  void testStaleMissRejected() {
+    long stamp = missingProductIds.stamp();
+    missingProductIds.onProductChanged(ProductChangedEvent.created(ProductResponse.builder().id(7L).build()));
+    missingProductIds.markMissing(7L, stamp);
+    assertFalse(missingProductIds.isMissing(7L));
+
+    stamp = missingProductIds.stamp();
+    missingProductIds.onProductChanged(ProductChangedEvent.imported());
+    missingProductIds.markMissing(8L, stamp);
+    assertFalse(missingProductIds.isMissing(8L));
+  }
+
+  @Test
+  @DisplayName("markMissing - IDs above the highest known ID are not remembered")
+  void testAboveHighestKnownId() {
+    missingProductIds.markMissing(101L, missingProductIds.stamp());
+    assertFalse(missingProductIds.isMissing(101L));
+
+    missingProductIds.onProductChanged(ProductChangedEvent.created(ProductResponse.builder().id(102L).build()));
+    missingProductIds.markMissing(101L, missingProductIds.stamp());
+
+    assertTrue(missingProductIds.isMissing(101L));
+  }
+}
@@ -0,0 +1,150 @@
+package org.tech.product_service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OffHeapResponseStoreTest {
+
+  private static final Duration TTL = Duration.ofMinutes(10);
+
+  private final byte[] buffer = new byte[256];
+
+  @Test
+  @DisplayName("put/read - returns the plain and gzip variants")
+  void testPutAndRead() {
+    OffHeapResponseStore store = new OffHeapResponseStore(64 * 1024, 4096, 256, 4, TTL);
+
+    assertTrue(store.put(42L, store.stamp(42L), bytes("{\"id\":42}"), bytes("gz")));
+
+    assertArrayEquals(bytes("{\"id\":42}"), read(store, 42L, false));
+    assertArrayEquals(bytes("gz"), read(store, 42L, true));
+    assertEquals(-1, store.read(43L, false, buffer));
+    assertEquals(1, store.getEntryCount());
+  }
+
+  @Test
+  @DisplayName("put - rejected when the set was invalidated after the stamp was taken")
+  void testStalePutRejected() {
+    OffHeapResponseStore store = new OffHeapResponseStore(64 * 1024, 4096, 256, 4, TTL);
+    long stamp = store.stamp(1L);
+
+    store.invalidate(1L);
+
+    assertFalse(store.put(1L, stamp, bytes("old"), new byte[0]));
+    assertEquals(-1, store.read(1L, false, buffer));
+  }
+
+  @Test
+  @DisplayName("put - rejected after invalidateAll and entries of the old epoch are gone")
+  void testInvalidateAll() {
+    OffHeapResponseStore store = new OffHeapResponseStore(64 * 1024, 4096, 256, 4, TTL);
+    store.put(1L, store.stamp(1L), bytes("one"), new byte[0]);
+    long stamp = store.stamp(2L);
+
+    store.invalidateAll();
+
+    assertEquals(-1, store.read(1L, false, buffer));
+    assertFalse(store.put(2L, stamp, bytes("two"), new byte[0]));
+    assertEquals(0, store.getEntryCount());
+    assertTrue(store.put(1L, store.stamp(1L), bytes("new"), new byte[0]));
+    assertArrayEquals(bytes("new"), read(store, 1L, false));
+  }
+
+  @Test
+  @DisplayName("read - entries older than the TTL are misses until stored again")
+  void testTtl() {
+    AtomicLong nanos = new AtomicLong();
+    OffHeapResponseStore store = new OffHeapResponseStore(64 * 1024, 4096, 256, 4, Duration.ofSeconds(60),
+        nanos::get);
+    store.put(1L, store.stamp(1L), bytes("one"), new byte[0]);
+
+    nanos.addAndGet(Duration.ofSeconds(59).toNanos());
+    assertArrayEquals(bytes("one"), read(store, 1L, false));
+
+    nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+    assertEquals(-1, store.read(1L, false, buffer));
+
+    assertTrue(store.put(1L, store.stamp(1L), bytes("fresh"), new byte[0]));
+    assertArrayEquals(bytes("fresh"), read(store, 1L, false));
+    assertEquals(1, store.getEntryCount());
+  }
+
+  @Test
+  @DisplayName("invalidate - removes only the given key")
+  void testInvalidate() {
+    OffHeapResponseStore store = new OffHeapResponseStore(64 * 1024, 4096, 256, 4, TTL);
+    store.put(1L, store.stamp(1L), bytes("one"), new byte[0]);
+    store.put(2L, store.stamp(2L), bytes("two"), new byte[0]);
+
+    store.invalidate(1L);
+
+    assertEquals(-1, store.read(1L, false, buffer));
+    assertArrayEquals(bytes("two"), read(store, 2L, false));
+  }
+
+  @Test
+  @DisplayName("put - entries larger than a slot are not stored")
+  void testOversized() {
+    OffHeapResponseStore store = new OffHeapResponseStore(64 * 1024, 4096, 72, 4, TTL);
+
+    assertFalse(store.put(1L, store.stamp(1L), new byte[40], new byte[10]));
+    assertTrue(store.put(1L, store.stamp(1L), new byte[40], new byte[8]));
+  }
+
+  @Test
+  @DisplayName("CLOCK - a full set evicts an unreferenced entry and keeps the referenced one")
+  void testClockEviction() {
+    // a single set of two slots
+    OffHeapResponseStore store = new OffHeapResponseStore(2 * 64, 128, 64, 2, TTL);
+    store.put(1L, store.stamp(1L), bytes("one"), new byte[0]);
+    store.put(2L, store.stamp(2L), bytes("two"), new byte[0]);
+    read(store, 1L, false);
+
+    store.put(3L, store.stamp(3L), bytes("three"), new byte[0]);
+
+    assertArrayEquals(bytes("one"), read(store, 1L, false));
+    assertEquals(-1, store.read(2L, false, buffer));
+    assertArrayEquals(bytes("three"), read(store, 3L, false));
+    assertEquals(1, store.getEvictions());
+  }
+
+  @Test
+  @DisplayName("slabs - slots are spread over several direct buffers")
+  void testSeveralSlabs() {
+    OffHeapResponseStore store = new OffHeapResponseStore(16 * 1024, 1024, 128, 4, TTL);
+    for (long id = 0; id < 200; id++) {
+      store.put(id, store.stamp(id), bytes("product-" + id), new byte[0]);
+    }
+
+    assertEquals(128, store.getCapacity());
+    assertEquals(16 * 1024, store.getOffHeapBytes());
+    int hits = 0;
+    for (long id = 0; id < 200; id++) {
+      byte[] value = read(store, id, false);
+      if (value != null) {
+        assertArrayEquals(bytes("product-" + id), value);
+        hits++;
+      }
+    }
+    assertEquals(store.getEntryCount(), hits);
+  }
+
+  private byte[] read(OffHeapResponseStore store, long key, boolean gzip) {
+    int length = store.read(key, gzip, buffer);
+    return length < 0 ? null : Arrays.copyOf(buffer, length);
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,54 @@
+package org.tech.product_service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.tech.product_service.config.ProductCacheProperties;
+import org.tech.product_service.event.ProductChangedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductPageKeyGeneratorTest {
+
+  private final CatalogVersion catalogVersion = new CatalogVersion(new SimpleMeterRegistry());
+  private final ProductPageKeyGenerator keyGenerator =
+      new ProductPageKeyGenerator(catalogVersion, new ProductCacheProperties());
+
+  @Test
+  @DisplayName("generate - equal pageables give equal keys")
+  void testEqualKeys() {
+    Object first = keyGenerator.generate(this, null, PageRequest.of(0, 50, Sort.by("id")));
+    Object second = keyGenerator.generate(this, null, PageRequest.of(0, 50, Sort.by(Sort.Direction.ASC, "id")));
+
+    assertEquals(first, second);
+    assertEquals(new ProductPageKey(0, 0, 50, "id: ASC"), first);
+  }
+
+  @Test
+  @DisplayName("generate - a product write makes earlier keys unreachable")
+  void testVersionBump() {
+    Pageable pageable = PageRequest.of(1, 50, Sort.by("id"));
+    Object before = keyGenerator.generate(this, null, pageable);
+
+    catalogVersion.onProductChanged(ProductChangedEvent.imported());
+
+    assertNotEquals(before, keyGenerator.generate(this, null, pageable));
+    assertEquals(1, catalogVersion.current());
+  }
+
+  @Test
+  @DisplayName("isCacheable - only the leading pages are cached")
+  void testIsCacheable() {
+    assertTrue(keyGenerator.isCacheable(PageRequest.of(0, 50)));
+    assertTrue(keyGenerator.isCacheable(PageRequest.of(2, 50)));
+    assertFalse(keyGenerator.isCacheable(PageRequest.of(3, 50)));
+    assertFalse(keyGenerator.isCacheable(Pageable.unpaged()));
+  }
+}
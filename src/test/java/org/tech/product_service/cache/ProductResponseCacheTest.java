@@ -0,0 +1,83 @@
+package org.tech.product_service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.event.ProductChangedEvent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductResponseCacheTest {
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private final ProductResponseCache cache = new ProductResponseCache(
+      new OffHeapResponseStore(64 * 1024, 16 * 1024, 1024, 8, Duration.ofMinutes(10)), objectMapper, true,
+      new SimpleMeterRegistry());
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  @DisplayName("get - second lookup is served from the cache with the same bytes")
+  void testHit() throws IOException {
+    byte[] first = body(cache.get(1L, false, () -> load(1L)));
+    byte[] second = body(cache.get(1L, false, () -> load(1L)));
+
+    assertEquals(1, loads.get());
+    assertArrayEquals(objectMapper.writeValueAsBytes(product(1L)), first);
+    assertArrayEquals(first, second);
+  }
+
+  @Test
+  @DisplayName("get - gzip variant decodes to the JSON variant")
+  void testGzip() throws IOException {
+    byte[] json = body(cache.get(1L, false, () -> load(1L)));
+    CachedResponse gzip = cache.get(1L, true, () -> load(1L));
+
+    assertTrue(gzip.gzip());
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body(gzip)))) {
+      assertArrayEquals(json, in.readAllBytes());
+    }
+  }
+
+  @Test
+  @DisplayName("onProductChanged - update invalidates the product, bulk changes invalidate all")
+  void testInvalidation() {
+    cache.get(1L, false, () -> load(1L));
+    cache.get(2L, false, () -> load(2L));
+
+    cache.onProductChanged(ProductChangedEvent.updated(product(1L)));
+    cache.get(1L, false, () -> load(1L));
+    cache.get(2L, false, () -> load(2L));
+    assertEquals(3, loads.get());
+
+    cache.onProductChanged(ProductChangedEvent.imported());
+    cache.get(2L, false, () -> load(2L));
+    assertEquals(4, loads.get());
+  }
+
+  private ProductResponse load(long id) {
+    loads.incrementAndGet();
+    return product(id);
+  }
+
+  private static ProductResponse product(long id) {
+    return ProductResponse.builder().id(id).code("CODE00000" + id).name("Product " + id).isAvailable(true).build();
+  }
+
+  private static byte[] body(CachedResponse response) {
+    return Arrays.copyOf(response.buffer(), response.length());
+  }
+}
@@ -4,12 +4,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
@@ -21,11 +26,29 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.tech.product_service.cache.CachedResponse;
+import org.tech.product_service.cache.ProductResponseCache;
+import org.tech.product_service.dto.request.ProductAvailabilityRequest;
+import org.tech.product_service.dto.request.ProductLookupRequest;
+import org.tech.product_service.dto.request.ProductPatchRequest;
 import org.tech.product_service.dto.request.ProductRequest;
+import org.tech.product_service.dto.response.CatalogStatsResponse;
+import org.tech.product_service.dto.response.ProductAvailabilityResponse;
 import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.dto.response.ProductImportResponse;
+import org.tech.product_service.dto.response.ProductLookupResponse;
+import org.tech.product_service.filter.ClientKeyResolver;
+import org.tech.product_service.idempotency.IdempotencyGuard;
+import org.tech.product_service.model.PriceStatus;
+import org.tech.product_service.service.CatalogStatsService;
+import org.tech.product_service.service.ProductChangeStreamService;
+import org.tech.product_service.service.ProductImportService;
 import org.tech.product_service.service.ProductService;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +56,18 @@ class ProductControllerTest {
 
   @Mock
   private ProductService productService;
+  @Mock
+  private ProductImportService productImportService;
+  @Mock
+  private ProductChangeStreamService productChangeStreamService;
+  @Mock
+  private ProductResponseCache productResponseCache;
+  @Mock
+  private CatalogStatsService catalogStatsService;
+  @Mock
+  private IdempotencyGuard idempotencyGuard;
+  @Mock
+  private ClientKeyResolver clientKeyResolver;
   @InjectMocks
   private ProductController productController;
 
@@ -60,7 +95,7 @@ class ProductControllerTest {
 
     when(productService.createProduct(any(ProductRequest.class))).thenReturn(response);
 
-    var entity = productController.createProduct(request);
+    var entity = productController.createProduct(request, null, servletRequest);
 
     assertEquals(201, entity.getStatusCode().value());
     assertNotNull(entity.getBody());
@@ -72,6 +107,50 @@ class ProductControllerTest {
     verify(productService, times(1)).createProduct(any(ProductRequest.class));
   }
 
+  @Test
+  @DisplayName("createProduct - returns 202 with Location header when USD price is pending")
+  void testCreateProduct_PricePending() {
+    MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+    servletRequest.setRequestURI("/product");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+
+    ProductResponse response = ProductResponse.builder()
+        .id(101L)
+        .code("CODE654321")
+        .name("Pending Product")
+        .priceEur(new BigDecimal("10.00"))
+        .priceStatus(PriceStatus.PENDING)
+        .isAvailable(true)
+        .build();
+
+    when(productService.createProduct(any(ProductRequest.class))).thenReturn(response);
+
+    var entity = productController.createProduct(new ProductRequest(), null, servletRequest);
+
+    assertEquals(202, entity.getStatusCode().value());
+    assertEquals(response, entity.getBody());
+    URI location = entity.getHeaders().getLocation();
+    assertNotNull(location);
+    assertTrue(location.toString().endsWith("/product/101"));
+  }
+
+  @Test
+  @DisplayName("createProduct - with Idempotency-Key delegates to the idempotency guard")
+  void testCreateProduct_IdempotencyKey() {
+    MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+    when(clientKeyResolver.resolve(servletRequest)).thenReturn("ip:127.0.0.1");
+    ProductRequest request = new ProductRequest();
+    ResponseEntity<ProductResponse> replayed = ResponseEntity.status(201)
+        .header(IdempotencyGuard.REPLAYED_HEADER, "true")
+        .body(ProductResponse.builder().id(100L).build());
+    when(idempotencyGuard.execute(eq("ip:127.0.0.1"), eq("key-1"), eq(request), any())).thenReturn(replayed);
+
+    var entity = productController.createProduct(request, "key-1", servletRequest);
+
+    assertEquals(replayed, entity);
+    verify(productService, never()).createProduct(any(ProductRequest.class));
+  }
+
   @Test
   @DisplayName("getProductById - returns 200 with body")
   void testGetProductById() {
@@ -86,13 +165,51 @@ class ProductControllerTest {
 
     when(productService.getProductById(5L)).thenReturn(response);
 
-    var entity = productController.getProductById(5L);
+    var entity = productController.getProductById(5L, null);
 
     assertEquals(200, entity.getStatusCode().value());
     assertEquals(response, entity.getBody());
     verify(productService, times(1)).getProductById(5L);
   }
 
+  @Test
+  @DisplayName("getProductById - serves gzip encoded bytes from the response cache")
+  void testGetProductById_ResponseCache() {
+    CachedResponse cached = new CachedResponse(new byte[] {31, -117, 8}, 3, true);
+    when(productResponseCache.isEnabled()).thenReturn(true);
+    when(productResponseCache.isGzipEnabled()).thenReturn(true);
+    when(productResponseCache.get(eq(5L), eq(true), any())).thenReturn(cached);
+
+    var entity = productController.getProductById(5L, "gzip, deflate, br");
+
+    assertEquals(200, entity.getStatusCode().value());
+    assertEquals(cached, entity.getBody());
+    assertEquals("gzip", entity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    assertEquals(HttpHeaders.ACCEPT_ENCODING, entity.getHeaders().getFirst(HttpHeaders.VARY));
+    verify(productService, never()).getProductById(any());
+  }
+
+  @Test
+  @DisplayName("getProductByCode - returns 200 with body")
+  void testGetProductByCode() {
+    ProductResponse response = ProductResponse.builder()
+        .id(7L)
+        .code("CODEBBBBBB")
+        .name("Prod B")
+        .priceEur(new BigDecimal("7.00"))
+        .priceUsd(new BigDecimal("7.70"))
+        .isAvailable(true)
+        .build();
+
+    when(productService.getProductByCode("CODEBBBBBB")).thenReturn(response);
+
+    var entity = productController.getProductByCode("CODEBBBBBB");
+
+    assertEquals(200, entity.getStatusCode().value());
+    assertEquals(response, entity.getBody());
+    verify(productService, times(1)).getProductByCode("CODEBBBBBB");
+  }
+
   @Test
   @DisplayName("getAllProducts - returns 200 with page content")
   void testGetAllProducts() {
@@ -117,4 +234,87 @@ class ProductControllerTest {
     assertEquals(r1, entity.getBody().getContent().getFirst());
     verify(productService, times(1)).getAllProducts(pageable);
   }
+
+  @Test
+  @DisplayName("patchProduct - returns 200 with updated body")
+  void testPatchProduct() {
+    ProductPatchRequest request = new ProductPatchRequest();
+    request.setIsAvailable(false);
+    ProductResponse response = ProductResponse.builder().id(1L).code("CODE123456").isAvailable(false).build();
+    when(productService.patchProduct(1L, request)).thenReturn(response);
+
+    var entity = productController.patchProduct(1L, request);
+
+    assertEquals(200, entity.getStatusCode().value());
+    assertEquals(response, entity.getBody());
+  }
+
+  @Test
+  @DisplayName("updateAvailability - returns 200 with update summary")
+  void testUpdateAvailability() {
+    ProductAvailabilityRequest request = new ProductAvailabilityRequest();
+    request.setCodes(List.of("CODE123456"));
+    request.setIsAvailable(false);
+    ProductAvailabilityResponse response = ProductAvailabilityResponse.builder()
+        .requested(1).updated(1).isAvailable(false).build();
+    when(productService.updateAvailability(request)).thenReturn(response);
+
+    var entity = productController.updateAvailability(request);
+
+    assertEquals(200, entity.getStatusCode().value());
+    assertEquals(1, entity.getBody().getUpdated());
+  }
+
+  @Test
+  @DisplayName("lookupProducts - returns 200 with found products and missing IDs")
+  void testLookupProducts() {
+    ProductLookupRequest request = new ProductLookupRequest();
+    request.setIds(List.of(1L, 2L));
+    ProductLookupResponse response = ProductLookupResponse.builder()
+        .products(List.of(ProductResponse.builder().id(1L).build()))
+        .missingIds(List.of(2L))
+        .build();
+    when(productService.lookupProducts(List.of(1L, 2L))).thenReturn(response);
+
+    var entity = productController.lookupProducts(request);
+
+    assertEquals(200, entity.getStatusCode().value());
+    assertEquals(response, entity.getBody());
+  }
+
+  @Test
+  @DisplayName("importProducts - returns 200 with import summary")
+  void testImportProducts() {
+    InputStream csv = new ByteArrayInputStream("name,code,priceEur,isAvailable\n".getBytes(StandardCharsets.UTF_8));
+    ProductImportResponse summary = ProductImportResponse.builder().rowsRead(0).rejects(List.of()).build();
+    when(productImportService.importProducts(csv)).thenReturn(summary);
+
+    var entity = productController.importProducts(csv);
+
+    assertEquals(200, entity.getStatusCode().value());
+    assertEquals(summary, entity.getBody());
+    verify(productImportService, times(1)).importProducts(csv);
+  }
+
+  @Test
+  @DisplayName("streamProductChanges - delegates subscription with Last-Event-ID")
+  void testStreamProductChanges() {
+    SseEmitter emitter = new SseEmitter();
+    when(productChangeStreamService.subscribe("boot-42")).thenReturn(emitter);
+
+    assertEquals(emitter, productController.streamProductChanges("boot-42"));
+  }
+
+  @Test
+  @DisplayName("getCatalogStats - returns 200 with the statistics")
+  void testGetCatalogStats() {
+    CatalogStatsResponse stats = CatalogStatsResponse.builder().productCount(2).availableCount(1)
+        .availabilityRatio(0.5).build();
+    when(catalogStatsService.getCatalogStats()).thenReturn(stats);
+
+    var response = productController.getCatalogStats();
+
+    assertEquals(200, response.getStatusCode().value());
+    assertEquals(stats, response.getBody());
+  }
 }
@@ -17,7 +17,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.tech.product_service.model.Product;
+import org.tech.product_service.money.Cents;
 import org.tech.product_service.repository.ProductRepository;
+import org.tech.product_service.sql.SqlStatementBudget;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -42,8 +44,8 @@ class ProductControllerIT {
     return Product.builder()
         .code(code)
         .name(name)
-        .priceEur(priceEur)
-        .priceUsd(priceUsd)
+        .priceEur(Cents.of(priceEur))
+        .priceUsd(Cents.of(priceUsd))
         .isAvailable(true)
         .build();
   }
@@ -62,12 +64,46 @@ class ProductControllerIT {
             .contentType(MediaType.APPLICATION_JSON)
             .content(requestJson))
         .andExpect(status().isCreated())
+        .andExpect(SqlStatementBudget.atMost(2))
         .andExpect(header().string("Location", matchesPattern(".*/product/\\d+")))
         .andExpect(jsonPath("$.id", notNullValue()))
         .andExpect(jsonPath("$.code").value("SUCCESS001"))
         .andExpect(jsonPath("$.priceUsd").exists());
   }
 
+  @Test
+  @DisplayName("POST /product - retry with the same Idempotency-Key replays the original response")
+  void testCreateProductIdempotentRetry() throws Exception {
+    String requestJson = "{" +
+        "\"name\":\"Retried\"," +
+        "\"code\":\"IDEMPOT001\"," +
+        "\"priceEur\":10.00," +
+        "\"isAvailable\":true}";
+
+    String location = mockMvc.perform(post("/product")
+            .header("Idempotency-Key", "it-retry-1")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(requestJson))
+        .andExpect(status().isCreated())
+        .andExpect(header().doesNotExist("Idempotent-Replayed"))
+        .andReturn().getResponse().getHeader("Location");
+
+    mockMvc.perform(post("/product")
+            .header("Idempotency-Key", "it-retry-1")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(requestJson))
+        .andExpect(status().isCreated())
+        .andExpect(header().string("Location", location))
+        .andExpect(header().string("Idempotent-Replayed", "true"))
+        .andExpect(jsonPath("$.code").value("IDEMPOT001"));
+
+    mockMvc.perform(post("/product")
+            .header("Idempotency-Key", "it-retry-1")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(requestJson.replace("Retried", "Changed")))
+        .andExpect(status().isUnprocessableEntity());
+  }
+
   @Test
   @DisplayName("POST /product - duplicate code conflict")
   void testCreateProductDuplicate() throws Exception {
@@ -95,6 +131,7 @@ class ProductControllerIT {
 
     mockMvc.perform(get("/product/{id}", saved.getId()))
         .andExpect(status().isOk())
+        .andExpect(SqlStatementBudget.atMost(1))
         .andExpect(jsonPath("$.id").value(saved.getId()))
         .andExpect(jsonPath("$.code").value("GETTEST001"));
   }
@@ -109,6 +146,53 @@ class ProductControllerIT {
         .andExpect(jsonPath("$.detail", containsString("not found")));
   }
 
+  @Test
+  @DisplayName("POST /product/lookup - products in request order with missing IDs reported")
+  void testLookupProducts() throws Exception {
+    Product first = productRepository.save(buildProduct("LOOKUP0001", "First", new BigDecimal("1.00"), new BigDecimal("1.50")));
+    Product second = productRepository.save(buildProduct("LOOKUP0002", "Second", new BigDecimal("2.00"), new BigDecimal("3.00")));
+
+    mockMvc.perform(post("/product/lookup")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"ids\":[" + second.getId() + ",999999," + first.getId() + "," + second.getId() + "]}"))
+        .andExpect(status().isOk())
+        .andExpect(SqlStatementBudget.atMost(1))
+        .andExpect(jsonPath("$.products", hasSize(2)))
+        .andExpect(jsonPath("$.products[0].code").value("LOOKUP0002"))
+        .andExpect(jsonPath("$.products[1].code").value("LOOKUP0001"))
+        .andExpect(jsonPath("$.missingIds[0]").value(999999));
+  }
+
+  @Test
+  @DisplayName("POST /product/lookup - empty ID list is rejected")
+  void testLookupProductsEmpty() throws Exception {
+    mockMvc.perform(post("/product/lookup")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"ids\":[]}"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("GET /product/code/{code} - success")
+  void testGetProductByCodeSuccess() throws Exception {
+    Product saved = productRepository.save(buildProduct("CODETEST01", "Code Name", new BigDecimal("9.99"), new BigDecimal("14.99")));
+
+    mockMvc.perform(get("/product/code/{code}", "CODETEST01"))
+        .andExpect(status().isOk())
+        .andExpect(SqlStatementBudget.atMost(1))
+        .andExpect(jsonPath("$.id").value(saved.getId()))
+        .andExpect(jsonPath("$.code").value("CODETEST01"));
+  }
+
+  @Test
+  @DisplayName("GET /product/code/{code} - not found")
+  void testGetProductByCodeNotFound() throws Exception {
+    mockMvc.perform(get("/product/code/{code}", "NOCODE0000"))
+        .andExpect(status().isNotFound())
+        .andExpect(content().contentType("application/problem+json"))
+        .andExpect(jsonPath("$.detail", containsString("not found")));
+  }
+
   @Test
   @DisplayName("GET /product - pagination and list")
   void testGetAllProducts() throws Exception {
@@ -118,6 +202,7 @@ class ProductControllerIT {
 
     mockMvc.perform(get("/product?page=0&size=2"))
         .andExpect(status().isOk())
+        .andExpect(SqlStatementBudget.atMost(2))
         .andExpect(jsonPath("$.content", hasSize(2)))
         .andExpect(jsonPath("$.page.size").value(2))
         .andExpect(jsonPath("$.page.number").value(0))
@@ -0,0 +1,143 @@
+package org.tech.product_service.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.tech.product_service.config.ReplicaDataSourceProperties;
+
+/**
+ * Routes between two embedded H2 databases, each holding a row naming the node.
+ */
+class ReplicaRoutingDataSourceTest {
+
+  private static final String NODE_QUERY = "SELECT name FROM node";
+
+  private ReplicaRoutingDataSource routingDataSource;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate readOnlyTransaction;
+  private TransactionTemplate readWriteTransaction;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource primary = embeddedNode("primary");
+    DriverManagerDataSource replica = embeddedNode("replica");
+    routingDataSource = new ReplicaRoutingDataSource(primary, Map.of("replica", replica));
+    routingDataSource.afterPropertiesSet();
+
+    LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+    readWriteTransaction = new TransactionTemplate(transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    ReplicaRoutingContext.clear();
+  }
+
+  private static DriverManagerDataSource embeddedNode(String name) {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate template = new JdbcTemplate(dataSource);
+    template.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+    template.execute("DELETE FROM node");
+    template.update("INSERT INTO node (name) VALUES (?)", name);
+    return dataSource;
+  }
+
+  private String readOnlyNode() {
+    return readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+  }
+
+  @Test
+  @DisplayName("read-only transaction is routed to the replica")
+  void testReadOnlyTransactionUsesReplica() {
+    assertEquals("replica", readOnlyNode());
+  }
+
+  @Test
+  @DisplayName("thread remembers whether its last read was served by a replica")
+  void testReplicaRead() {
+    readOnlyNode();
+    assertTrue(ReplicaRoutingContext.isReplicaRead());
+
+    routingDataSource.setLagging("replica", true);
+    readOnlyNode();
+    assertFalse(ReplicaRoutingContext.isReplicaRead());
+  }
+
+  @Test
+  @DisplayName("read-write transaction and non-transactional work use the primary")
+  void testWritesUsePrimary() {
+    assertEquals("primary", readWriteTransaction.execute(
+        status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class)));
+    assertEquals("primary", jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+  }
+
+  @Test
+  @DisplayName("lagging replica is excluded until it catches up")
+  void testLaggingReplicaExcluded() {
+    routingDataSource.setLagging("replica", true);
+    assertEquals("primary", readOnlyNode());
+
+    routingDataSource.setLagging("replica", false);
+    assertEquals("replica", readOnlyNode());
+  }
+
+  @Test
+  @DisplayName("lag monitor excludes a replica over the lag tolerance")
+  void testLagMonitor() {
+    ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties();
+    properties.setMaxLag(Duration.ofSeconds(1));
+    properties.setLagQuery("SELECT 5000");
+    ReplicaLagMonitor monitor = new ReplicaLagMonitor(routingDataSource, properties);
+
+    monitor.checkReplicationLag();
+    assertEquals("primary", readOnlyNode());
+
+    properties.setLagQuery("SELECT 0");
+    monitor.checkReplicationLag();
+    assertEquals("replica", readOnlyNode());
+  }
+
+  @Test
+  @DisplayName("reads after a write in the same request stick to the primary")
+  void testReadYourWrites() {
+    AtomicInteger writes = new AtomicInteger();
+    ReplicaRoutingContext.begin(false, writes::incrementAndGet);
+    assertEquals("replica", readOnlyNode());
+
+    readWriteTransaction.executeWithoutResult(
+        status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+    readWriteTransaction.executeWithoutResult(
+        status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+
+    assertEquals(1, writes.get());
+    assertEquals("primary", readOnlyNode());
+  }
+
+  @Test
+  @DisplayName("client pinned by a recent write reads from the primary")
+  void testPinnedClientReadsPrimary() {
+    ReplicaRoutingContext.begin(true, null);
+    assertEquals("primary", readOnlyNode());
+    ReplicaRoutingContext.clear();
+    assertTrue(readOnlyNode().startsWith("replica"));
+  }
+}
@@ -0,0 +1,38 @@
+package org.tech.product_service.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LogSamplerTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  @Test
+  @DisplayName("acquire - permits the limit per second and suppresses the rest")
+  void testLimitPerSecond() {
+    LogSampler sampler = new LogSampler(2);
+
+    assertEquals(0, sampler.acquire(0));
+    assertEquals(0, sampler.acquire(10));
+    assertEquals(LogSampler.NOT_PERMITTED, sampler.acquire(20));
+    assertEquals(LogSampler.NOT_PERMITTED, sampler.acquire(SECOND - 1));
+  }
+
+  @Test
+  @DisplayName("acquire - the first line of a new second reports the suppressed count once")
+  void testReportsSuppressed() {
+    LogSampler sampler = new LogSampler(1);
+    sampler.acquire(0);
+    sampler.acquire(1);
+    sampler.acquire(2);
+    sampler.acquire(3);
+
+    assertEquals(3, sampler.acquire(SECOND));
+    assertEquals(LogSampler.NOT_PERMITTED, sampler.acquire(SECOND + 1));
+    assertEquals(1, sampler.acquire(5 * SECOND));
+  }
+}
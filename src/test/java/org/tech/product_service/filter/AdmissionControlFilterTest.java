@@ -0,0 +1,75 @@
+package org.tech.product_service.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.tech.product_service.config.AdmissionControlProperties;
+import org.tech.product_service.limit.EndpointClass;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdmissionControlFilterTest {
+
+  private AdmissionControlFilter filter;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    AdmissionControlProperties properties = new AdmissionControlProperties();
+    properties.setInitialLimit(1);
+    properties.setMinLimit(1);
+    meterRegistry = new SimpleMeterRegistry();
+    filter = new AdmissionControlFilter(properties, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("request within the limit passes through")
+  void testAdmitted() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/product/1"), response, chain);
+
+    assertNotNull(chain.getRequest());
+    assertEquals(200, response.getStatus());
+    assertEquals(0, filter.getLimiter(EndpointClass.READ).getInFlight());
+  }
+
+  @Test
+  @DisplayName("request over the limit is shed with 503 and Retry-After")
+  void testShed() throws Exception {
+    filter.getLimiter(EndpointClass.READ).tryAcquire();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/product"), response, chain);
+
+    assertNull(chain.getRequest());
+    assertEquals(503, response.getStatus());
+    assertEquals("1", response.getHeader("Retry-After"));
+    assertEquals("application/problem+json", response.getContentType());
+    assertEquals(1.0, meterRegistry.get("product.admission.rejected").tag("endpoint", "read").counter().count());
+  }
+
+  @Test
+  @DisplayName("writes have their own limit and actuator probes are always admitted")
+  void testWritesAndActuator() throws Exception {
+    filter.getLimiter(EndpointClass.READ).tryAcquire();
+
+    MockFilterChain writeChain = new MockFilterChain();
+    filter.doFilter(new MockHttpServletRequest("POST", "/product"), new MockHttpServletResponse(), writeChain);
+    assertNotNull(writeChain.getRequest());
+
+    MockFilterChain probeChain = new MockFilterChain();
+    filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health/readiness"),
+        new MockHttpServletResponse(), probeChain);
+    assertNotNull(probeChain.getRequest());
+  }
+}
@@ -0,0 +1,124 @@
+package org.tech.product_service.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.tech.product_service.config.RateLimitProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimitFilterTest {
+
+  private RateLimitFilter filter;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    RateLimitProperties properties = new RateLimitProperties();
+    properties.setRead(new RateLimitProperties.Limit(2, 0.001));
+    properties.setWrite(new RateLimitProperties.Limit(1, 0.001));
+    properties.setApiKeys(Set.of("noisy", "quiet"));
+    meterRegistry = new SimpleMeterRegistry();
+    filter = new RateLimitFilter(properties, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("allowed request carries RateLimit headers")
+  void testAllowed() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/product"), response, chain);
+
+    assertNotNull(chain.getRequest());
+    assertEquals("2", response.getHeader(RateLimitFilter.LIMIT_HEADER));
+    assertEquals("1", response.getHeader(RateLimitFilter.REMAINING_HEADER));
+    assertNotNull(response.getHeader(RateLimitFilter.RESET_HEADER));
+  }
+
+  @Test
+  @DisplayName("client over its limit gets 429 with Retry-After while other API keys are unaffected")
+  void testRejectedPerClient() throws Exception {
+    filter.doFilter(apiKeyRequest("POST", "noisy"), new MockHttpServletResponse(), new MockFilterChain());
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+    filter.doFilter(apiKeyRequest("POST", "noisy"), response, chain);
+
+    assertNull(chain.getRequest());
+    assertEquals(429, response.getStatus());
+    assertEquals("0", response.getHeader(RateLimitFilter.REMAINING_HEADER));
+    assertNotNull(response.getHeader("Retry-After"));
+    assertEquals("application/problem+json", response.getContentType());
+    assertEquals(1.0, meterRegistry.get("product.rate.limit.rejected").tag("endpoint", "write").counter().count());
+
+    MockFilterChain otherChain = new MockFilterChain();
+    filter.doFilter(apiKeyRequest("POST", "quiet"), new MockHttpServletResponse(), otherChain);
+    assertNotNull(otherChain.getRequest());
+  }
+
+  @Test
+  @DisplayName("unknown API keys are limited by address, rotating them does not give a fresh bucket")
+  void testUnknownApiKeys() throws Exception {
+    filter.doFilter(apiKeyRequest("POST", "made-up-1"), new MockHttpServletResponse(), new MockFilterChain());
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+    filter.doFilter(apiKeyRequest("POST", "made-up-2"), response, chain);
+
+    assertNull(chain.getRequest());
+    assertEquals(429, response.getStatus());
+  }
+
+  @Test
+  @DisplayName("reads and writes have separate buckets and actuator is not limited")
+  void testSeparateBucketsAndActuator() throws Exception {
+    filter.doFilter(new MockHttpServletRequest("POST", "/product"), new MockHttpServletResponse(),
+        new MockFilterChain());
+
+    MockFilterChain readChain = new MockFilterChain();
+    filter.doFilter(new MockHttpServletRequest("GET", "/product"), new MockHttpServletResponse(), readChain);
+    assertNotNull(readChain.getRequest());
+
+    MockHttpServletResponse probeResponse = new MockHttpServletResponse();
+    filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), probeResponse, new MockFilterChain());
+    assertNull(probeResponse.getHeader(RateLimitFilter.LIMIT_HEADER));
+  }
+
+  @Test
+  @DisplayName("multi-get lookup is limited as a read and does not use up write capacity")
+  void testLookupIsRead() throws Exception {
+    MockHttpServletResponse lookupResponse = new MockHttpServletResponse();
+    filter.doFilter(new MockHttpServletRequest("POST", "/product/lookup"), lookupResponse, new MockFilterChain());
+    assertEquals("2", lookupResponse.getHeader(RateLimitFilter.LIMIT_HEADER));
+
+    MockFilterChain writeChain = new MockFilterChain();
+    filter.doFilter(new MockHttpServletRequest("POST", "/product"), new MockHttpServletResponse(), writeChain);
+    assertNotNull(writeChain.getRequest());
+  }
+
+  @Test
+  @DisplayName("rate limiting runs before admission control")
+  void testOrderedBeforeAdmissionControl() {
+    assertTrue(OrderUtils.getOrder(RateLimitFilter.class, Ordered.LOWEST_PRECEDENCE)
+        < OrderUtils.getOrder(AdmissionControlFilter.class, Ordered.LOWEST_PRECEDENCE));
+  }
+
+  private static MockHttpServletRequest apiKeyRequest(String method, String apiKey) {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, "/product");
+    request.addHeader("X-API-Key", apiKey);
+    return request;
+  }
+}
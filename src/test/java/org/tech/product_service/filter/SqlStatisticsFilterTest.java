@@ -0,0 +1,63 @@
+package org.tech.product_service.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import org.tech.product_service.sql.SqlStatementListener;
+import org.tech.product_service.sql.SqlStatistics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+
+class SqlStatisticsFilterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final SqlStatisticsFilter filter = new SqlStatisticsFilter(meterRegistry);
+  private final SqlStatementListener listener = new SqlStatementListener(Duration.ofSeconds(10), meterRegistry);
+
+  @Test
+  @DisplayName("statements of the request are recorded per endpoint and exposed as a request attribute")
+  void testRecordsStatements() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/product/1");
+
+    filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+      req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/product/{id}");
+      List<QueryInfo> queries = List.of(new QueryInfo("select * from product where id = ?"));
+      ExecutionInfo execInfo = new ExecutionInfo();
+      listener.beforeQuery(execInfo, queries);
+      listener.afterQuery(execInfo, queries);
+    });
+
+    SqlStatistics statistics = (SqlStatistics) request.getAttribute(SqlStatisticsFilter.STATISTICS_ATTRIBUTE);
+    assertEquals(1, statistics.statements());
+    assertNull(SqlStatistics.current());
+    assertEquals(1.0, meterRegistry.get("product.sql.statements")
+        .tags("method", "GET", "uri", "/product/{id}").summary().totalAmount());
+    assertEquals(1, meterRegistry.get("product.sql.time").tag("uri", "/product/{id}").timer().count());
+  }
+
+  @Test
+  @DisplayName("statistics are unbound from the thread when the request fails")
+  void testUnbindsOnFailure() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/product");
+
+    assertThrows(IllegalStateException.class, () -> filter.doFilter(request, new MockHttpServletResponse(),
+        (req, res) -> {
+          throw new IllegalStateException("boom");
+        }));
+
+    assertNull(SqlStatistics.current());
+    assertEquals(0.0, meterRegistry.get("product.sql.statements").tag("uri", SqlStatisticsFilter.UNKNOWN_URI)
+        .summary().totalAmount());
+  }
+}
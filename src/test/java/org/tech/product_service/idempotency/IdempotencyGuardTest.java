@@ -0,0 +1,201 @@
+package org.tech.product_service.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.tech.product_service.config.IdempotencyProperties;
+import org.tech.product_service.dto.request.ProductRequest;
+import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.exception.ProductServiceException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class IdempotencyGuardTest {
+
+  private static final URI LOCATION = URI.create("http://localhost/product/1");
+  private static final String CLIENT = "ip:10.0.0.1";
+  private static final String STORE_KEY = IdempotencyGuard.storeKey(CLIENT, "key");
+
+  private final IdempotencyProperties properties = new IdempotencyProperties();
+  private final AtomicInteger executions = new AtomicInteger();
+  private IdempotencyStore store;
+  private IdempotencyGuard guard;
+
+  @BeforeEach
+  void setUp() {
+    properties.setWaitTimeout(Duration.ofSeconds(5));
+    properties.setPollInterval(Duration.ofMillis(5));
+    store = new InMemoryIdempotencyStore(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    guard = new IdempotencyGuard(store, properties, new SimpleMeterRegistry());
+  }
+
+  private static ProductRequest request(String name, String price) {
+    ProductRequest request = new ProductRequest();
+    request.setCode("CODE123456");
+    request.setName(name);
+    request.setPriceEur(new BigDecimal(price));
+    request.setIsAvailable(true);
+    return request;
+  }
+
+  private ResponseEntity<ProductResponse> create() {
+    executions.incrementAndGet();
+    return ResponseEntity.created(LOCATION).body(ProductResponse.builder().id(1L).build());
+  }
+
+  @Test
+  @DisplayName("execute - a retry with the same key replays the stored response without executing")
+  void testReplay() {
+    ResponseEntity<ProductResponse> first = guard.execute(CLIENT, "key", request("Laptop", "10.00"), this::create);
+    ResponseEntity<ProductResponse> retry = guard.execute(CLIENT, "key", request("Laptop", "10.0"), this::create);
+
+    assertEquals(1, executions.get());
+    assertNull(first.getHeaders().getFirst(IdempotencyGuard.REPLAYED_HEADER));
+    assertEquals(201, retry.getStatusCode().value());
+    assertEquals(LOCATION, retry.getHeaders().getLocation());
+    assertEquals("true", retry.getHeaders().getFirst(IdempotencyGuard.REPLAYED_HEADER));
+    assertSame(first.getBody(), retry.getBody());
+  }
+
+  @Test
+  @DisplayName("execute - reusing a key for a different request is rejected with 422")
+  void testFingerprintMismatch() {
+    guard.execute(CLIENT, "key", request("Laptop", "10.00"), this::create);
+
+    ProductServiceException ex = assertThrows(ProductServiceException.class,
+        () -> guard.execute(CLIENT, "key", request("Laptop", "11.00"), this::create));
+
+    assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, ex.getHttpStatus());
+    assertEquals(1, executions.get());
+  }
+
+  @Test
+  @DisplayName("execute - a failed request releases its key so that the retry executes")
+  void testFailureReleasesKey() {
+    ProductServiceException failure = new ProductServiceException("HNB down", HttpStatus.SERVICE_UNAVAILABLE);
+
+    assertSame(failure, assertThrows(ProductServiceException.class,
+        () -> guard.execute(CLIENT, "key", request("Laptop", "10.00"), () -> {
+          throw failure;
+        })));
+    guard.execute(CLIENT, "key", request("Laptop", "10.00"), this::create);
+
+    assertEquals(1, executions.get());
+  }
+
+  @Test
+  @DisplayName("execute - concurrent requests with the same key wait for the first one")
+  void testConcurrentRequestsWait() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+      Future<ResponseEntity<ProductResponse>> first = executor.submit(() ->
+          guard.execute(CLIENT, "key", request("Laptop", "10.00"), () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return create();
+          }));
+      started.await(5, TimeUnit.SECONDS);
+      Future<ResponseEntity<ProductResponse>> second = executor.submit(() ->
+          guard.execute(CLIENT, "key", request("Laptop", "10.00"), this::create));
+      Future<ResponseEntity<ProductResponse>> third = executor.submit(() ->
+          guard.execute(CLIENT, "key", request("Laptop", "10.00"), this::create));
+      Thread.sleep(50);
+      release.countDown();
+
+      assertEquals(201, first.get(5, TimeUnit.SECONDS).getStatusCode().value());
+      assertEquals("true", second.get(5, TimeUnit.SECONDS).getHeaders().getFirst(IdempotencyGuard.REPLAYED_HEADER));
+      assertEquals("true", third.get(5, TimeUnit.SECONDS).getHeaders().getFirst(IdempotencyGuard.REPLAYED_HEADER));
+    }
+    assertEquals(1, executions.get());
+  }
+
+  @Test
+  @DisplayName("execute - a key claimed by another instance is polled until its response is stored")
+  void testWaitsForOtherInstance() throws Exception {
+    String fingerprint = IdempotencyGuard.fingerprint(request("Laptop", "10.00"));
+    assertNull(store.claim(STORE_KEY, fingerprint));
+    Thread completer = Thread.ofVirtual().start(() -> {
+      sleepQuietly(30);
+      store.complete(STORE_KEY, new StoredResponse(202, LOCATION, ProductResponse.builder().id(1L).build()));
+    });
+
+    ResponseEntity<ProductResponse> response = guard.execute(CLIENT, "key", request("Laptop", "10.00"), this::create);
+    completer.join();
+
+    assertEquals(202, response.getStatusCode().value());
+    assertEquals(0, executions.get());
+  }
+
+  @Test
+  @DisplayName("execute - gives up with 409 when the request holding the key does not finish in time")
+  void testWaitTimeout() {
+    properties.setWaitTimeout(Duration.ofMillis(20));
+    store.claim(STORE_KEY, IdempotencyGuard.fingerprint(request("Laptop", "10.00")));
+
+    ProductServiceException ex = assertThrows(ProductServiceException.class,
+        () -> guard.execute(CLIENT, "key", request("Laptop", "10.00"), this::create));
+
+    assertEquals(HttpStatus.CONFLICT, ex.getHttpStatus());
+    assertEquals(0, executions.get());
+  }
+
+  @Test
+  @DisplayName("execute - the same key sent by another client executes again")
+  void testKeysScopedByClient() {
+    guard.execute(CLIENT, "key", request("Laptop", "10.00"), this::create);
+
+    ResponseEntity<ProductResponse> other = guard.execute("ip:10.0.0.2", "key", request("Phone", "5.00"), this::create);
+
+    assertEquals(2, executions.get());
+    assertNull(other.getHeaders().getFirst(IdempotencyGuard.REPLAYED_HEADER));
+  }
+
+  @Test
+  @DisplayName("execute - rejects blank and oversized keys, ignores keys when disabled")
+  void testKeyValidationAndDisabled() {
+    assertThrows(ProductServiceException.class,
+        () -> guard.execute(CLIENT, " ", request("Laptop", "10.00"), this::create));
+    assertThrows(ProductServiceException.class, () -> guard.execute(CLIENT,
+        "k".repeat(IdempotencyGuard.MAX_KEY_LENGTH + 1), request("Laptop", "10.00"), this::create));
+
+    properties.setEnabled(false);
+    guard.execute(CLIENT, "key", request("Laptop", "10.00"), this::create);
+    guard.execute(CLIENT, "key", request("Laptop", "10.00"), this::create);
+
+    assertEquals(2, executions.get());
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleepQuietly(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
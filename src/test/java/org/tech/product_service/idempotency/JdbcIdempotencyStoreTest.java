@@ -0,0 +1,122 @@
+package org.tech.product_service.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.model.PriceStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class JdbcIdempotencyStoreTest {
+
+  private static final Instant NOW = Instant.parse("2025-10-05T10:00:00Z");
+
+  private JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:idempotency;DB_CLOSE_DELAY=-1;MODE=PostgreSQL", "sa", "");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("DROP TABLE IF EXISTS idempotency_key");
+    jdbcTemplate.execute("CREATE TABLE idempotency_key (idempotency_key VARCHAR(255) PRIMARY KEY,"
+        + " request_hash VARCHAR(64) NOT NULL, status INT, location VARCHAR(2048), body TEXT,"
+        + " created_at TIMESTAMP NOT NULL, expires_at TIMESTAMP NOT NULL)");
+  }
+
+  private JdbcIdempotencyStore storeAt(Instant now) {
+    return new JdbcIdempotencyStore(jdbcTemplate, objectMapper, Duration.ofHours(1), Duration.ofSeconds(30),
+        Clock.fixed(now, ZoneOffset.UTC));
+  }
+
+  @Test
+  @DisplayName("claim - only the first claim of a key succeeds, later claims see the stored response")
+  void testClaimAndComplete() {
+    JdbcIdempotencyStore store = storeAt(NOW);
+    ProductResponse body = ProductResponse.builder()
+        .id(1L)
+        .code("CODE123456")
+        .priceEur(new BigDecimal("10.00"))
+        .priceStatus(PriceStatus.PRICED)
+        .build();
+
+    assertNull(store.claim("key", "hash"));
+    IdempotencyRecord running = store.claim("key", "hash");
+    assertNotNull(running);
+    assertFalse(running.isCompleted());
+
+    store.complete("key", new StoredResponse(201, URI.create("http://localhost/product/1"), body));
+    IdempotencyRecord completed = store.claim("key", "other");
+
+    assertEquals("hash", completed.fingerprint());
+    assertEquals(201, completed.response().status());
+    assertEquals(URI.create("http://localhost/product/1"), completed.response().location());
+    assertEquals(body, completed.response().body());
+  }
+
+  @Test
+  @DisplayName("release - frees a running key but keeps a completed one")
+  void testRelease() {
+    JdbcIdempotencyStore store = storeAt(NOW);
+    store.claim("running", "hash");
+    store.claim("done", "hash");
+    store.complete("done", new StoredResponse(201, null, ProductResponse.builder().id(1L).build()));
+
+    store.release("running");
+    store.release("done");
+
+    assertNull(store.find("running"));
+    assertTrue(store.find("done").isCompleted());
+  }
+
+  @Test
+  @DisplayName("claim - an expired key is claimed again and purged in the background")
+  void testExpiry() {
+    storeAt(NOW).claim("expired", "old");
+    storeAt(NOW).claim("purged", "old");
+    JdbcIdempotencyStore later = storeAt(NOW.plus(Duration.ofHours(2)));
+
+    assertNull(later.find("expired"));
+    assertNull(later.claim("expired", "new"));
+    assertEquals(1, later.purgeExpired());
+    assertEquals("new", later.find("expired").fingerprint());
+  }
+
+  @Test
+  @DisplayName("claim - a claim whose response was not stored within the lease is taken over, a completed one is not")
+  void testLease() {
+    storeAt(NOW).claim("abandoned", "old");
+    JdbcIdempotencyStore first = storeAt(NOW);
+    first.claim("done", "old");
+    first.complete("done", new StoredResponse(201, null, ProductResponse.builder().id(1L).build()));
+    storeAt(NOW.plusSeconds(20)).claim("running", "old");
+    JdbcIdempotencyStore later = storeAt(NOW.plusSeconds(31));
+
+    assertNull(later.find("abandoned"));
+    assertFalse(later.find("running").isCompleted());
+    assertNull(later.claim("abandoned", "new"));
+    assertEquals("new", later.find("abandoned").fingerprint());
+    assertTrue(later.claim("done", "new").isCompleted());
+
+    assertEquals(1, storeAt(NOW.plusSeconds(51)).purgeExpired());
+    assertNull(later.find("running"));
+  }
+}
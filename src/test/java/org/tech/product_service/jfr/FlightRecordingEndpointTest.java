@@ -0,0 +1,74 @@
+package org.tech.product_service.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.tech.product_service.config.FlightRecordingProperties;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class FlightRecordingEndpointTest {
+
+  private final FlightRecordingProperties properties = new FlightRecordingProperties();
+  private final FlightRecordingEndpoint endpoint = new FlightRecordingEndpoint(properties);
+
+  @AfterEach
+  void tearDown() {
+    endpoint.destroy();
+  }
+
+  @Test
+  @DisplayName("recording captures product events but not the environment and can be downloaded while running")
+  void testStartAndDownload() throws Exception {
+    WebEndpointResponse<FlightRecordingEndpoint.RecordingStatus> started =
+        endpoint.start(Duration.ofMinutes(1), "default");
+    assertEquals(WebEndpointResponse.STATUS_OK, started.getStatus());
+    assertEquals("RUNNING", started.getBody().state());
+
+    ProductOperationEvent event = new ProductOperationEvent("getById");
+    event.begin();
+    event.productId = 42;
+    event.outcome = "found";
+    event.commit();
+
+    WebEndpointResponse<Resource> download = endpoint.download(FlightRecordingEndpoint.RECORDING_FILE);
+    assertEquals(WebEndpointResponse.STATUS_OK, download.getStatus());
+    List<RecordedEvent> events = RecordingFile.readAllEvents(download.getBody().getFile().toPath());
+    assertTrue(events.stream().anyMatch(
+        recorded -> "org.tech.product.Operation".equals(recorded.getEventType().getName())
+            && recorded.getLong("productId") == 42));
+    assertTrue(events.stream().noneMatch(
+        recorded -> FlightRecordingEndpoint.DISABLED_EVENTS.contains(recorded.getEventType().getName())));
+
+    assertEquals("STOPPED", endpoint.stop().getBody().state());
+  }
+
+  @Test
+  @DisplayName("requested duration is capped and a second start is rejected while running")
+  void testBounds() {
+    properties.setMaxDuration(Duration.ofSeconds(30));
+
+    assertEquals(Duration.ofSeconds(30), endpoint.start(Duration.ofHours(1), null).getBody().duration());
+    assertEquals(HttpStatus.CONFLICT.value(), endpoint.start(null, null).getStatus());
+  }
+
+  @Test
+  @DisplayName("unknown settings and missing recordings are reported")
+  void testErrors() throws Exception {
+    assertEquals("NONE", endpoint.status().state());
+    assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.stop().getStatus());
+    assertEquals(WebEndpointResponse.STATUS_NOT_FOUND,
+        endpoint.download(FlightRecordingEndpoint.RECORDING_FILE).getStatus());
+    assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, endpoint.start(null, "verbose").getStatus());
+  }
+}
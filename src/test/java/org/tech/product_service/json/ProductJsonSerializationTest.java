@@ -0,0 +1,111 @@
+package org.tech.product_service.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.model.PriceStatus;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+class ProductJsonSerializationTest {
+
+  private final ObjectMapper reflective = Jackson2ObjectMapperBuilder.json().build();
+  private final ObjectMapper tuned = tuned(Jackson2ObjectMapperBuilder.json());
+
+  static ObjectMapper tuned(Jackson2ObjectMapperBuilder builder) {
+    return builder
+        .serializers(new ProductResponseJsonSerializer(), new PagedModelJsonSerializer())
+        .modulesToInstall(BlackbirdModule.class)
+        .build();
+  }
+
+  @Test
+  @DisplayName("ProductResponse - JSON identical to the reflective serializer")
+  void testProductResponseIdentical() throws Exception {
+    for (ProductResponse product : samples()) {
+      assertEquals(reflective.writeValueAsString(product), tuned.writeValueAsString(product));
+    }
+  }
+
+  @Test
+  @DisplayName("ProductResponse - null properties omitted like the reflective serializer with NON_NULL inclusion")
+  void testProductResponseNonNullIdentical() throws Exception {
+    ObjectMapper reflectiveNonNull = Jackson2ObjectMapperBuilder.json()
+        .serializationInclusion(JsonInclude.Include.NON_NULL).build();
+    ObjectMapper tunedNonNull = tuned(Jackson2ObjectMapperBuilder.json()
+        .serializationInclusion(JsonInclude.Include.NON_NULL));
+    for (ProductResponse product : samples()) {
+      assertEquals(reflectiveNonNull.writeValueAsString(product), tunedNonNull.writeValueAsString(product));
+    }
+  }
+
+  @Test
+  @DisplayName("PagedModel - page JSON identical to the reflective serializer")
+  void testPagedModelIdentical() throws Exception {
+    PagedModel<ProductResponse> page = new PagedModel<>(new PageImpl<>(samples(), PageRequest.of(2, 4), 1000));
+    PagedModel<ProductResponse> empty = new PagedModel<>(new PageImpl<>(List.of(), PageRequest.of(0, 50), 0));
+
+    assertEquals(new String(reflective.writeValueAsBytes(page)), new String(tuned.writeValueAsBytes(page)));
+    assertEquals(reflective.writeValueAsString(empty), tuned.writeValueAsString(empty));
+  }
+
+  @Test
+  @DisplayName("IsoLocalDateTime - matches ISO_LOCAL_DATE_TIME")
+  void testIsoLocalDateTime() {
+    List<LocalDateTime> values = List.of(
+        LocalDateTime.of(2025, 10, 5, 0, 0),
+        LocalDateTime.of(2025, 1, 2, 3, 4, 5, 120_000_000),
+        LocalDateTime.of(12, 1, 1, 1, 1, 0, 1),
+        LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_999),
+        LocalDateTime.of(10_000, 1, 1, 0, 0),
+        LocalDateTime.of(-5, 1, 1, 0, 0));
+    char[] buffer = new char[IsoLocalDateTime.MAX_LENGTH + 8];
+    for (LocalDateTime value : values) {
+      assertEquals(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+          new String(buffer, 0, IsoLocalDateTime.format(value, buffer)));
+    }
+  }
+
+  static List<ProductResponse> samples() {
+    List<ProductResponse> samples = new ArrayList<>();
+    samples.add(ProductResponse.builder()
+        .id(1L)
+        .code("ABC1234567")
+        .name("Laptop \"Pro\" \u017e")
+        .priceEur(new BigDecimal("999.90"))
+        .priceUsd(new BigDecimal("1E+3"))
+        .priceStatus(PriceStatus.PRICED)
+        .isAvailable(true)
+        .createdAt(LocalDateTime.of(2025, 10, 5, 0, 0))
+        .updatedAt(LocalDateTime.of(2025, 10, 5, 13, 4, 5, 123_000_000))
+        .version(3L)
+        .build());
+    samples.add(ProductResponse.builder()
+        .id(2L)
+        .code("PEND000001")
+        .name("Pending")
+        .priceEur(BigDecimal.ZERO)
+        .priceStatus(PriceStatus.PENDING)
+        .isAvailable(false)
+        .createdAt(LocalDateTime.of(2024, 2, 29, 23, 59, 59, 1))
+        .updatedAt(LocalDateTime.of(2024, 2, 29, 23, 59, 59, 999_999_999))
+        .version(0L)
+        .build());
+    samples.add(ProductResponse.builder().build());
+    return samples;
+  }
+}
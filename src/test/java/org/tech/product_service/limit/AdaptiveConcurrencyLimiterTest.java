@@ -0,0 +1,65 @@
+package org.tech.product_service.limit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(100);
+
+  @Test
+  @DisplayName("tryAcquire - rejects once the limit is reached")
+  void testRejectsAboveLimit() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5, TARGET);
+
+    assertTrue(limiter.tryAcquire());
+    assertTrue(limiter.tryAcquire());
+    assertFalse(limiter.tryAcquire());
+    assertEquals(2, limiter.getInFlight());
+
+    limiter.release(TimeUnit.MILLISECONDS.toNanos(1), false);
+    assertTrue(limiter.tryAcquire());
+  }
+
+  @Test
+  @DisplayName("release - slow or failed requests decrease the limit multiplicatively")
+  void testBackoffOnSlowRequest() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 100, 0.5, TARGET);
+
+    assertTrue(limiter.tryAcquire());
+    limiter.release(TARGET * 2, false);
+    assertEquals(10, limiter.getLimit());
+
+    // A second congestion signal within the same latency target period does not back off again.
+    assertTrue(limiter.tryAcquire());
+    limiter.release(TimeUnit.MILLISECONDS.toNanos(1), true);
+    assertEquals(10, limiter.getLimit());
+  }
+
+  @Test
+  @DisplayName("release - fast requests grow the limit additively while it is utilized")
+  void testAdditiveIncrease() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5, TARGET);
+
+    for (int i = 0; i < 10; i++) {
+      assertTrue(limiter.tryAcquire());
+      assertTrue(limiter.tryAcquire());
+      limiter.release(TimeUnit.MILLISECONDS.toNanos(1), false);
+      limiter.release(TimeUnit.MILLISECONDS.toNanos(1), false);
+    }
+    assertTrue(limiter.getLimit() > 2);
+
+    AdaptiveConcurrencyLimiter idle = new AdaptiveConcurrencyLimiter(10, 1, 20, 0.5, TARGET);
+    for (int i = 0; i < 50; i++) {
+      assertTrue(idle.tryAcquire());
+      idle.release(TimeUnit.MILLISECONDS.toNanos(1), false);
+    }
+    assertEquals(10, idle.getLimit());
+  }
+}
@@ -0,0 +1,65 @@
+package org.tech.product_service.limit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  @Test
+  @DisplayName("burst up to capacity is allowed, then requests are rejected until refill")
+  void testBurstAndRefill() {
+    TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+    assertEquals(2, bucket.tryConsume(0));
+    assertEquals(1, bucket.tryConsume(0));
+    assertEquals(0, bucket.tryConsume(0));
+    long rejected = bucket.tryConsume(0);
+    assertTrue(rejected < 0);
+    assertEquals(SECOND, -rejected);
+
+    assertEquals(0, bucket.tryConsume(SECOND));
+    assertEquals(3 * SECOND, bucket.nanosUntilFull(SECOND));
+  }
+
+  @Test
+  @DisplayName("bucket expires from the client limiter once it has been full for the idle timeout")
+  void testIdleEviction() {
+    AtomicLong now = new AtomicLong();
+    ClientRateLimiter limiter = new ClientRateLimiter(2, 1, 10 * SECOND, 100, now::get);
+    TokenBucket bucket = limiter.bucket("client", 0);
+    bucket.tryConsume(0);
+
+    now.set(5 * SECOND);
+    assertSame(bucket, limiter.bucket("client", now.get()));
+    now.set(15 * SECOND);
+    assertSame(bucket, limiter.bucket("client", now.get()));
+    assertEquals(1, limiter.size());
+
+    now.set(40 * SECOND);
+    assertEquals(0, limiter.size());
+    assertNotSame(bucket, limiter.bucket("client", now.get()));
+  }
+
+  @Test
+  @DisplayName("clients beyond the bound get buckets of their own and the bound is kept by eviction")
+  void testMaxClients() {
+    ClientRateLimiter limiter = new ClientRateLimiter(2, 1, 10 * SECOND, 1);
+    TokenBucket first = limiter.bucket("first", 0);
+    first.tryConsume(0);
+
+    TokenBucket second = limiter.bucket("second", 0);
+    assertNotSame(first, second);
+    assertNotSame(second, limiter.bucket("third", 0));
+    assertEquals(1, limiter.size());
+  }
+}
@@ -0,0 +1,111 @@
+package org.tech.product_service.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.tech.product_service.config.MigrationProperties;
+
+import liquibase.integration.spring.SpringLiquibase;
+
+class LiquibaseMigrationGuardTest {
+
+  private static final String TAG = "schema-abc";
+
+  private JdbcTemplate jdbcTemplate;
+  private SpringLiquibase liquibase;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:migration_guard;DB_CLOSE_DELAY=-1", "sa", "");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("DROP TABLE IF EXISTS databasechangelog");
+    jdbcTemplate.execute("CREATE TABLE databasechangelog (orderexecuted INT, tag VARCHAR(255))");
+    jdbcTemplate.update("INSERT INTO databasechangelog VALUES (1, NULL), (2, NULL)");
+    liquibase = new SpringLiquibase();
+    liquibase.setDataSource(dataSource);
+  }
+
+  @Test
+  @DisplayName("IF_CHANGED - runs Liquibase and tags the latest changeset when the checksum is unknown")
+  void testRunsAndTagsWhenChanged() {
+    LiquibaseMigrationGuard guard = new LiquibaseMigrationGuard(MigrationProperties.Mode.IF_CHANGED, TAG, true);
+
+    guard.postProcessBeforeInitialization(liquibase, "liquibase");
+    assertTrue(guard.shouldRun("liquibase"));
+    guard.postProcessAfterInitialization(liquibase, "liquibase");
+
+    assertEquals(TAG, jdbcTemplate.queryForObject(
+        "SELECT tag FROM databasechangelog WHERE orderexecuted = 2", String.class));
+  }
+
+  @Test
+  @DisplayName("IF_CHANGED - skips Liquibase when the schema is tagged with the checksum")
+  void testSkipsWhenTagged() {
+    jdbcTemplate.update("UPDATE databasechangelog SET tag = ? WHERE orderexecuted = 2", TAG);
+    LiquibaseMigrationGuard guard = new LiquibaseMigrationGuard(MigrationProperties.Mode.IF_CHANGED, TAG, true);
+
+    guard.postProcessBeforeInitialization(liquibase, "liquibase");
+
+    assertFalse(guard.shouldRun("liquibase"));
+  }
+
+  @Test
+  @DisplayName("ALWAYS - runs Liquibase even when the schema is tagged")
+  void testAlwaysRuns() {
+    jdbcTemplate.update("UPDATE databasechangelog SET tag = ? WHERE orderexecuted = 2", TAG);
+    LiquibaseMigrationGuard guard = new LiquibaseMigrationGuard(MigrationProperties.Mode.ALWAYS, TAG, true);
+
+    guard.postProcessBeforeInitialization(liquibase, "liquibase");
+
+    assertTrue(guard.shouldRun("liquibase"));
+  }
+
+  @Test
+  @DisplayName("IF_CHANGED - runs Liquibase on a fresh database without a changelog table")
+  void testRunsOnFreshDatabase() {
+    jdbcTemplate.execute("DROP TABLE databasechangelog");
+    LiquibaseMigrationGuard guard = new LiquibaseMigrationGuard(MigrationProperties.Mode.IF_CHANGED, TAG, true);
+
+    guard.postProcessBeforeInitialization(liquibase, "liquibase");
+
+    assertTrue(guard.shouldRun("liquibase"));
+  }
+
+  @Test
+  @DisplayName("disabled Liquibase - nothing runs and the schema is not tagged")
+  void testDisabled() {
+    LiquibaseMigrationGuard guard = new LiquibaseMigrationGuard(MigrationProperties.Mode.IF_CHANGED, TAG, false);
+
+    guard.postProcessBeforeInitialization(liquibase, "liquibase");
+    guard.postProcessAfterInitialization(liquibase, "liquibase");
+
+    assertFalse(guard.shouldRun("liquibase"));
+    assertEquals(0, jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM databasechangelog WHERE tag IS NOT NULL", Integer.class));
+  }
+
+  @Test
+  @DisplayName("ChangelogChecksum - tag is stable and covers the packaged changelogs")
+  void testChecksumStable() {
+    String tag = ChangelogChecksum.tag();
+
+    assertTrue(tag.startsWith(ChangelogChecksum.TAG_PREFIX));
+    assertEquals(tag, ChangelogChecksum.tag());
+    assertEquals(ChangelogChecksum.TAG_PREFIX.length() + 32, tag.length());
+  }
+
+  @Test
+  @DisplayName("ChangelogChecksum - a label filter yields a different tag")
+  void testChecksumCoversLabelFilter() {
+    assertEquals(ChangelogChecksum.tag(), ChangelogChecksum.tag(" "));
+    assertNotEquals(ChangelogChecksum.tag(), ChangelogChecksum.tag("!v1.6"));
+  }
+}
@@ -0,0 +1,36 @@
+package org.tech.product_service.money;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CentsTest {
+
+  @Test
+  @DisplayName("of - converts amounts with up to two fraction digits exactly")
+  void testOf() {
+    assertEquals(999, Cents.of(new BigDecimal("9.99")));
+    assertEquals(1000, Cents.of(new BigDecimal("10")));
+    assertEquals(1000, Cents.of(new BigDecimal("1E+1")));
+    assertEquals(50, Cents.of(new BigDecimal("0.500")));
+    assertEquals(99_999_999_999_999_999L, Cents.of(new BigDecimal("999999999999999.99")));
+  }
+
+  @Test
+  @DisplayName("of - rejects amounts that would need rounding")
+  void testOfRejectsRounding() {
+    assertThrows(ArithmeticException.class, () -> Cents.of(new BigDecimal("10.005")));
+  }
+
+  @Test
+  @DisplayName("toDecimal - always has two fraction digits")
+  void testToDecimal() {
+    assertEquals(new BigDecimal("9.99"), Cents.toDecimal(999));
+    assertEquals(new BigDecimal("10.00"), Cents.toDecimal(1000));
+    assertEquals(new BigDecimal("0.00"), Cents.toDecimal(0));
+  }
+}
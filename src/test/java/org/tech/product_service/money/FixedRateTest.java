@@ -0,0 +1,56 @@
+package org.tech.product_service.money;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FixedRateTest {
+
+  @Test
+  @DisplayName("of - keeps the rate exact")
+  void testOf() {
+    assertEquals(new FixedRate(11634, 10_000), FixedRate.of(new BigDecimal("1.163400")));
+    assertEquals(new FixedRate(100, 1), FixedRate.of(new BigDecimal("1E+2")));
+    assertThrows(IllegalArgumentException.class, () -> FixedRate.of(BigDecimal.ZERO));
+  }
+
+  @Test
+  @DisplayName("convert - rounds half up to whole cents")
+  void testConvertRoundsHalfUp() {
+    FixedRate rate = FixedRate.of(new BigDecimal("1.2345"));
+
+    assertEquals(1235, rate.convert(1000)); // 12.345 -> 12.35
+    assertEquals(5, rate.convert(4)); // 0.04938 -> 0.05
+    assertEquals(2, rate.convert(2)); // 0.02469 -> 0.02
+  }
+
+  @Test
+  @DisplayName("convert - matches the BigDecimal multiply and setScale(2, HALF_UP) path")
+  void testConvertMatchesBigDecimal() {
+    SplittableRandom random = new SplittableRandom(42);
+    String[] rates = {"1.163400", "0.859549", "7.5", "1.2345", "0.000001", "123.456789"};
+    for (String value : rates) {
+      BigDecimal decimalRate = new BigDecimal(value);
+      FixedRate rate = FixedRate.of(decimalRate);
+      for (int i = 0; i < 10_000; i++) {
+        long cents = i < 1000 ? i : random.nextLong(1_000_000_000_000L);
+        BigDecimal expected = Cents.toDecimal(cents).multiply(decimalRate).setScale(2, RoundingMode.HALF_UP);
+        assertEquals(Cents.of(expected), rate.convert(cents), () -> cents + " * " + value);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("convert - fails instead of overflowing")
+  void testConvertOverflow() {
+    FixedRate rate = FixedRate.of(new BigDecimal("1000"));
+
+    assertThrows(ArithmeticException.class, () -> rate.convert(Long.MAX_VALUE / 10));
+  }
+}
@@ -0,0 +1,113 @@
+package org.tech.product_service.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+import org.tech.product_service.config.OutboxProperties;
+import org.tech.product_service.model.OutboxEvent;
+import org.tech.product_service.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+  @Mock
+  private OutboxEventRepository outboxEventRepository;
+  private OutboxProperties properties;
+  private SimpleMeterRegistry meterRegistry;
+  private InMemoryOutboxPublisher publisher;
+
+  @BeforeEach
+  void setUp() {
+    properties = new OutboxProperties();
+    properties.setBatchSize(2);
+    meterRegistry = new SimpleMeterRegistry();
+    publisher = new InMemoryOutboxPublisher(10);
+  }
+
+  @Test
+  @DisplayName("relay publishes full batches until the outbox is drained and deletes published rows")
+  void testRelayDrainsInBatches() {
+    OutboxEvent first = event(1L);
+    OutboxEvent second = event(2L);
+    OutboxEvent third = event(3L);
+    when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of(first, second), List.of(third));
+    when(outboxEventRepository.findOldestCreatedAt()).thenReturn(null);
+
+    int relayed = relay(publisher).relay();
+
+    assertEquals(3, relayed);
+    assertEquals(List.of(first, second, third), publisher.getEvents());
+    verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    verify(outboxEventRepository).deleteAllByIdInBatch(List.of(3L));
+    assertEquals(3.0, meterRegistry.get("product.outbox.published").counter().count());
+    assertEquals(0.0, meterRegistry.get("product.outbox.lag").gauge().value());
+  }
+
+  @Test
+  @DisplayName("failed batch is not deleted and lag reflects the oldest pending event")
+  void testPublishFailureKeepsEvents() throws Exception {
+    OutboxPublisher failing = mock(OutboxPublisher.class);
+    doThrow(new IOException("broker down")).when(failing).publish(anyList());
+    when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of(event(1L)));
+    when(outboxEventRepository.findOldestCreatedAt()).thenReturn(LocalDateTime.now().minusSeconds(5));
+
+    assertEquals(0, relay(failing).relay());
+
+    verify(outboxEventRepository, never()).deleteAllByIdInBatch(anyList());
+    assertEquals(1.0, meterRegistry.get("product.outbox.failures").counter().count());
+    assertTrue(meterRegistry.get("product.outbox.lag").gauge().value() >= 5000);
+  }
+
+  @Test
+  @DisplayName("file publisher appends one JSON line per event")
+  void testFilePublisher(@TempDir Path dir) throws Exception {
+    Path file = dir.resolve("outbox.jsonl");
+    FileOutboxPublisher filePublisher = new FileOutboxPublisher(file);
+
+    filePublisher.publish(List.of(event(1L), event(2L)));
+    filePublisher.publish(List.of(event(3L)));
+
+    List<String> lines = Files.readAllLines(file);
+    assertEquals(3, lines.size());
+    assertTrue(lines.get(0).startsWith("{\"id\":1,\"aggregateType\":\"product\",\"eventType\":\"CREATED\""));
+    assertTrue(lines.get(2).endsWith("\"payload\":{\"type\":\"CREATED\"}}"));
+  }
+
+  private OutboxRelay relay(OutboxPublisher outboxPublisher) {
+    return new OutboxRelay(outboxEventRepository, outboxPublisher, TransactionOperations.withoutTransaction(),
+        properties, meterRegistry);
+  }
+
+  private static OutboxEvent event(long id) {
+    return OutboxEvent.builder()
+        .id(id)
+        .aggregateType("product")
+        .aggregateId(String.valueOf(id))
+        .eventType("CREATED")
+        .payload("{\"type\":\"CREATED\"}")
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+}
@@ -0,0 +1,105 @@
+package org.tech.product_service.pricing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionOperations;
+import org.tech.product_service.config.PricingProperties;
+import org.tech.product_service.config.SpringCachingConfig;
+import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.event.ProductChangedEvent;
+import org.tech.product_service.exception.ProductServiceException;
+import org.tech.product_service.mapper.ProductMapper;
+import org.tech.product_service.model.PriceStatus;
+import org.tech.product_service.model.Product;
+import org.tech.product_service.outbox.OutboxWriter;
+import org.tech.product_service.repository.ProductRepository;
+import org.tech.product_service.service.ExchangeRateService;
+
+@ExtendWith(MockitoExtension.class)
+class PendingPriceWorkerTest {
+
+  @Mock
+  private ProductRepository productRepository;
+  @Mock
+  private ExchangeRateService exchangeRateService;
+  @Mock
+  private ProductMapper productMapper;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+  @Mock
+  private OutboxWriter outboxWriter;
+  private CacheManager cacheManager;
+  private PendingPriceWorker worker;
+
+  @BeforeEach
+  void setUp() {
+    PricingProperties properties = new PricingProperties();
+    properties.setBatchSize(2);
+    cacheManager = new ConcurrentMapCacheManager(SpringCachingConfig.PRODUCTS_BY_CODE_CACHE);
+    worker = new PendingPriceWorker(productRepository, exchangeRateService, properties, cacheManager,
+        productMapper, eventPublisher, outboxWriter, TransactionOperations.withoutTransaction());
+  }
+
+  @Test
+  @DisplayName("no pending products - HNB is not called")
+  void testNothingPending() {
+    when(productRepository.findIdsByPriceStatus(eq(PriceStatus.PENDING), any(Pageable.class))).thenReturn(List.of());
+
+    assertEquals(0, worker.pricePendingProducts());
+    verifyNoInteractions(exchangeRateService);
+  }
+
+  @Test
+  @DisplayName("pending products are priced in batches with one rate lookup and the code cache is cleared")
+  void testPricesInBatches() {
+    cacheManager.getCache(SpringCachingConfig.PRODUCTS_BY_CODE_CACHE).put("CODE123456", "stale");
+    when(productRepository.findIdsByPriceStatus(eq(PriceStatus.PENDING), any(Pageable.class)))
+        .thenReturn(List.of(1L, 2L), List.of(3L));
+    when(exchangeRateService.getUsdToEurMiddleRate()).thenReturn(new BigDecimal("1.17"));
+    when(productRepository.pricePending(List.of(1L, 2L), new BigDecimal("1.17"))).thenReturn(2);
+    when(productRepository.pricePending(List.of(3L), new BigDecimal("1.17"))).thenReturn(1);
+    Product product = Product.builder().id(3L).code("CODE000003").build();
+    ProductResponse response = ProductResponse.builder().id(3L).code("CODE000003").build();
+    when(productRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of());
+    when(productRepository.findAllById(List.of(3L))).thenReturn(List.of(product));
+    when(productMapper.toDto(product)).thenReturn(response);
+
+    assertEquals(3, worker.pricePendingProducts());
+    verify(eventPublisher).publishEvent(ProductChangedEvent.updated(response));
+    verify(outboxWriter).append(ProductChangedEvent.updated(response));
+    assertNull(cacheManager.getCache(SpringCachingConfig.PRODUCTS_BY_CODE_CACHE).get("CODE123456"));
+  }
+
+  @Test
+  @DisplayName("rate unavailable - products stay pending")
+  void testRateUnavailable() {
+    when(productRepository.findIdsByPriceStatus(eq(PriceStatus.PENDING), any(Pageable.class))).thenReturn(List.of(1L));
+    when(exchangeRateService.getUsdToEurMiddleRate())
+        .thenThrow(new ProductServiceException("HNB down", HttpStatus.SERVICE_UNAVAILABLE));
+
+    assertEquals(0, worker.pricePendingProducts());
+    verify(productRepository, never()).pricePending(anyList(), any());
+  }
+}
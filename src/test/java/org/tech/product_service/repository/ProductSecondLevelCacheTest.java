@@ -0,0 +1,103 @@
+package org.tech.product_service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.tech.product_service.config.SpringCachingConfig;
+import org.tech.product_service.model.Product;
+import org.tech.product_service.service.ProductService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Read-heavy mix (90% lookups by ID, 10% first listing page) run once with the second-level and query
+ * caches cleared before every read and once with them warm, comparing the JDBC statements executed.
+ */
+@SpringBootTest(properties = {
+    "product.outbox.poll-interval=PT1H",
+    "product.pricing.pending-interval=PT1H",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class ProductSecondLevelCacheTest {
+
+  private static final int PRODUCTS = 20;
+  private static final int READS = 200;
+
+  @Autowired
+  private ProductService productService;
+  @Autowired
+  private ProductRepository productRepository;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @Autowired
+  private CacheManager cacheManager;
+
+  private SessionFactory sessionFactory;
+  private Statistics statistics;
+  private final List<Long> ids = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    productRepository.deleteAll();
+    ids.clear();
+    for (int i = 0; i < PRODUCTS; i++) {
+      Product product = productRepository.save(Product.builder()
+          .code(String.format("L2CACHE%03d", i))
+          .name("Cached product " + i)
+          .priceEur(1000)
+          .priceUsd(1170L)
+          .isAvailable(true)
+          .build());
+      ids.add(product.getId());
+    }
+    sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    statistics = sessionFactory.getStatistics();
+  }
+
+  @Test
+  @DisplayName("second-level and query caches save most database round trips on a read-heavy mix")
+  void testRoundTripsSaved() {
+    long uncached = runReadMix(false);
+    long cached = runReadMix(true);
+
+    String summary = "statements without cache: " + uncached + ", with cache: " + cached
+        + ", L2 hits: " + statistics.getSecondLevelCacheHitCount()
+        + ", query cache hits: " + statistics.getQueryCacheHitCount();
+    assertTrue(cached * 5 < uncached, summary);
+    assertTrue(statistics.getSecondLevelCacheHitCount() > 0, summary);
+    assertTrue(statistics.getQueryCacheHitCount() > 0, summary);
+  }
+
+  private long runReadMix(boolean cached) {
+    sessionFactory.getCache().evictAllRegions();
+    statistics.clear();
+    PageRequest firstPage = PageRequest.of(0, 10, Sort.by("id"));
+    for (int i = 0; i < READS; i++) {
+      if (!cached) {
+        sessionFactory.getCache().evictAllRegions();
+      }
+      if (i % 10 == 0) {
+        // Bypass the listing page cache in front of the service so the Hibernate query cache is exercised.
+        cacheManager.getCache(SpringCachingConfig.PRODUCT_LIST_PAGES_CACHE).clear();
+        productService.getAllProducts(firstPage);
+      } else {
+        productService.getProductById(ids.get(i % PRODUCTS));
+      }
+    }
+    return statistics.getPrepareStatementCount();
+  }
+}
@@ -3,6 +3,7 @@ package org.tech.product_service.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -12,6 +13,7 @@ import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpStatus;
 import org.tech.product_service.external.hnb.HnbClient;
 import org.tech.product_service.external.hnb.HnbRateDto;
@@ -29,6 +32,8 @@ class ExchangeRateServiceImplTest {
 
   @Mock
   private HnbClient hnbClient;
+  @Mock
+  private CacheManager cacheManager;
   @InjectMocks
   private ExchangeRateServiceImpl exchangeRateService;
 
@@ -90,6 +95,18 @@ class ExchangeRateServiceImplTest {
     verifyNoMoreInteractions(hnbClient);
   }
 
+  @Test
+  @DisplayName("getCachedUsdToEurMiddleRate - Returns last fetched rate without calling HNB")
+  void testGetCachedUsdToEurMiddleRate() {
+    assertTrue(exchangeRateService.getCachedUsdToEurMiddleRate().isEmpty());
+    when(hnbClient.getExchangeRateForCurrency("USD")).thenReturn(currentRate);
+    exchangeRateService.getUsdToEurMiddleRate();
+
+    assertEquals(Optional.of(new BigDecimal("7.5")), exchangeRateService.getCachedUsdToEurMiddleRate());
+    verify(hnbClient, times(1)).getExchangeRateForCurrency(anyString());
+    verifyNoMoreInteractions(hnbClient);
+  }
+
   private HnbRateDto createTestCurrentRate() {
     HnbRateDto cachedRate = new HnbRateDto();
     cachedRate.setMiddleRate("7,5");
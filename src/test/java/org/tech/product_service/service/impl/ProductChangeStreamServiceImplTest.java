@@ -0,0 +1,177 @@
+package org.tech.product_service.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.tech.product_service.config.ProductStreamProperties;
+import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.event.ProductChangedEvent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductChangeStreamServiceImplTest {
+
+  private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+  private ProductStreamProperties properties;
+  private ProductChangeStreamServiceImpl streamService;
+
+  @BeforeEach
+  void setUp() {
+    properties = new ProductStreamProperties();
+    properties.setReplaySize(3);
+    properties.setSubscriberBuffer(2);
+    streamService = newService(false);
+  }
+
+  @AfterEach
+  void tearDown() {
+    streamService.shutdown();
+  }
+
+  @Test
+  @DisplayName("committed changes are pushed to subscribers with increasing IDs")
+  void testLiveEvents() throws Exception {
+    streamService.subscribe(null);
+
+    streamService.onProductChanged(ProductChangedEvent.created(product(1L)));
+    streamService.onProductChanged(ProductChangedEvent.imported());
+
+    String first = next();
+    assertTrue(first.startsWith("id:" + streamService.eventId(1) + "\nevent:created\ndata:{\"type\":\"CREATED\""),
+        first);
+    assertTrue(next().startsWith("id:" + streamService.eventId(2) + "\nevent:imported\n"));
+  }
+
+  @Test
+  @DisplayName("reconnect with Last-Event-ID replays missed events, or resets when they left the ring")
+  void testReplay() throws Exception {
+    for (long id = 1; id <= 5; id++) {
+      streamService.onProductChanged(ProductChangedEvent.updated(product(id)));
+    }
+
+    streamService.subscribe(streamService.eventId(3));
+    assertTrue(next().startsWith("id:" + streamService.eventId(4) + "\n"));
+    assertTrue(next().startsWith("id:" + streamService.eventId(5) + "\n"));
+
+    streamService.subscribe(streamService.eventId(1));
+    assertTrue(next().startsWith("event:reset\n"));
+    assertTrue(next().startsWith("id:" + streamService.eventId(3) + "\n"));
+  }
+
+  @Test
+  @DisplayName("IDs issued by another instance or an earlier run are answered with reset")
+  void testForeignEventId() throws Exception {
+    streamService.onProductChanged(ProductChangedEvent.updated(product(1L)));
+    ProductChangeStreamServiceImpl otherInstance = newService(false);
+    String foreignId = otherInstance.eventId(0);
+    otherInstance.shutdown();
+
+    streamService.subscribe(foreignId);
+    assertTrue(next().startsWith("event:reset\n"));
+    assertTrue(next().startsWith("id:" + streamService.eventId(1) + "\n"));
+
+    assertEquals(-1, streamService.sequenceOf("42"));
+    assertEquals(-1, streamService.sequenceOf(streamService.eventId(1) + "x"));
+  }
+
+  @Test
+  @DisplayName("slow subscriber is dropped with a resume token")
+  void testSlowSubscriberDropped() throws Exception {
+    properties.setHeartbeat(Duration.ofMinutes(1));
+    streamService = newService(true);
+    streamService.subscribe(streamService.eventId(0));
+    for (long id = 1; id <= 4; id++) {
+      streamService.onProductChanged(ProductChangedEvent.updated(product(id)));
+    }
+    RecordingEmitter.release();
+
+    String event;
+    do {
+      event = next();
+    } while (!event.startsWith("event:dropped"));
+    assertTrue(event.contains("\"resumeFrom\":\"" + streamService.eventId(0).split("-")[0]));
+    assertEquals(0, awaitSubscribers(0));
+  }
+
+  private ProductChangeStreamServiceImpl newService(boolean slow) {
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    return new ProductChangeStreamServiceImpl(objectMapper, properties, new SimpleMeterRegistry()) {
+      @Override
+      SseEmitter createEmitter(long timeoutMillis) {
+        return new RecordingEmitter(sent, slow);
+      }
+    };
+  }
+
+  private String next() throws InterruptedException {
+    String event = sent.poll(5, TimeUnit.SECONDS);
+    assertNotNull(event, "no event received");
+    return event;
+  }
+
+  private int awaitSubscribers(int expected) throws InterruptedException {
+    for (int i = 0; i < 100 && streamService.getSubscriberCount() != expected; i++) {
+      Thread.sleep(20);
+    }
+    return streamService.getSubscriberCount();
+  }
+
+  private static ProductResponse product(long id) {
+    return ProductResponse.builder().id(id).code("CODE00000" + id).build();
+  }
+
+  /**
+   * Records sent events as SSE text; optionally blocks the first send until released to simulate a slow client.
+   */
+  private static final class RecordingEmitter extends SseEmitter {
+
+    private static volatile CountDownLatch gate = new CountDownLatch(1);
+
+    private final BlockingQueue<String> sent;
+    private final boolean slow;
+
+    private RecordingEmitter(BlockingQueue<String> sent, boolean slow) {
+      this.sent = sent;
+      this.slow = slow;
+      if (slow) {
+        gate = new CountDownLatch(1);
+      }
+    }
+
+    private static void release() {
+      gate.countDown();
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) {
+      if (slow) {
+        try {
+          gate.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      String text = builder.build().stream()
+          .map(data -> String.valueOf(data.getData()))
+          .collect(Collectors.joining());
+      if (!text.startsWith(":")) {
+        sent.add(text);
+      }
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package org.tech.product_service.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.tech.product_service.dto.response.ProductImportResponse;
+import org.tech.product_service.event.ProductChangedEvent;
+import org.tech.product_service.exception.ProductServiceException;
+import org.tech.product_service.outbox.OutboxWriter;
+import org.tech.product_service.repository.bulk.ProductBulkWriter;
+import org.tech.product_service.repository.bulk.ProductImportRow;
+import org.tech.product_service.service.ExchangeRateService;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportServiceImplTest {
+
+  @Mock
+  private ProductBulkWriter productBulkWriter;
+  @Mock
+  private ExchangeRateService exchangeRateService;
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+  @Mock
+  private TransactionTemplate transactionTemplate;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+  @Mock
+  private OutboxWriter outboxWriter;
+  @Mock
+  private EntityManagerFactory entityManagerFactory;
+  @Mock
+  private jakarta.persistence.Cache jpaCache;
+  @Mock
+  private Cache hibernateCache;
+
+  private ProductImportServiceImpl importService;
+  private final List<ProductImportRow> written = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    importService = new ProductImportServiceImpl(productBulkWriter, exchangeRateService,
+        Validation.buildDefaultValidatorFactory().getValidator(), jdbcTemplate, transactionTemplate,
+        eventPublisher, outboxWriter, entityManagerFactory);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void stubBulkLoad() throws Exception {
+    when(exchangeRateService.getUsdToEurMiddleRate()).thenReturn(new BigDecimal("1.5"));
+    when(transactionTemplate.execute(any())).thenAnswer(
+        inv -> inv.<TransactionCallback<Long>>getArgument(0).doInTransaction(null));
+    when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenAnswer(
+        inv -> inv.<ConnectionCallback<Long>>getArgument(0).doInConnection(null));
+    when(entityManagerFactory.getCache()).thenReturn(jpaCache);
+    when(jpaCache.unwrap(Cache.class)).thenReturn(hibernateCache);
+    when(productBulkWriter.write(any(), any())).thenAnswer(inv -> {
+      Iterator<ProductImportRow> rows = inv.getArgument(1);
+      rows.forEachRemaining(written::add);
+      return (long) written.size();
+    });
+  }
+
+  private static ByteArrayInputStream csv(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("importProducts - valid rows are priced and written, invalid rows are reported")
+  void testImportProducts_MixedRows() throws Exception {
+    stubBulkLoad();
+    String content = """
+        code,name,priceEur,isAvailable
+        CODE000001,"Keyboard, mechanical",10.00,true
+        SHORT,Mouse,5.00,true
+        CODE000003,Monitor,abc,false
+
+        CODE000004,"Quoted ""name\""",2.50,FALSE
+        CODE000005,Cable,1.00,maybe
+        """;
+
+    ProductImportResponse response = importService.importProducts(csv(content));
+
+    assertEquals(5, response.getRowsRead());
+    assertEquals(2, response.getRowsImported());
+    assertEquals(3, response.getRowsRejected());
+    assertEquals(3, response.getRejects().size());
+    assertEquals(3, response.getRejects().get(0).getLine());
+    assertTrue(response.getRejects().get(0).getReason().startsWith("code:"));
+    assertEquals(4, response.getRejects().get(1).getLine());
+    assertEquals(7, response.getRejects().get(2).getLine());
+
+    ProductImportRow first = written.get(0);
+    assertEquals("CODE000001", first.code());
+    assertEquals("Keyboard, mechanical", first.name());
+    assertEquals(1500, first.priceUsdCents());
+    assertEquals(2, first.lineNumber());
+    ProductImportRow second = written.get(1);
+    assertEquals("Quoted \"name\"", second.name());
+    assertEquals(250, second.priceEurCents());
+    assertEquals(375, second.priceUsdCents());
+    assertFalse(second.isAvailable());
+    verify(eventPublisher).publishEvent(ProductChangedEvent.imported());
+    verify(outboxWriter).append(ProductChangedEvent.imported());
+    verify(hibernateCache).evictAllRegions();
+  }
+
+  @Test
+  @DisplayName("importProducts - missing header columns rejected with 400")
+  void testImportProducts_MissingColumns() throws Exception {
+    when(exchangeRateService.getUsdToEurMiddleRate()).thenReturn(new BigDecimal("1.5"));
+
+    ProductServiceException ex = assertThrows(ProductServiceException.class,
+        () -> importService.importProducts(csv("code,name\nCODE000001,Keyboard\n")));
+
+    assertEquals(HttpStatus.BAD_REQUEST, ex.getHttpStatus());
+    verify(productBulkWriter, never()).write(any(), any());
+  }
+
+  @Test
+  @DisplayName("parseCsvLine - unterminated quote returns null")
+  void testParseCsvLine_UnterminatedQuote() {
+    assertNull(ProductImportServiceImpl.parseCsvLine("CODE000001,\"Broken,1.00,true"));
+    assertEquals(List.of("a", "", "c"), ProductImportServiceImpl.parseCsvLine("a,,c"));
+  }
+}
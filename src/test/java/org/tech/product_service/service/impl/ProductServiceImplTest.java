@@ -1,37 +1,65 @@
 package org.tech.product_service.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionOperations;
+import org.tech.product_service.cache.MissingProductIds;
+import org.tech.product_service.config.PricingProperties;
+import org.tech.product_service.config.ProductCacheProperties;
+import org.tech.product_service.config.SpringCachingConfig;
+import org.tech.product_service.dto.request.ProductAvailabilityRequest;
+import org.tech.product_service.dto.request.ProductPatchRequest;
 import org.tech.product_service.dto.request.ProductRequest;
+import org.tech.product_service.dto.response.ProductAvailabilityResponse;
+import org.tech.product_service.dto.response.ProductLookupResponse;
 import org.tech.product_service.dto.response.ProductResponse;
+import org.tech.product_service.event.ProductChangedEvent;
 import org.tech.product_service.exception.ProductServiceException;
 import org.tech.product_service.mapper.ProductMapper;
+import org.tech.product_service.model.PriceStatus;
 import org.tech.product_service.model.Product;
+import org.tech.product_service.money.Cents;
+import org.tech.product_service.outbox.OutboxWriter;
 import org.tech.product_service.repository.ProductRepository;
 import org.tech.product_service.service.ExchangeRateService;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class ProductServiceImplTest {
 
@@ -41,6 +69,21 @@ class ProductServiceImplTest {
   private ProductMapper productMapper;
   @Mock
   private ExchangeRateService exchangeRateService;
+  @Spy
+  private PricingProperties pricingProperties = new PricingProperties();
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+  @Mock
+  private OutboxWriter outboxWriter;
+  @Spy
+  private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+  @Spy
+  private ProductCacheProperties productCacheProperties = new ProductCacheProperties();
+  @Mock
+  private CacheManager cacheManager;
+  @Spy
+  private MissingProductIds missingProductIds =
+      new MissingProductIds(new ProductCacheProperties(), new SimpleMeterRegistry());
   @InjectMocks
   private ProductServiceImpl productService;
 
@@ -52,60 +95,120 @@ class ProductServiceImplTest {
     Product saved = buildEntity(1L, "CODE123456", new BigDecimal("10.00"), new BigDecimal("75.00"));
     ProductResponse response = buildResponse(1L, "CODE123456", new BigDecimal("10.00"), new BigDecimal("75.00"));
 
-    when(productRepository.existsByCode("CODE123456")).thenReturn(false);
     when(productMapper.toEntity(request)).thenReturn(entity);
     when(exchangeRateService.getUsdToEurMiddleRate()).thenReturn(new BigDecimal("7.5"));
-    when(productRepository.save(any(Product.class))).thenReturn(saved);
+    when(productRepository.saveAndFlush(any(Product.class))).thenReturn(saved);
     when(productMapper.toDto(saved)).thenReturn(response);
 
     ProductResponse result = productService.createProduct(request);
 
     assertEquals(response, result);
     ArgumentCaptor<Product> captor = ArgumentCaptor.forClass(Product.class);
-    verify(productRepository).save(captor.capture());
+    verify(productRepository).saveAndFlush(captor.capture());
     Product toSave = captor.getValue();
-    assertEquals(new BigDecimal("75.00"), toSave.getPriceUsd());
+    assertEquals(7500L, toSave.getPriceUsd());
 
-    verify(productRepository, times(1)).existsByCode("CODE123456");
     verify(exchangeRateService, times(1)).getUsdToEurMiddleRate();
+    verify(eventPublisher).publishEvent(ProductChangedEvent.created(response));
+    verify(outboxWriter).append(ProductChangedEvent.created(response));
   }
 
   @Test
-  @DisplayName("createProduct - conflict when code exists")
+  @DisplayName("createProduct - conflict when unique constraint on code is violated")
   void testCreateProduct_CodeExists() {
     ProductRequest request = buildRequest("CODE123456", new BigDecimal("5.00"));
-    when(productRepository.existsByCode("CODE123456")).thenReturn(true);
+    Product entity = buildEntity(null, "CODE123456", new BigDecimal("5.00"), null);
+    when(productMapper.toEntity(request)).thenReturn(entity);
+    when(exchangeRateService.getUsdToEurMiddleRate()).thenReturn(new BigDecimal("7.5"));
+    when(productRepository.saveAndFlush(any(Product.class)))
+        .thenThrow(constraintViolation("23505", "product_code_key"));
 
     ProductServiceException ex = assertThrows(ProductServiceException.class, () -> productService.createProduct(request));
     assertEquals(HttpStatus.CONFLICT, ex.getHttpStatus());
-    verify(productRepository, times(1)).existsByCode("CODE123456");
-    verify(productMapper, never()).toEntity(any());
-    verify(exchangeRateService, never()).getUsdToEurMiddleRate();
+    verify(productRepository, times(1)).saveAndFlush(entity);
+    verify(productMapper, never()).toDto(any());
+  }
+
+  @Test
+  @DisplayName("createProduct - other constraint violations are not reported as a duplicate code")
+  void testCreateProduct_OtherConstraintViolation() {
+    ProductRequest request = buildRequest("CODE123456", new BigDecimal("5.00"));
+    Product entity = buildEntity(null, "CODE123456", new BigDecimal("5.00"), null);
+    when(productMapper.toEntity(request)).thenReturn(entity);
+    when(exchangeRateService.getUsdToEurMiddleRate()).thenReturn(new BigDecimal("7.5"));
+    DataIntegrityViolationException notNull = constraintViolation("23502", null);
+    when(productRepository.saveAndFlush(any(Product.class))).thenThrow(notNull);
+
+    assertSame(notNull, assertThrows(DataIntegrityViolationException.class,
+        () -> productService.createProduct(request)));
+    assertFalse(ProductServiceImpl.isDuplicateCode(constraintViolation("23505", "outbox_event_pkey")));
+    assertFalse(ProductServiceImpl.isDuplicateCode(new DataIntegrityViolationException("no cause")));
+  }
+
+  private static DataIntegrityViolationException constraintViolation(String sqlState, String constraint) {
+    return new DataIntegrityViolationException("constraint violated", new ConstraintViolationException(
+        "constraint violated", new SQLException("constraint violated", sqlState), constraint));
   }
 
   @Test
   @DisplayName("createProduct - rounding half up applied to USD price")
   void testCreateProduct_Rounding() {
-    ProductRequest request = buildRequest("ROUND12345", new BigDecimal("10.005"));
-    Product entity = buildEntity(null, "ROUND12345", new BigDecimal("10.005"), null);
-    // Expected: 10.005 * 1.2345 = 12.3511725 -> 12.35 (HALF_UP)
-    Product saved = buildEntity(2L, "ROUND12345", new BigDecimal("10.01"), new BigDecimal("12.35"));
-    ProductResponse response = buildResponse(2L, "ROUND12345", new BigDecimal("10.01"), new BigDecimal("12.35"));
+    ProductRequest request = buildRequest("ROUND12345", new BigDecimal("10.00"));
+    Product entity = buildEntity(null, "ROUND12345", new BigDecimal("10.00"), null);
+    // Expected: 10.00 * 1.2345 = 12.345 -> 12.35 (HALF_UP)
+    Product saved = buildEntity(2L, "ROUND12345", new BigDecimal("10.00"), new BigDecimal("12.35"));
+    ProductResponse response = buildResponse(2L, "ROUND12345", new BigDecimal("10.00"), new BigDecimal("12.35"));
 
-    when(productRepository.existsByCode("ROUND12345")).thenReturn(false);
     when(productMapper.toEntity(request)).thenReturn(entity);
     when(exchangeRateService.getUsdToEurMiddleRate()).thenReturn(new BigDecimal("1.2345"));
-    when(productRepository.save(any(Product.class))).thenReturn(saved);
+    when(productRepository.saveAndFlush(any(Product.class))).thenReturn(saved);
     when(productMapper.toDto(saved)).thenReturn(response);
 
     ProductResponse result = productService.createProduct(request);
 
     ArgumentCaptor<Product> captor = ArgumentCaptor.forClass(Product.class);
-    verify(productRepository).save(captor.capture());
-    assertEquals(new BigDecimal("12.35"), captor.getValue().getPriceUsd());
+    verify(productRepository).saveAndFlush(captor.capture());
+    assertEquals(1235L, captor.getValue().getPriceUsd());
     assertEquals(response, result);
   }
 
+  @Test
+  @DisplayName("createProduct - async mode prices with the cached rate without calling HNB")
+  void testCreateProduct_AsyncCachedRate() {
+    pricingProperties.setMode(PricingProperties.Mode.ASYNC);
+    ProductRequest request = buildRequest("ASYNC12345", new BigDecimal("10.00"));
+    Product entity = buildEntity(null, "ASYNC12345", new BigDecimal("10.00"), null);
+    when(productMapper.toEntity(request)).thenReturn(entity);
+    when(exchangeRateService.getCachedUsdToEurMiddleRate()).thenReturn(Optional.of(new BigDecimal("7.5")));
+    when(productRepository.saveAndFlush(entity)).thenReturn(entity);
+    when(productMapper.toDto(entity))
+        .thenReturn(buildResponse(1L, "ASYNC12345", new BigDecimal("10.00"), new BigDecimal("75.00")));
+
+    productService.createProduct(request);
+
+    assertEquals(7500L, entity.getPriceUsd());
+    assertEquals(PriceStatus.PRICED, entity.getPriceStatus());
+    verify(exchangeRateService, never()).getUsdToEurMiddleRate();
+  }
+
+  @Test
+  @DisplayName("createProduct - async mode stores product as pending when no rate is cached")
+  void testCreateProduct_AsyncPending() {
+    pricingProperties.setMode(PricingProperties.Mode.ASYNC);
+    ProductRequest request = buildRequest("ASYNC67890", new BigDecimal("10.00"));
+    Product entity = buildEntity(null, "ASYNC67890", new BigDecimal("10.00"), null);
+    when(productMapper.toEntity(request)).thenReturn(entity);
+    when(exchangeRateService.getCachedUsdToEurMiddleRate()).thenReturn(Optional.empty());
+    when(productRepository.saveAndFlush(entity)).thenReturn(entity);
+    when(productMapper.toDto(entity)).thenReturn(buildResponse(1L, "ASYNC67890", new BigDecimal("10.00"), null));
+
+    productService.createProduct(request);
+
+    assertNull(entity.getPriceUsd());
+    assertEquals(PriceStatus.PENDING, entity.getPriceStatus());
+    verify(exchangeRateService, never()).getUsdToEurMiddleRate();
+  }
+
   @Test
   @DisplayName("getProductById - success returns DTO")
   void testGetProductById_Success() {
@@ -133,7 +236,80 @@ class ProductServiceImplTest {
   }
 
   @Test
-  @DisplayName("getAllProducts - returns mapped page")
+  @DisplayName("getProductById - recently missing ID is answered without a lookup and without a stack trace")
+  void testGetProductById_NotFoundRemembered() {
+    missingProductIds.markExisting(12L);
+    when(productRepository.findById(11L)).thenReturn(Optional.empty());
+    assertThrows(ProductServiceException.class, () -> productService.getProductById(11L));
+
+    ProductServiceException ex = assertThrows(ProductServiceException.class, () -> productService.getProductById(11L));
+
+    assertEquals(HttpStatus.NOT_FOUND, ex.getHttpStatus());
+    assertEquals(0, ex.getStackTrace().length);
+    verify(productRepository, times(1)).findById(11L);
+  }
+
+  @Test
+  @DisplayName("getProductById - misses above the highest known ID are not remembered")
+  void testGetProductById_NotFoundAboveHighestId() {
+    missingProductIds.markExisting(12L);
+    when(productRepository.findById(13L)).thenReturn(Optional.empty());
+
+    assertThrows(ProductServiceException.class, () -> productService.getProductById(13L));
+    assertThrows(ProductServiceException.class, () -> productService.getProductById(13L));
+
+    verify(productRepository, times(2)).findById(13L);
+    assertFalse(missingProductIds.isMissing(13L));
+  }
+
+  @Test
+  @DisplayName("lookupProducts - loads distinct IDs once, returns request order and reports missing IDs")
+  void testLookupProducts() {
+    missingProductIds.markExisting(6L);
+    missingProductIds.markMissing(5L, missingProductIds.stamp());
+    Product product3 = buildEntity(3L, "CODE333333", new BigDecimal("3.00"), new BigDecimal("22.50"));
+    Product product2 = buildEntity(2L, "CODE222222", new BigDecimal("2.00"), new BigDecimal("15.00"));
+    ProductResponse response3 = buildResponse(3L, "CODE333333", new BigDecimal("3.00"), new BigDecimal("22.50"));
+    ProductResponse response2 = buildResponse(2L, "CODE222222", new BigDecimal("2.00"), new BigDecimal("15.00"));
+    when(productRepository.findAllByIdInOrder(List.of(3L, 1L, 2L))).thenReturn(Arrays.asList(product3, null, product2));
+    when(productMapper.toDto(product3)).thenReturn(response3);
+    when(productMapper.toDto(product2)).thenReturn(response2);
+
+    ProductLookupResponse result = productService.lookupProducts(List.of(3L, 1L, 3L, 5L, 2L));
+
+    assertEquals(List.of(response3, response2), result.getProducts());
+    assertEquals(List.of(1L, 5L), result.getMissingIds());
+    assertTrue(missingProductIds.isMissing(1L));
+  }
+
+  @Test
+  @DisplayName("getProductByCode - success returns DTO")
+  void testGetProductByCode_Success() {
+    Product product = buildEntity(4L, "CODE888888", new BigDecimal("20.00"), new BigDecimal("150.00"));
+    ProductResponse response = buildResponse(4L, "CODE888888", new BigDecimal("20.00"), new BigDecimal("150.00"));
+
+    when(productRepository.findByCode("CODE888888")).thenReturn(Optional.of(product));
+    when(productMapper.toDto(product)).thenReturn(response);
+
+    ProductResponse result = productService.getProductByCode("CODE888888");
+
+    assertEquals(response, result);
+    verify(productRepository, times(1)).findByCode("CODE888888");
+  }
+
+  @Test
+  @DisplayName("getProductByCode - not found throws exception")
+  void testGetProductByCode_NotFound() {
+    when(productRepository.findByCode("MISSING000")).thenReturn(Optional.empty());
+
+    ProductServiceException ex = assertThrows(ProductServiceException.class,
+        () -> productService.getProductByCode("MISSING000"));
+    assertEquals(HttpStatus.NOT_FOUND, ex.getHttpStatus());
+    verify(productMapper, never()).toDto(any());
+  }
+
+  @Test
+  @DisplayName("getAllProducts - returns mapped page, first pages through the query cache")
   void testGetAllProducts_PageWithElements() {
     Product p1 = buildEntity(5L, "CODEAAAAAA", new BigDecimal("5.00"), new BigDecimal("37.50"));
     Product p2 = buildEntity(6L, "CODEBBBBBB", new BigDecimal("6.00"), new BigDecimal("45.00"));
@@ -142,7 +318,7 @@ class ProductServiceImplTest {
     ProductResponse r1 = buildResponse(5L, "CODEAAAAAA", new BigDecimal("5.00"), new BigDecimal("37.50"));
     ProductResponse r2 = buildResponse(6L, "CODEBBBBBB", new BigDecimal("6.00"), new BigDecimal("45.00"));
 
-    when(productRepository.findAll(PageRequest.of(0, 2))).thenReturn(page);
+    when(productRepository.findAllCached(PageRequest.of(0, 2))).thenReturn(page);
     when(productMapper.toDto(p1)).thenReturn(r1);
     when(productMapper.toDto(p2)).thenReturn(r2);
 
@@ -151,7 +327,7 @@ class ProductServiceImplTest {
     assertEquals(2, result.getTotalElements());
     assertEquals(r1, result.getContent().get(0));
     assertEquals(r2, result.getContent().get(1));
-    verify(productRepository, times(1)).findAll(PageRequest.of(0, 2));
+    verify(productRepository, times(1)).findAllCached(PageRequest.of(0, 2));
     verify(productMapper, times(1)).toDto(p1);
     verify(productMapper, times(1)).toDto(p2);
   }
@@ -160,15 +336,115 @@ class ProductServiceImplTest {
   @DisplayName("getAllProducts - empty page")
   void testGetAllProducts_EmptyPage() {
     Page<Product> page = new PageImpl<>(List.of(), PageRequest.of(1, 5), 0);
-    when(productRepository.findAll(PageRequest.of(1, 5))).thenReturn(page);
+    when(productRepository.findAllCached(PageRequest.of(1, 5))).thenReturn(page);
 
     Page<ProductResponse> result = productService.getAllProducts(PageRequest.of(1, 5));
 
     assertEquals(0, result.getTotalElements());
-    verify(productRepository, times(1)).findAll(PageRequest.of(1, 5));
+    verify(productRepository, times(1)).findAllCached(PageRequest.of(1, 5));
     verify(productMapper, never()).toDto(any());
   }
 
+  @Test
+  @DisplayName("getAllProducts - pages beyond the query cached ones bypass the query cache")
+  void testGetAllProducts_DeepPageNotCached() {
+    PageRequest pageRequest = PageRequest.of(3, 5);
+    when(productRepository.findAll(pageRequest)).thenReturn(new PageImpl<>(List.of(), pageRequest, 0));
+
+    productService.getAllProducts(pageRequest);
+
+    verify(productRepository, never()).findAllCached(any());
+  }
+
+  @Test
+  @DisplayName("patchProduct - changes only given fields and reprices on new EUR price")
+  void testPatchProduct_Success() {
+    Product product = buildEntity(1L, "CODE123456", new BigDecimal("10.00"), new BigDecimal("75.00"));
+    product.setVersion(2L);
+    ProductPatchRequest request = new ProductPatchRequest();
+    request.setPriceEur(new BigDecimal("20.00"));
+    request.setVersion(2L);
+    ProductResponse response = buildResponse(1L, "CODE123456", new BigDecimal("20.00"), new BigDecimal("150.00"));
+
+    when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+    when(exchangeRateService.getUsdToEurMiddleRate()).thenReturn(new BigDecimal("7.5"));
+    when(productRepository.saveAndFlush(product)).thenReturn(product);
+    when(productMapper.toDto(product)).thenReturn(response);
+
+    ProductResponse result = productService.patchProduct(1L, request);
+
+    assertEquals(response, result);
+    assertEquals("Test Product", product.getName());
+    assertEquals(true, product.getIsAvailable());
+    assertEquals(15000L, product.getPriceUsd());
+    verify(outboxWriter).append(ProductChangedEvent.updated(response));
+    verify(eventPublisher).publishEvent(ProductChangedEvent.updated(response));
+  }
+
+  @Test
+  @DisplayName("patchProduct - no write and no event when nothing changes")
+  void testPatchProduct_NoChange() {
+    Product product = buildEntity(1L, "CODE123456", new BigDecimal("10.00"), new BigDecimal("75.00"));
+    ProductPatchRequest request = new ProductPatchRequest();
+    request.setIsAvailable(true);
+    when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+    productService.patchProduct(1L, request);
+
+    verify(productRepository, never()).saveAndFlush(any());
+    verify(outboxWriter, never()).append(any());
+    verify(exchangeRateService, never()).getUsdToEurMiddleRate();
+  }
+
+  @Test
+  @DisplayName("patchProduct - conflict when the given version is stale")
+  void testPatchProduct_StaleVersion() {
+    Product product = buildEntity(1L, "CODE123456", new BigDecimal("10.00"), new BigDecimal("75.00"));
+    product.setVersion(3L);
+    ProductPatchRequest request = new ProductPatchRequest();
+    request.setName("Renamed");
+    request.setVersion(2L);
+    when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+    ProductServiceException ex = assertThrows(ProductServiceException.class,
+        () -> productService.patchProduct(1L, request));
+    assertEquals(HttpStatus.CONFLICT, ex.getHttpStatus());
+    verify(productRepository, never()).saveAndFlush(any());
+  }
+
+  @Test
+  @DisplayName("patchProduct - not found")
+  void testPatchProduct_NotFound() {
+    ProductPatchRequest request = new ProductPatchRequest();
+    request.setName("Renamed");
+    when(productRepository.findById(99L)).thenReturn(Optional.empty());
+
+    ProductServiceException ex = assertThrows(ProductServiceException.class,
+        () -> productService.patchProduct(99L, request));
+    assertEquals(HttpStatus.NOT_FOUND, ex.getHttpStatus());
+  }
+
+  @Test
+  @DisplayName("updateAvailability - one update for distinct codes, event and cache eviction")
+  void testUpdateAvailability() {
+    ProductAvailabilityRequest request = new ProductAvailabilityRequest();
+    request.setCodes(List.of("CODE123456", "CODE654321", "CODE123456"));
+    request.setIsAvailable(false);
+    Cache cache = mock(Cache.class);
+    List<String> codes = List.of("CODE123456", "CODE654321");
+    when(productRepository.updateAvailability(codes, false)).thenReturn(2);
+    when(cacheManager.getCache(SpringCachingConfig.PRODUCTS_BY_CODE_CACHE)).thenReturn(cache);
+
+    ProductAvailabilityResponse result = productService.updateAvailability(request);
+
+    assertEquals(2, result.getRequested());
+    assertEquals(2, result.getUpdated());
+    verify(productRepository, times(1)).updateAvailability(codes, false);
+    verify(outboxWriter).append(ProductChangedEvent.availabilityChanged(codes, false));
+    verify(cache).evict("CODE123456");
+    verify(cache).evict("CODE654321");
+  }
+
   private ProductRequest buildRequest(String code, BigDecimal priceEur) {
     ProductRequest request = new ProductRequest();
     request.setCode(code);
@@ -183,8 +459,8 @@ class ProductServiceImplTest {
         .id(id)
         .code(code)
         .name("Test Product")
-        .priceEur(priceEur)
-        .priceUsd(priceUsd)
+        .priceEur(Cents.of(priceEur))
+        .priceUsd(priceUsd == null ? null : Cents.of(priceUsd))
         .isAvailable(true)
         .createdAt(LocalDateTime.now())
         .updatedAt(LocalDateTime.now())
@@ -0,0 +1,35 @@
+package org.tech.product_service.sql;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.tech.product_service.filter.SqlStatisticsFilter;
+
+/**
+ * MockMvc matchers for the number of SQL statements a request may execute.
+ * <p>
+ *   {@code mockMvc.perform(get("/product/{id}", id)).andExpect(SqlStatementBudget.atMost(1))} fails with the
+ *   executed statements when an endpoint starts issuing more queries, e.g. after an N+1 regression.
+ * </p>
+ * @author Josip Begic
+ */
+public final class SqlStatementBudget {
+
+  private SqlStatementBudget() {
+  }
+
+  /**
+   * @param statements the maximum number of statements the request may execute
+   * @return a matcher failing when the request executed more statements
+   */
+  public static ResultMatcher atMost(int statements) {
+    return result -> {
+      SqlStatistics statistics =
+          (SqlStatistics) result.getRequest().getAttribute(SqlStatisticsFilter.STATISTICS_ATTRIBUTE);
+      assertNotNull(statistics, "SqlStatisticsFilter did not run for this request");
+      assertTrue(statistics.statements() <= statements, () -> "Expected at most " + statements
+          + " SQL statements but " + statistics.statements() + " were executed: "
+          + String.join(System.lineSeparator(), statistics.queries()));
+    };
+  }
+}
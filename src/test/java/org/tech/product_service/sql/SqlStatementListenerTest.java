@@ -0,0 +1,79 @@
+package org.tech.product_service.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+class SqlStatementListenerTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @AfterEach
+  void tearDown() {
+    SqlStatistics.end();
+  }
+
+  @Test
+  @DisplayName("statements are counted only while a request is in scope")
+  void testCountsWithinScope() {
+    SqlStatementListener listener = new SqlStatementListener(Duration.ofSeconds(10), meterRegistry);
+
+    execute(listener, "select 1");
+    SqlStatistics statistics = SqlStatistics.begin();
+    execute(listener, "select p from product p where p.id = ?");
+    execute(listener, "insert into outbox_event values (?)");
+    SqlStatistics.end();
+    execute(listener, "select 2");
+
+    assertEquals(2, statistics.statements());
+    assertEquals(List.of("select p from product p where p.id = ?", "insert into outbox_event values (?)"),
+        statistics.queries());
+    assertNull(SqlStatistics.current());
+    assertEquals(0, meterRegistry.counter("product.sql.slow").count());
+  }
+
+  @Test
+  @DisplayName("statements at or above the threshold are counted as slow")
+  void testSlowQuery() {
+    SqlStatementListener listener = new SqlStatementListener(Duration.ZERO, meterRegistry);
+
+    execute(listener, "select 1");
+
+    assertEquals(1, meterRegistry.counter("product.sql.slow").count());
+  }
+
+  @Test
+  @DisplayName("parameter shape lists bind parameter types without values")
+  void testParameterShape() throws NoSuchMethodException {
+    QueryInfo queryInfo = new QueryInfo("update product set name = ?, price_eur = ? where id = ?");
+    queryInfo.getParametersList().add(List.of(
+        new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class),
+            new Object[] {1, "secret"}),
+        new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class),
+            new Object[] {2, java.sql.Types.BIGINT}),
+        new ParameterSetOperation(PreparedStatement.class.getMethod("setLong", int.class, long.class),
+            new Object[] {3, 42L})));
+
+    assertEquals("[String, null, Long]", SqlStatementListener.parameterShape(queryInfo));
+    assertEquals("[]", SqlStatementListener.parameterShape(new QueryInfo("select 1")));
+  }
+
+  private void execute(SqlStatementListener listener, String query) {
+    ExecutionInfo execInfo = new ExecutionInfo();
+    List<QueryInfo> queries = List.of(new QueryInfo(query));
+    listener.beforeQuery(execInfo, queries);
+    listener.afterQuery(execInfo, queries);
+  }
+}
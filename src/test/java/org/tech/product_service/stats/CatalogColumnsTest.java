@@ -0,0 +1,74 @@
+package org.tech.product_service.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CatalogColumnsTest {
+
+  @Test
+  @DisplayName("aggregate - counts, price distribution and latest update")
+  void testAggregate() {
+    CatalogColumns columns = new CatalogColumns(0);
+    for (int i = 1; i <= 100; i++) {
+      columns.upsert(i, 0, i * 100L, i % 10 == 0 ? CatalogColumns.NO_PRICE : i * 117L, i % 4 != 0, 1000 + i);
+    }
+
+    CatalogAggregates aggregates = columns.aggregate();
+
+    assertEquals(100, aggregates.productCount());
+    assertEquals(75, aggregates.availableCount());
+    assertEquals(10, aggregates.pendingPriceCount());
+    assertEquals(new PriceAggregates(100, 10_000, 5050, 5000, 9000, 9900), aggregates.priceEur());
+    assertEquals(117, aggregates.priceUsd().min());
+    assertEquals(99 * 117, aggregates.priceUsd().max());
+    assertEquals(1100, aggregates.lastUpdatedAt());
+  }
+
+  @Test
+  @DisplayName("aggregate - no price statistics without products")
+  void testAggregateEmpty() {
+    CatalogAggregates aggregates = new CatalogColumns(0).aggregate();
+
+    assertEquals(0, aggregates.productCount());
+    assertNull(aggregates.priceEur());
+    assertNull(aggregates.priceUsd());
+    assertNull(aggregates.lastUpdatedAt());
+  }
+
+  @Test
+  @DisplayName("upsert - an older version does not overwrite a newer one")
+  void testUpsertKeepsNewerVersion() {
+    CatalogColumns columns = new CatalogColumns(0);
+    assertTrue(columns.upsert(1, 3, 500, 600, true, 10));
+
+    assertFalse(columns.upsert(1, 2, 100, 200, false, 5));
+    assertTrue(columns.upsert(1, 4, 700, 800, false, 20));
+
+    CatalogAggregates aggregates = columns.aggregate();
+    assertEquals(1, aggregates.productCount());
+    assertEquals(0, aggregates.availableCount());
+    assertEquals(700, aggregates.priceEur().min());
+  }
+
+  @Test
+  @DisplayName("upsert - rows inserted out of ID order keep their availability across growth")
+  void testUpsertOutOfOrder() {
+    CatalogColumns columns = new CatalogColumns(0);
+    for (int i = 2; i <= 4000; i += 2) {
+      columns.upsert(i, 0, 100, 100, true, 0);
+    }
+    for (int i = 1; i < 4000; i += 2) {
+      columns.upsert(i, 0, 100, 100, false, 0);
+    }
+
+    CatalogAggregates aggregates = columns.aggregate();
+    assertEquals(4000, aggregates.productCount());
+    assertEquals(2000, aggregates.availableCount());
+    assertEquals(4000, columns.modifications());
+  }
+}
@@ -0,0 +1,93 @@
+package org.tech.product_service.warmup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WarmupRunnerTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+  private final List<String> executed = new ArrayList<>();
+
+  @Test
+  @DisplayName("tasks run in order while readiness refuses traffic, a failing task does not stop the others")
+  void testRunsTasks() {
+    WarmupRunner runner = new WarmupRunner(List.of(
+        task("exchangeRates", () -> executed.add("exchangeRates")),
+        task("connectionPool", () -> {
+          throw new IllegalStateException("database down");
+        }),
+        task("endpoints", () -> executed.add("endpoints"))), Duration.ofSeconds(5), eventPublisher, meterRegistry);
+
+    runner.run(new DefaultApplicationArguments());
+
+    ArgumentCaptor<AvailabilityChangeEvent<?>> event = ArgumentCaptor.forClass(AvailabilityChangeEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertEquals(ReadinessState.REFUSING_TRAFFIC, event.getValue().getState());
+    assertEquals(List.of("exchangeRates", "endpoints"), executed);
+    assertEquals(1, meterRegistry.get("product.warmup").tag("outcome", WarmupRunner.COMPLETED).timer().count());
+    assertEquals(1, meterRegistry.get("product.warmup.task")
+        .tags("task", "connectionPool", "outcome", WarmupRunner.FAILED).timer().count());
+  }
+
+  @Test
+  @DisplayName("warm-up that exceeds the timeout is interrupted and startup continues")
+  void testTimeout() throws InterruptedException {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    WarmupRunner runner = new WarmupRunner(List.of(
+        task("endpoints", () -> {
+          try {
+            Thread.sleep(Duration.ofMinutes(1));
+          } catch (InterruptedException ex) {
+            interrupted.countDown();
+            throw ex;
+          }
+        }),
+        task("never", () -> executed.add("never"))), Duration.ofMillis(100), eventPublisher, meterRegistry);
+
+    runner.run(new DefaultApplicationArguments());
+
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    assertEquals(1, meterRegistry.get("product.warmup").tag("outcome", WarmupRunner.TIMEOUT).timer().count());
+    assertTrue(executed.isEmpty());
+    verify(eventPublisher).publishEvent(any(AvailabilityChangeEvent.class));
+  }
+
+  private static WarmupTask task(String name, Step step) {
+    return new WarmupTask() {
+      @Override
+      public String name() {
+        return name;
+      }
+
+      @Override
+      public void run() throws Exception {
+        step.run();
+      }
+    };
+  }
+
+  @FunctionalInterface
+  private interface Step {
+    void run() throws Exception;
+  }
+}